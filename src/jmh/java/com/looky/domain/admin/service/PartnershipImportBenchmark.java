@@ -0,0 +1,213 @@
+package com.looky.domain.admin.service;
+
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
+import com.looky.domain.organization.entity.Organization;
+import com.looky.domain.organization.entity.OrganizationCategory;
+import com.looky.domain.organization.entity.University;
+import com.looky.domain.organization.repository.OrganizationRepository;
+import com.looky.domain.organization.repository.UniversityRepository;
+import com.looky.domain.partnership.repository.PartnershipJdbcRepository;
+import com.looky.domain.store.dto.StoreUniversityLink;
+import com.looky.domain.store.repository.StoreJdbcRepository;
+import com.looky.domain.store.repository.StoreJdbcRepository.NewStore;
+import com.looky.domain.store.service.StoreBenefitIndex;
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import com.looky.support.BenchmarkApplication;
+import com.looky.support.HeapPeak;
+import com.looky.support.PathMultipartFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 제휴 엑셀 일괄 등록: 5만 행 시트를 AdminPartnershipService.importPartnershipData 로 적재 (스트리밍 읽기 + IN 청크 검증 + JDBC 배치 저장)
+// 관리자가 조직을 지정해 업로드, 조직의 기존 제휴가 없을 때(전부 신규 생성)와 모두 있을 때(전부 혜택 수정)를 비교
+// 시간은 호출 1회, 메모리는 호출마다 힙 최대 사용량을 출력하고 할당량은 -prof gc 로 확인 (MySQL 필요, BenchmarkDatabase 참고)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class PartnershipImportBenchmark {
+
+    private static final int ROWS = 50_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final String STORE_PREFIX = "벤치 제휴 상점 ";
+    private static final String UNIVERSITY_NAME = "벤치 제휴 대학";
+    private static final String ORGANIZATION_NAME = "벤치 제휴 총학생회";
+    private static final String ADMIN_USERNAME = "jmh-partnership-admin";
+
+    @Param({"false", "true"})
+    private boolean existingPartnerships;
+
+    private ConfigurableApplicationContext context;
+    private AdminPartnershipService adminPartnershipService;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private User admin;
+    private Long organizationId;
+    private Path sheet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start(AdminPartnershipService.class, PartnershipJdbcRepository.class,
+                StoreJdbcRepository.class, StoreBenefitIndex.class);
+        adminPartnershipService = context.getBean(AdminPartnershipService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        admin = seedAdmin();
+        University university = seedUniversity();
+        organizationId = seedOrganization(university);
+        seedStores(university.getId());
+        sheet = writeSheet(university.getId());
+    }
+
+    // 신규 생성 측정은 조직의 제휴를 비우고, 수정 측정은 한 번 적재해 둔 뒤 시작
+    @Setup(Level.Invocation)
+    public void preparePartnerships() {
+        if (!existingPartnerships) {
+            deletePartnerships();
+        } else if (countPartnerships() != ROWS) {
+            deletePartnerships();
+            adminPartnershipService.importPartnershipData(new PathMultipartFile(sheet), admin, organizationId);
+        }
+        HeapPeak.reset();
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() {
+        System.out.printf("%n[PartnershipImport] rows=%d, partnerships=%d, peak heap <= %d MB%n",
+                ROWS, countPartnerships(), HeapPeak.peakMegabytes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deletePartnerships();
+        context.close();
+        Files.deleteIfExists(sheet);
+    }
+
+    @Benchmark
+    public void upload() {
+        adminPartnershipService.importPartnershipData(new PathMultipartFile(sheet), admin, organizationId);
+    }
+
+    private int countPartnerships() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM partnership WHERE organization_id = ?", Integer.class, organizationId);
+    }
+
+    private void deletePartnerships() {
+        jdbcTemplate.update("DELETE FROM partnership WHERE organization_id = ?", organizationId);
+    }
+
+    // 이전 실행에서 만든 관리자/대학/조직/상점은 재사용
+    private User seedAdmin() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        return userRepository.findByUsername(ADMIN_USERNAME)
+                .orElseGet(() -> userRepository.save(User.builder().username(ADMIN_USERNAME).role(Role.ROLE_ADMIN).build()));
+    }
+
+    private University seedUniversity() {
+        UniversityRepository universityRepository = context.getBean(UniversityRepository.class);
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT university_id FROM university WHERE name = ?", Long.class, UNIVERSITY_NAME);
+        return existing.isEmpty()
+                ? universityRepository.save(University.builder().name(UNIVERSITY_NAME).emailDomain("partnership-bench.ac.kr").build())
+                : universityRepository.findById(existing.get(0)).orElseThrow();
+    }
+
+    private Long seedOrganization(University university) {
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT organization_id FROM organization WHERE university_id = ? AND name = ?",
+                Long.class, university.getId(), ORGANIZATION_NAME);
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        return context.getBean(OrganizationRepository.class).save(Organization.builder()
+                .user(admin)
+                .university(university)
+                .category(OrganizationCategory.STUDENT_COUNCIL)
+                .name(ORGANIZATION_NAME)
+                .build()).getId();
+    }
+
+    // 대학 관할로 연결된 상점 ROWS 개 (관리자 일괄 등록과 같은 JDBC 배치 저장)
+    private void seedStores(Long universityId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM store WHERE name LIKE ?", Integer.class, STORE_PREFIX + "%");
+        if (count != null && count == ROWS) {
+            return;
+        }
+
+        deletePartnerships();
+        jdbcTemplate.update("DELETE su FROM store_university su JOIN store s ON s.store_id = su.store_id " +
+                "WHERE s.name LIKE ?", STORE_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM store WHERE name LIKE ?", STORE_PREFIX + "%");
+
+        StoreJdbcRepository storeJdbcRepository = context.getBean(StoreJdbcRepository.class);
+        for (int from = 0; from < ROWS; from += INSERT_BATCH_SIZE) {
+            List<NewStore> stores = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + INSERT_BATCH_SIZE, ROWS); i++) {
+                stores.add(new NewStore(STORE_PREFIX + i, null, "서울시 제휴로 " + i, null, 37.55, 127.0));
+            }
+            transactionTemplate.executeWithoutResult(status -> storeJdbcRepository.insertStoreUniversities(
+                    storeJdbcRepository.insertUnclaimedStores(stores).stream()
+                            .map(storeId -> new StoreUniversityLink(storeId, universityId))
+                            .toList()));
+        }
+    }
+
+    // 관리자 제휴 양식과 같은 헤더, 상점 ID/상호명은 DB 값 그대로 (기간은 오늘 기준 진행 중)
+    private Path writeSheet(Long universityId) throws IOException {
+        LocalDate today = LocalDate.now();
+        List<PartnershipSheetRow> rows = jdbcTemplate.query(
+                "SELECT store_id, name, branch, road_address FROM store WHERE name LIKE ? ORDER BY store_id",
+                (rs, rowNum) -> new PartnershipSheetRow(universityId, rs.getLong("store_id"), rs.getString("name"),
+                        rs.getString("branch"), rs.getString("road_address"), "전 메뉴 " + (5 + rowNum % 4 * 5) + "% 할인",
+                        today.minusMonths(1), today.plusMonths(11)),
+                STORE_PREFIX + "%");
+        List<Column<PartnershipSheetRow>> columns = List.of(
+                new Column<>("universityId", PartnershipSheetRow::universityId),
+                new Column<>("storeId", PartnershipSheetRow::storeId),
+                new Column<>("storeName", PartnershipSheetRow::storeName),
+                new Column<>("branch", PartnershipSheetRow::branch),
+                new Column<>("roadAddress", PartnershipSheetRow::roadAddress),
+                new Column<>("benefitDetail", PartnershipSheetRow::benefitDetail),
+                new Column<>("startDate", PartnershipSheetRow::startDate),
+                new Column<>("endDate", PartnershipSheetRow::endDate)
+        );
+
+        Path path = Files.createTempFile("jmh-partnership-import-", ".xlsx");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            ExcelStreamWriter.writeSheet(out, "partnerships", columns, rows.stream());
+        }
+        return path;
+    }
+
+    private record PartnershipSheetRow(Long universityId, Long storeId, String storeName, String branch,
+                                       String roadAddress, String benefitDetail, LocalDate startDate, LocalDate endDate) {
+    }
+}
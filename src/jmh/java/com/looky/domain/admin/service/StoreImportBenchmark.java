@@ -0,0 +1,153 @@
+package com.looky.domain.admin.service;
+
+import com.looky.common.service.GeocodingService;
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
+import com.looky.domain.admin.dto.StoreImportResponse;
+import com.looky.domain.organization.entity.University;
+import com.looky.domain.organization.repository.UniversityRepository;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.domain.store.repository.StoreJdbcRepository;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.store.service.StoreLocationIndex;
+import com.looky.support.BenchmarkApplication;
+import com.looky.support.HeapPeak;
+import com.looky.support.PathMultipartFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 상점 엑셀 일괄 등록: 20만 행 시트를 AdminStoreService.uploadStoreData 로 적재 (스트리밍 읽기 + 청크별 IN 선조회/JDBC 배치 저장)
+// 시간은 호출 1회(빈 상태에서 전체 신규 생성), 메모리는 호출마다 힙 최대 사용량을 출력하고 할당량은 -prof gc 로 확인
+// 힙을 512MB 로 제한해 시트 전체를 메모리에 올리는 방식으로 돌아가면 최대 사용량 증가/OOM 으로 드러나게 함 (MySQL 필요, BenchmarkDatabase 참고)
+// 모든 행에 좌표가 있어 지오코딩은 호출하지 않음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class StoreImportBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int UNIVERSITIES = 10;
+    private static final String NAME_PREFIX = "벤치 등록 상점 ";
+    private static final String UNIVERSITY_PREFIX = "벤치 등록 대학 ";
+
+    private ConfigurableApplicationContext context;
+    private AdminStoreService adminStoreService;
+    private StoreLocationIndex storeLocationIndex;
+    private SearchSuggestIndex searchSuggestIndex;
+    private JdbcTemplate jdbcTemplate;
+    private Path sheet;
+    private StoreImportResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start(AdminStoreService.class, StoreJdbcRepository.class,
+                GeocodingService.class, StoreLocationIndex.class, StoreCacheService.class, SearchSuggestIndex.class);
+        adminStoreService = context.getBean(AdminStoreService.class);
+        storeLocationIndex = context.getBean(StoreLocationIndex.class);
+        searchSuggestIndex = context.getBean(SearchSuggestIndex.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        sheet = writeSheet(seedUniversities(context.getBean(UniversityRepository.class)));
+    }
+
+    // 이전 호출에서 만든 상점을 지우고 인덱스를 기동 직후 상태로 재적재
+    @Setup(Level.Invocation)
+    public void clearStores() {
+        deleteImportedStores();
+        storeLocationIndex.rebuild();
+        searchSuggestIndex.rebuild();
+        HeapPeak.reset();
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() {
+        System.out.printf("%n[StoreImport] rows=%d, created=%d, failed=%d, peak heap <= %d MB%n",
+                response.getTotalRows(), response.getCreatedCount(), response.getFailedCount(), HeapPeak.peakMegabytes());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteImportedStores();
+        context.close();
+        Files.deleteIfExists(sheet);
+    }
+
+    @Benchmark
+    public StoreImportResponse upload() {
+        response = adminStoreService.uploadStoreData(new PathMultipartFile(sheet));
+        return response;
+    }
+
+    private void deleteImportedStores() {
+        String pattern = NAME_PREFIX + "%";
+        jdbcTemplate.update("DELETE su FROM store_university su JOIN store s ON s.store_id = su.store_id " +
+                "WHERE s.name LIKE ?", pattern);
+        jdbcTemplate.update("DELETE FROM store WHERE name LIKE ?", pattern);
+    }
+
+    // 이전 실행에서 만든 대학은 재사용
+    private List<Long> seedUniversities(UniversityRepository universityRepository) {
+        List<Long> universityIds = new ArrayList<>(UNIVERSITIES);
+        for (int i = 0; i < UNIVERSITIES; i++) {
+            String name = UNIVERSITY_PREFIX + i;
+            List<Long> existing = jdbcTemplate.queryForList(
+                    "SELECT university_id FROM university WHERE name = ?", Long.class, name);
+            universityIds.add(existing.isEmpty()
+                    ? universityRepository.save(University.builder().name(name).emailDomain("store-bench" + i + ".ac.kr").build()).getId()
+                    : existing.get(0));
+        }
+        return universityIds;
+    }
+
+    // 관리자 업로드 양식과 같은 헤더, 상점마다 상호명/도로명 주소가 달라 모두 신규 생성 (서울 일대 무작위 좌표)
+    private static Path writeSheet(List<Long> universityIds) throws IOException {
+        Random random = new Random(42);
+        List<Column<StoreSheetRow>> columns = List.of(
+                new Column<>("universityId", StoreSheetRow::universityId),
+                new Column<>("name", StoreSheetRow::name),
+                new Column<>("branch", StoreSheetRow::branch),
+                new Column<>("roadAddress", StoreSheetRow::roadAddress),
+                new Column<>("jibunAddress", StoreSheetRow::jibunAddress),
+                new Column<>("latitude", StoreSheetRow::latitude),
+                new Column<>("longitude", StoreSheetRow::longitude)
+        );
+
+        Path path = Files.createTempFile("jmh-store-import-", ".xlsx");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            ExcelStreamWriter.writeSheet(out, "stores", columns, IntStream.range(0, ROWS).mapToObj(i -> new StoreSheetRow(
+                    universityIds.get(i % universityIds.size()),
+                    NAME_PREFIX + i,
+                    i % 3 == 0 ? "2호점" : null,
+                    "서울시 벤치로 " + i,
+                    "서울시 벤치동 " + i,
+                    37.45 + random.nextDouble() * 0.25,
+                    126.8 + random.nextDouble() * 0.4)));
+        }
+        return path;
+    }
+
+    private record StoreSheetRow(Long universityId, String name, String branch, String roadAddress,
+                                 String jibunAddress, Double latitude, Double longitude) {
+    }
+}
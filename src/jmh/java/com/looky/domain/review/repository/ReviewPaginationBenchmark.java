@@ -0,0 +1,161 @@
+package com.looky.domain.review.repository;
+
+import com.looky.support.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 상점 리뷰 목록: 오프셋 페이지(LIMIT/OFFSET + COUNT) vs 키셋 페이지(createdAt, id 커서, size + 1 조회)
+// 한 상점에 리뷰 100만 건, 페이지 크기 20, 조회 위치(offset)별 비교 (MySQL 필요, BenchmarkDatabase 참고)
+// SQL 은 Page<Review> findByStore / findByStoreIdBeforeCursor 가 생성하는 형태와 같게 작성
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReviewPaginationBenchmark {
+
+    private static final long ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final long STORE_ID = 1L;
+
+    private static final String OFFSET_QUERY =
+            "SELECT review_id, created_at, content FROM jmh_review WHERE store_id = ? " +
+            "ORDER BY created_at DESC, review_id DESC LIMIT ? OFFSET ?";
+    private static final String COUNT_QUERY =
+            "SELECT COUNT(review_id) FROM jmh_review WHERE store_id = ?";
+    private static final String KEYSET_QUERY =
+            "SELECT review_id, created_at, content FROM jmh_review WHERE store_id = ? " +
+            "AND (? IS NULL OR created_at < ? OR (created_at = ? AND review_id < ?)) " +
+            "ORDER BY created_at DESC, review_id DESC LIMIT ?";
+
+    @Param({"0", "10000", "100000", "500000"})
+    private int offset;
+
+    private Connection connection;
+    private Timestamp cursorCreatedAt;
+    private Long cursorId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        seed();
+        loadCursor();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_QUERY)) {
+            statement.setLong(1, STORE_ID);
+            statement.setInt(2, PAGE_SIZE);
+            statement.setInt(3, offset);
+            consume(statement, blackhole);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_QUERY)) {
+            statement.setLong(1, STORE_ID);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void keysetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(KEYSET_QUERY)) {
+            statement.setLong(1, STORE_ID);
+            statement.setTimestamp(2, cursorCreatedAt);
+            statement.setTimestamp(3, cursorCreatedAt);
+            statement.setTimestamp(4, cursorCreatedAt);
+            if (cursorId != null) {
+                statement.setLong(5, cursorId);
+            } else {
+                statement.setNull(5, Types.BIGINT);
+            }
+            statement.setInt(6, PAGE_SIZE + 1);
+            consume(statement, blackhole);
+        }
+    }
+
+    private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject(1));
+            }
+        }
+    }
+
+    // V10 과 같은 (store_id, created_at) 인덱스, 2건씩 같은 작성 시각을 두어 id 보조 정렬도 포함
+    private void seed() throws SQLException {
+        BenchmarkDatabase.execute(connection,
+                "CREATE TABLE IF NOT EXISTS jmh_review (" +
+                "review_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "store_id BIGINT NOT NULL, " +
+                "content VARCHAR(255), " +
+                "created_at DATETIME(6) NOT NULL, " +
+                "INDEX idx_jmh_review_store_created (store_id, created_at))");
+        if (BenchmarkDatabase.hasRows(connection, "jmh_review", ROWS)) {
+            return;
+        }
+
+        BenchmarkDatabase.execute(connection, "TRUNCATE TABLE jmh_review");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO jmh_review (store_id, content, created_at) VALUES (?, ?, ?)")) {
+            for (long i = 0; i < ROWS; i++) {
+                statement.setLong(1, STORE_ID);
+                statement.setString(2, "리뷰 내용 " + i);
+                statement.setTimestamp(3, Timestamp.valueOf(base.plusSeconds(i / 2)));
+                statement.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        BenchmarkDatabase.execute(connection, "ANALYZE TABLE jmh_review");
+    }
+
+    // 오프셋 위치 직전 행을 커서로 사용 (두 방식이 같은 페이지를 조회하도록)
+    private void loadCursor() throws SQLException {
+        if (offset == 0) {
+            cursorCreatedAt = null;
+            cursorId = null;
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT created_at, review_id FROM jmh_review WHERE store_id = ? " +
+                "ORDER BY created_at DESC, review_id DESC LIMIT 1 OFFSET ?")) {
+            statement.setLong(1, STORE_ID);
+            statement.setInt(2, offset - 1);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                cursorCreatedAt = rs.getTimestamp(1);
+                cursorId = rs.getLong(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.looky.domain.store.repository;
+
+import com.looky.common.util.FullTextQuery;
+import com.looky.support.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 상점 키워드 검색 첫 페이지(20건 + COUNT): 기존 상점명 LIKE '%검색어%' vs FULLTEXT(ngram) BOOLEAN MODE
+// 상점 20만 건 (MySQL 필요, BenchmarkDatabase 참고), SQL 은 StoreSpecification 이 생성하는 형태와 같게 작성
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StoreSearchBenchmark {
+
+    private static final long ROWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private static final String[] AREAS = {"강남", "신촌", "홍대", "건대", "성수", "잠실", "혜화", "회기", "안암", "노원"};
+    private static final String[] KINDS = {"카페", "스터디카페", "분식", "치킨", "피자", "국밥", "베이커리", "헤어샵", "네일", "PC방"};
+    private static final String[] PREFIXES = {"행복한", "맛있는", "오늘의", "우리동네", "청년", "할매", "달빛", "푸른", "작은", "원조"};
+    private static final String[] ROADS = {"테헤란로", "연세로", "와우산로", "아차산로", "성수이로", "올림픽로", "대학로", "회기로", "고려대로", "동일로"};
+
+    private static final String MATCH = "match(name, branch, road_address, jibun_address) against(? in boolean mode)";
+    private static final String LIKE_QUERY =
+            "SELECT store_id, name FROM jmh_store WHERE name LIKE ? ORDER BY store_id DESC LIMIT ?";
+    private static final String LIKE_COUNT_QUERY =
+            "SELECT COUNT(store_id) FROM jmh_store WHERE name LIKE ?";
+    private static final String FULLTEXT_QUERY =
+            "SELECT store_id, name FROM jmh_store WHERE " + MATCH + " > 0 " +
+            "ORDER BY " + MATCH + " DESC, store_id DESC LIMIT ?";
+    private static final String FULLTEXT_COUNT_QUERY =
+            "SELECT COUNT(store_id) FROM jmh_store WHERE " + MATCH + " > 0";
+
+    @Param({"카페", "스터디카페", "강남 치킨", "우리동네 베이커리"})
+    private String keyword;
+
+    private Connection connection;
+    private String booleanQuery;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        seed();
+        booleanQuery = FullTextQuery.toBooleanQuery(keyword);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeSearch(Blackhole blackhole) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement statement = connection.prepareStatement(LIKE_QUERY)) {
+            statement.setString(1, pattern);
+            statement.setInt(2, PAGE_SIZE);
+            consume(statement, blackhole);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(LIKE_COUNT_QUERY)) {
+            statement.setString(1, pattern);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void fullTextSearch(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FULLTEXT_QUERY)) {
+            statement.setString(1, booleanQuery);
+            statement.setString(2, booleanQuery);
+            statement.setInt(3, PAGE_SIZE);
+            consume(statement, blackhole);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(FULLTEXT_COUNT_QUERY)) {
+            statement.setString(1, booleanQuery);
+            consume(statement, blackhole);
+        }
+    }
+
+    private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject(1));
+            }
+        }
+    }
+
+    // V11 과 같은 ft_store_search 인덱스 (ngram, 기본 ngram_token_size = 2)
+    private void seed() throws SQLException {
+        BenchmarkDatabase.execute(connection,
+                "CREATE TABLE IF NOT EXISTS jmh_store (" +
+                "store_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(255) NOT NULL, " +
+                "branch VARCHAR(255), " +
+                "road_address VARCHAR(255), " +
+                "jibun_address VARCHAR(255), " +
+                "FULLTEXT INDEX ft_jmh_store_search (name, branch, road_address, jibun_address) WITH PARSER ngram)");
+        if (BenchmarkDatabase.hasRows(connection, "jmh_store", ROWS)) {
+            return;
+        }
+
+        BenchmarkDatabase.execute(connection, "TRUNCATE TABLE jmh_store");
+        Random random = new Random(42);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO jmh_store (name, branch, road_address, jibun_address) VALUES (?, ?, ?, ?)")) {
+            for (long i = 0; i < ROWS; i++) {
+                String area = pick(random, AREAS);
+                statement.setString(1, pick(random, PREFIXES) + " " + pick(random, KINDS));
+                statement.setString(2, area + "점");
+                statement.setString(3, "서울시 " + pick(random, ROADS) + " " + (1 + random.nextInt(300)));
+                statement.setString(4, "서울시 " + area + "동 " + (1 + random.nextInt(999)) + "-" + (1 + random.nextInt(50)));
+                statement.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        BenchmarkDatabase.execute(connection, "OPTIMIZE TABLE jmh_store");
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,164 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreLocation;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.support.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 주변 상점 검색: 격자 인덱스 vs 네이티브 쿼리(ST_Distance_Sphere + 바운딩 박스, StoreRepository.findNearbyStoreDistances 와 같은 SQL)
+// 같은 좌표 집합(서울 일대 무작위 분포)을 MySQL 과 격자에 적재, 반경 1km, 100건 (MySQL 필요, BenchmarkDatabase 참고)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbyStoreQueryBenchmark {
+
+    private static final double LATITUDE = 37.55;
+    private static final double LONGITUDE = 127.0;
+    private static final double RADIUS_KM = 1.0;
+    private static final int LIMIT = 100;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private static final String NEARBY_QUERY =
+            "SELECT d.store_id AS storeId, d.distance AS distance FROM (" +
+            "    SELECT s.store_id, ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(?, ?)) / 1000 AS distance " +
+            "    FROM %s s " +
+            "    WHERE s.is_suspended = false " +
+            "    AND s.latitude BETWEEN ? AND ? " +
+            "    AND s.longitude BETWEEN ? AND ?" +
+            ") d " +
+            "WHERE d.distance <= ? " +
+            "AND (d.distance > ? OR (d.distance = ? AND d.store_id > ?)) " +
+            "ORDER BY d.distance, d.store_id " +
+            "LIMIT ?";
+
+    @Param({"10000", "100000"})
+    private int storeCount;
+
+    private Connection connection;
+    private String table;
+    private String nearbyQuery;
+    private StoreLocationIndex index;
+
+    @Setup
+    public void setUp() throws SQLException {
+        List<StoreLocation> locations = generateLocations(storeCount);
+
+        connection = BenchmarkDatabase.connect();
+        table = "jmh_store_location_" + storeCount;
+        nearbyQuery = String.format(NEARBY_QUERY, table);
+        seed(locations);
+
+        StoreRepository storeRepository = (StoreRepository) Proxy.newProxyInstance(
+                StoreRepository.class.getClassLoader(),
+                new Class<?>[]{StoreRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllActiveLocations")) {
+                        return locations;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        index = new StoreLocationIndex(storeRepository);
+        index.rebuild();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<NearbyStoreDistance> gridIndex() {
+        return index.search(LATITUDE, LONGITUDE, RADIUS_KM, -1.0, 0L, LIMIT);
+    }
+
+    @Benchmark
+    public void nativeQuery(Blackhole blackhole) throws SQLException {
+        GeoBoundingBox box = GeoBoundingBox.around(LATITUDE, LONGITUDE, RADIUS_KM);
+        try (PreparedStatement statement = connection.prepareStatement(nearbyQuery)) {
+            statement.setDouble(1, LONGITUDE);
+            statement.setDouble(2, LATITUDE);
+            statement.setDouble(3, box.minLatitude());
+            statement.setDouble(4, box.maxLatitude());
+            statement.setDouble(5, box.minLongitude());
+            statement.setDouble(6, box.maxLongitude());
+            statement.setDouble(7, RADIUS_KM);
+            statement.setDouble(8, -1.0);
+            statement.setDouble(9, -1.0);
+            statement.setLong(10, 0L);
+            statement.setInt(11, LIMIT);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(rs.getLong(1));
+                    blackhole.consume(rs.getDouble(2));
+                }
+            }
+        }
+    }
+
+    // StoreLocationIndexBenchmark 와 같은 분포
+    private static List<StoreLocation> generateLocations(int count) {
+        Random random = new Random(42);
+        List<StoreLocation> locations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            locations.add(new StoreLocation(id, 37.45 + random.nextDouble() * 0.25, 126.8 + random.nextDouble() * 0.4));
+        }
+        return locations;
+    }
+
+    // V4 와 같은 idx_store_location (is_suspended, latitude, longitude)
+    private void seed(List<StoreLocation> locations) throws SQLException {
+        BenchmarkDatabase.execute(connection,
+                "CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "store_id BIGINT PRIMARY KEY, " +
+                "latitude DOUBLE, " +
+                "longitude DOUBLE, " +
+                "is_suspended BIT DEFAULT 0 NOT NULL, " +
+                "INDEX idx_" + table + " (is_suspended, latitude, longitude))");
+        if (BenchmarkDatabase.hasRows(connection, table, locations.size())) {
+            return;
+        }
+
+        BenchmarkDatabase.execute(connection, "TRUNCATE TABLE " + table);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + table + " (store_id, latitude, longitude) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < locations.size(); i++) {
+                StoreLocation location = locations.get(i);
+                statement.setLong(1, location.storeId());
+                statement.setDouble(2, location.latitude());
+                statement.setDouble(3, location.longitude());
+                statement.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        BenchmarkDatabase.execute(connection, "ANALYZE TABLE " + table);
+    }
+}
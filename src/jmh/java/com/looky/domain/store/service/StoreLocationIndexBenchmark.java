@@ -0,0 +1,83 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreLocation;
+import com.looky.domain.store.repository.StoreRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 주변 상점 검색: 격자 인덱스 vs 전체 좌표 순회 (서울 일대에 무작위 분포, 반경 1km, 100건)
+// DB(ST_Distance_Sphere + 바운딩 박스) 경로와의 비교는 NearbyStoreQueryBenchmark (MySQL 필요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreLocationIndexBenchmark {
+
+    private static final double EARTH_RADIUS_KM = 6370.986;
+
+    @Param({"10000", "100000"})
+    private int storeCount;
+
+    private StoreLocationIndex index;
+    private List<StoreLocation> locations;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        locations = new ArrayList<>(storeCount);
+        for (long id = 1; id <= storeCount; id++) {
+            locations.add(new StoreLocation(id, 37.45 + random.nextDouble() * 0.25, 126.8 + random.nextDouble() * 0.4));
+        }
+
+        StoreRepository storeRepository = (StoreRepository) Proxy.newProxyInstance(
+                StoreRepository.class.getClassLoader(),
+                new Class<?>[]{StoreRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllActiveLocations")) {
+                        return locations;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        index = new StoreLocationIndex(storeRepository);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<NearbyStoreDistance> gridIndex() {
+        return index.search(37.55, 127.0, 1.0, -1.0, 0L, 100);
+    }
+
+    @Benchmark
+    public List<double[]> linearScan() {
+        List<double[]> hits = new ArrayList<>();
+        for (StoreLocation location : locations) {
+            double distance = distanceKm(37.55, 127.0, location.latitude(), location.longitude());
+            if (distance <= 1.0) {
+                hits.add(new double[]{location.storeId(), distance});
+            }
+        }
+        hits.sort(Comparator.<double[]>comparingDouble(hit -> hit[1]).thenComparingDouble(hit -> hit[0]));
+        return hits.subList(0, Math.min(100, hits.size()));
+    }
+
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
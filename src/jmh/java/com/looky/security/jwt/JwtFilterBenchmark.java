@@ -0,0 +1,60 @@
+package com.looky.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 토큰 인증 경로: 기존 방식(요청마다 파서 생성 + validateToken/getAuthentication 으로 2회 검증) vs resolveAuthentication (캐시 미적중/적중)
+// 기존 방식은 Authentication 생성 비용을 빼고 측정하므로 실제 차이는 결과보다 조금 더 큼
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "bG9va3ktam1oLWJlbmNobWFyay1zZWNyZXQta2V5LTMyYnl0ZXMhIQ==";
+    private static final long ONE_HOUR_MILLIS = 60 * 60 * 1000L;
+
+    private SecretKey secretKey;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        cachedProvider = new JwtTokenProvider(SECRET, ONE_HOUR_MILLIS, ONE_HOUR_MILLIS, 10_000, 300_000, new SimpleMeterRegistry());
+        // 캐시 TTL 0 -> 저장 즉시 만료되어 매 요청 서명 검증 (처음 보는 토큰, 캐시가 가득 찬 경우)
+        uncachedProvider = new JwtTokenProvider(SECRET, ONE_HOUR_MILLIS, ONE_HOUR_MILLIS, 10_000, 0, new SimpleMeterRegistry());
+        token = cachedProvider.createAccessToken(1L, "student", "ROLE_STUDENT");
+        cachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Authentication resolveUncached() {
+        return uncachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication resolveCached() {
+        return cachedProvider.resolveAuthentication(token);
+    }
+}
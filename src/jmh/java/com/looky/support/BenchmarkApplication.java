@@ -0,0 +1,75 @@
+package com.looky.support;
+
+import com.looky.common.service.GeocodingClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 서비스 단위 벤치마크용 최소 Spring 컨텍스트 (웹/보안/S3/메일 없이 JPA + JDBC + Flyway 만 구성)
+// BenchmarkDatabase 스키마에 Flyway 로 실제 테이블을 만들고(jmh_ 테이블이 있어도 기준선 0 에서 시작), 인자로 받은 빈만 등록
+// application.yml(배치 INSERT 재작성, 일괄 지연 로딩 크기)은 그대로 적용, 스케줄 작업도 운영과 같이 동작
+@Configuration(proxyBeanMethods = false)
+@ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class,
+        FlywayAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+})
+@EntityScan("com.looky")
+@EnableJpaRepositories("com.looky")
+@EnableJpaAuditing
+@EnableScheduling
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start(Class<?>... components) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + BenchmarkDatabase.url(),
+                "--spring.flyway.baseline-on-migrate=true",
+                "--spring.flyway.baseline-version=0",
+                "--spring.jpa.hibernate.ddl-auto=none"
+        ));
+        if (BenchmarkDatabase.username() != null) {
+            args.add("--spring.datasource.username=" + BenchmarkDatabase.username());
+        }
+        if (BenchmarkDatabase.password() != null) {
+            args.add("--spring.datasource.password=" + BenchmarkDatabase.password());
+        }
+
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .sources(components)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args.toArray(String[]::new));
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    // 외부 지오코딩 API 대신 결과 없음 (좌표가 있는 행만 다루는 벤치마크에서는 호출되지 않음)
+    @Bean
+    GeocodingClient geocodingClient() {
+        return address -> Optional.empty();
+    }
+}
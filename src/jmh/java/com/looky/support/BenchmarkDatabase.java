@@ -0,0 +1,54 @@
+package com.looky.support;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// DB 벤치마크용 MySQL 8 연결 (벤치마크 전용 스키마에 jmh_ 테이블을 만들어 사용, 운영 DB 는 건드리지 않음)
+// 서비스 벤치마크(BenchmarkApplication)는 같은 스키마에 Flyway 로 실제 테이블을 만들어 사용
+// JMH 포크 JVM 에도 전달되도록 시스템 프로퍼티 대신 환경 변수 사용
+// BENCH_JDBC_URL=jdbc:mysql://localhost:3306/looky_bench?rewriteBatchedStatements=true \
+// BENCH_JDBC_USERNAME=... BENCH_JDBC_PASSWORD=... ./gradlew jmh -PjmhIncludes=<클래스명>
+public final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    public static Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), username(), password());
+    }
+
+    public static String url() {
+        String url = System.getenv("BENCH_JDBC_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCH_JDBC_URL 환경 변수(MySQL 8 벤치마크 전용 스키마)가 필요합니다.");
+        }
+        return url;
+    }
+
+    public static String username() {
+        return System.getenv("BENCH_JDBC_USERNAME");
+    }
+
+    public static String password() {
+        return System.getenv("BENCH_JDBC_PASSWORD");
+    }
+
+    // 이전 실행에서 같은 건수로 적재된 테이블은 재사용 (대량 적재 시간 절약)
+    public static boolean hasRows(Connection connection, String table, long expected) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.next() && rs.getLong(1) == expected;
+        }
+    }
+
+    public static void execute(Connection connection, String... sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
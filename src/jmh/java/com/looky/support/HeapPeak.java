@@ -0,0 +1,34 @@
+package com.looky.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+// 구간 내 힙 최대 사용량 (reset 이후 값, 풀별 최댓값의 합이므로 실제 최대치의 상한)
+// 할당량(gc.alloc.rate.norm)은 -prof gc 로 함께 확인
+public final class HeapPeak {
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private HeapPeak() {
+    }
+
+    // 직전 측정의 잔여 객체를 정리한 뒤 최댓값 초기화
+    public static void reset() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    public static long peakMegabytes() {
+        return heapPools().stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum() / MEGABYTE;
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+}
@@ -1,14 +1,21 @@
 package com.looky;
 
+import com.looky.common.config.TimeConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.TimeZone;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class LookyApplication {
 
     public static void main(String[] args) {
+        // 컨테이너 시간대(UTC)와 무관하게 LocalDateTime.now()/JPA Auditing 이 KST 로 기록되도록 고정
+        TimeZone.setDefault(TimeZone.getTimeZone(TimeConfig.ZONE_ID));
         SpringApplication.run(LookyApplication.class, args);
     }
 
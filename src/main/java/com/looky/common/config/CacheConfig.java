@@ -0,0 +1,38 @@
+package com.looky.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 로컬(인스턴스별) Caffeine 캐시 설정, 통계는 /actuator/metrics 의 cache.* 지표로 노출
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STORE_DETAIL = "storeDetail"; // storeId -> 사용자 무관 상점 상세
+    public static final String STUDENT_UNIVERSITY = "studentUniversity"; // userId -> 소속 대학 ID
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(STORE_DETAIL, caffeine(10_000, Duration.ofMinutes(10)));
+        cacheManager.registerCustomCache(STUDENT_UNIVERSITY, caffeine(50_000, Duration.ofMinutes(10)));
+
+        // put/evict 를 트랜잭션 커밋 이후로 미뤄 커밋 전 데이터가 다시 캐시되지 않도록 함
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.looky.common.config;
+
+import com.looky.common.service.GeocodingClient;
+import com.looky.common.service.NaverGeocodingClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class GeocodingConfig {
+
+    @Value("${naver.maps.client-id}")
+    private String clientId;
+
+    @Value("${naver.maps.client-secret}")
+    private String clientSecret;
+
+    // 다른 GeocodingClient 빈(테스트/로컬 스텁)이 등록되어 있으면 네이버 클라이언트를 만들지 않음
+    @Bean
+    @ConditionalOnMissingBean(GeocodingClient.class)
+    public GeocodingClient geocodingClient(RestTemplateBuilder restTemplateBuilder) {
+        return new NaverGeocodingClient(
+                restTemplateBuilder
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .readTimeout(Duration.ofSeconds(5))
+                        .build(),
+                clientId,
+                clientSecret);
+    }
+}
@@ -0,0 +1,20 @@
+package com.looky.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+// MySQL FULLTEXT 검색 함수 등록 (JPQL/Criteria 에서 function('store_fulltext_match', ...) 로 사용)
+// MATCH 컬럼 목록은 ft_store_search 인덱스(name, branch, road_address, jibun_address)와 순서까지 같아야 함
+public class StoreFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String STORE_FULLTEXT_MATCH = "store_fulltext_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                STORE_FULLTEXT_MATCH,
+                "match(?1, ?2, ?3, ?4) against(?5 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
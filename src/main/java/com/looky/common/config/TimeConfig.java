@@ -0,0 +1,20 @@
+package com.looky.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+// 서비스 기준 시간대(KST) 시계
+// 저장 시각(JPA Auditing, 발급/만료 시각)과 배치/조회의 비교 시각이 같은 시간대를 쓰도록 LookyApplication 에서 JVM 기본 시간대도 맞춤
+@Configuration
+public class TimeConfig {
+
+    public static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZONE_ID);
+    }
+}
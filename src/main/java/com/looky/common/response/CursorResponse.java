@@ -0,0 +1,53 @@
+package com.looky.common.response;
+
+import com.looky.common.entity.BaseEntity;
+import com.looky.common.util.CursorRequest;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋(커서) 페이지 응답 (전체 개수/페이지 수 없음)
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+
+    // size + 1 건 조회 결과로 다음 페이지 여부와 커서 계산
+    public static <T extends BaseEntity> CursorResponse<T> of(List<T> rows, CursorRequest request, Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > request.size();
+        List<T> content = hasNext ? rows.subList(0, request.size()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = CursorRequest.encode(last.getCreatedAt(), idOf.apply(last));
+        }
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(request.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public <R> CursorResponse<R> map(Function<? super T, ? extends R> mapper) {
+        return withContent(content.stream().<R>map(mapper).toList());
+    }
+
+    // 일괄 변환 결과로 내용만 교체
+    public <R> CursorResponse<R> withContent(List<R> newContent) {
+        return CursorResponse.<R>builder()
+                .content(newContent)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.looky.common.scheduler;
+
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.coupon.repository.StudentCouponRepository;
+import com.looky.domain.event.repository.EventRepository;
+import com.looky.domain.partnership.repository.PartnershipRepository;
+import com.looky.domain.store.service.StoreBenefitIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+// 기간 경과에 따른 쿠폰/학생 쿠폰/이벤트/제휴 상태 일괄 전환
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LifecycleSweeper {
+
+    private static final int CHUNK_SIZE = 1000; // 한 트랜잭션에서 전환할 최대 행 수
+    private static final int MAX_CHUNKS_PER_TARGET = 100; // 한 번 실행 시 대상별 최대 청크 수
+
+    private final CouponRepository couponRepository;
+    private final StudentCouponRepository studentCouponRepository;
+    private final EventRepository eventRepository;
+    private final PartnershipRepository partnershipRepository;
+    private final StoreBenefitIndex storeBenefitIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${app.lifecycle.sweep-interval-ms:60000}")
+    public void sweep() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate today = now.toLocalDate();
+
+        int benefitTransitions = 0;
+        benefitTransitions += sweepTarget("coupon.activate", limit -> couponRepository.activateScheduledCoupons(now, limit));
+        benefitTransitions += sweepTarget("coupon.expire", limit -> couponRepository.expireCoupons(now, limit));
+        sweepTarget("student_coupon.expire", limit -> studentCouponRepository.expireStudentCoupons(now, limit));
+        sweepTarget("event.start", limit -> eventRepository.startEvents(now, limit));
+        sweepTarget("event.end", limit -> eventRepository.endEvents(now, limit));
+        benefitTransitions += sweepTarget("partnership.activate", limit -> partnershipRepository.activateScheduledPartnerships(today, now, limit));
+        benefitTransitions += sweepTarget("partnership.expire", limit -> partnershipRepository.expirePartnerships(today, now, limit));
+
+        // 쿠폰/제휴 상태가 바뀐 경우 제휴·쿠폰 상점 인덱스 재적재
+        if (benefitTransitions > 0) {
+            storeBenefitIndex.rebuild();
+        }
+
+        sample.stop(meterRegistry.timer("lifecycle.sweep.duration"));
+    }
+
+    // 청크 단위로 전환 대상이 없을 때까지 반복 (청크마다 별도 트랜잭션)
+    private int sweepTarget(String target, IntUnaryOperator chunkUpdate) {
+        int total = 0;
+        try {
+            for (int i = 0; i < MAX_CHUNKS_PER_TARGET; i++) {
+                Integer updated = transactionTemplate.execute(status -> chunkUpdate.applyAsInt(CHUNK_SIZE));
+                int count = updated != null ? updated : 0;
+                total += count;
+                if (count < CHUNK_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Lifecycle] Sweep failed for target={}", target, e);
+        }
+
+        meterRegistry.counter("lifecycle.sweep.transitions", "target", target).increment(total);
+        if (total > 0) {
+            log.info("[Lifecycle] {} rows transitioned: {}", target, total);
+        }
+        return total;
+    }
+}
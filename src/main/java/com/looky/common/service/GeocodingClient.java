@@ -0,0 +1,13 @@
+package com.looky.common.service;
+
+import java.util.Optional;
+
+// 주소 -> 좌표 변환 외부 API 클라이언트 (테스트/로컬에서는 스텁 빈으로 교체)
+public interface GeocodingClient {
+
+    // 검색 결과가 없으면 empty, 호출 실패 시 예외 (RestClientException 계열은 재시도 대상 판별에 사용)
+    Optional<Coordinate> geocode(String address);
+
+    record Coordinate(double latitude, double longitude) {
+    }
+}
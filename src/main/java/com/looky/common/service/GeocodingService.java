@@ -1,110 +1,314 @@
 package com.looky.common.service;
 
-import com.looky.domain.store.entity.Store;
+import com.looky.common.service.GeocodingClient.Coordinate;
+import com.looky.common.util.TokenBucket;
+import com.looky.domain.store.entity.GeocodeCache;
+import com.looky.domain.store.repository.GeocodeCacheRepository;
 import com.looky.domain.store.repository.StoreRepository;
-import lombok.RequiredArgsConstructor;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.store.service.StoreLocationIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// 도로명 주소 기반 위도/경도 보정 파이프라인
+// 대기열 -> 전용 워커 -> 주소 캐시 조회 -> (토큰 버킷 + 재시도) 외부 API 호출 -> 좌표 반영
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GeocodingService {
 
+    private static final int MAX_CACHE_ADDRESS_LENGTH = 255;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
     private final StoreRepository storeRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreCacheService storeCacheService;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final GeocodingClient geocodingClient;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${naver.maps.client-id}")
-    private String clientId;
+    private final BlockingQueue<GeocodingTask> queue;
+    private final TokenBucket rateLimiter;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Duration notFoundTtl;
+    private final AtomicInteger inProgress = new AtomicInteger();
 
-    @Value("${naver.maps.client-secret}")
-    private String clientSecret;
+    private final Counter requestedCounter;
+    private final Counter resolvedCounter;
+    private final Counter cacheHitCounter;
+    private final Counter apiCallCounter;
+    private final Counter retryCounter;
+    private final Counter notFoundCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
 
-    private static final String NAVER_GEOCODE_URL = "https://maps.apigw.ntruss.com/map-geocode/v2/geocode";
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
 
-    //  도로명 주소 기반으로 위도 / 경도 업데이트
-    @Async
-    @Transactional
-    public void updateLocation(Long storeId, String roadAddress) {
-        try {
-            // 주소가 없으면 스킵
-            if (roadAddress == null || roadAddress.trim().isEmpty()) {
-                log.warn("[Geocoding] Address is empty for storeId={}", storeId);
-                markAsNeedCheck(storeId, "지오코딩 실패: 주소 없음");
-                return;
-            }
+    public GeocodingService(StoreRepository storeRepository,
+                            StoreLocationIndex storeLocationIndex,
+                            StoreCacheService storeCacheService,
+                            GeocodeCacheRepository geocodeCacheRepository,
+                            GeocodingClient geocodingClient,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.geocoding.workers:2}") int workerCount,
+                            @Value("${app.geocoding.queue-capacity:100000}") int queueCapacity,
+                            @Value("${app.geocoding.rate-per-second:10}") double ratePerSecond,
+                            @Value("${app.geocoding.max-attempts:3}") int maxAttempts,
+                            @Value("${app.geocoding.backoff-ms:500}") long backoffMillis,
+                            @Value("${app.geocoding.not-found-ttl-hours:24}") long notFoundTtlHours) {
+        this.storeRepository = storeRepository;
+        this.storeLocationIndex = storeLocationIndex;
+        this.storeCacheService = storeCacheService;
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.geocodingClient = geocodingClient;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.rateLimiter = new TokenBucket(Math.max(1, (long) ratePerSecond), ratePerSecond);
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.notFoundTtl = Duration.ofHours(notFoundTtlHours);
 
-            // 주소 전처리 (특수 공백 제거 등)
-            String query = refineAddress(roadAddress);
+        this.requestedCounter = meterRegistry.counter("geocoding.requests", "result", "requested");
+        this.resolvedCounter = meterRegistry.counter("geocoding.requests", "result", "resolved");
+        this.notFoundCounter = meterRegistry.counter("geocoding.requests", "result", "not_found");
+        this.failedCounter = meterRegistry.counter("geocoding.requests", "result", "failed");
+        this.rejectedCounter = meterRegistry.counter("geocoding.requests", "result", "rejected");
+        this.cacheHitCounter = meterRegistry.counter("geocoding.cache.hits");
+        this.apiCallCounter = meterRegistry.counter("geocoding.api.calls");
+        this.retryCounter = meterRegistry.counter("geocoding.api.retries");
+        meterRegistry.gauge("geocoding.queue.size", queue, BlockingQueue::size);
+    }
 
-            // 요청 URL 생성 (URLEncoder 사용)
-            String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
-            URI uri = URI.create(NAVER_GEOCODE_URL + "?query=" + encodedQuery);
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorkerLoop, "geocoding-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
 
-            log.info("[Geocoding] Generated URI: {}", uri);
+    // 종료 시 진행 중인 건만 마무리 (대기열 잔여 건은 관리자 재업로드로 복구)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
 
-            // 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-NCP-APIGW-API-KEY-ID", clientId != null ? clientId.trim() : "");
-            headers.set("X-NCP-APIGW-API-KEY", clientSecret != null ? clientSecret.trim() : "");
+    // 좌표 보정 요청을 대기열에 추가 (대기열이 가득 차면 관리자 확인 대상으로 표시)
+    public boolean enqueue(Long storeId, String roadAddress) {
+        requestedCounter.increment();
+        if (queue.offer(new GeocodingTask(storeId, roadAddress))) {
+            return true;
+        }
 
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
+        rejectedCounter.increment();
+        log.warn("[Geocoding] Queue is full, skipped storeId={}", storeId);
+        markAsNeedCheck(storeId, "지오코딩 실패: 대기열 초과");
+        return false;
+    }
 
-            // API 호출
-            ResponseEntity<Map> response = restTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
-            Map<String, Object> body = response.getBody();
+    public GeocodingStatus getStatus() {
+        return new GeocodingStatus(
+                queue.size(),
+                inProgress.get(),
+                (long) requestedCounter.count(),
+                (long) resolvedCounter.count(),
+                (long) notFoundCounter.count(),
+                (long) failedCounter.count(),
+                (long) rejectedCounter.count(),
+                (long) cacheHitCounter.count(),
+                (long) apiCallCounter.count(),
+                (long) retryCounter.count());
+    }
 
-            if (body == null || !body.containsKey("addresses")) {
-                log.error("[Geocoding] Invalid response for storeId={}", storeId);
-                markAsNeedCheck(storeId, "지오코딩 실패: API 응답 오류");
+    private void runWorkerLoop() {
+        while (running) {
+            try {
+                GeocodingTask task = queue.poll(1, TimeUnit.SECONDS);
+                if (task == null) {
+                    continue;
+                }
+                inProgress.incrementAndGet();
+                try {
+                    process(task);
+                } finally {
+                    inProgress.decrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 return;
+            } catch (Exception e) {
+                log.error("[Geocoding] Unexpected error in worker loop", e);
             }
+        }
+    }
 
-            List<Map<String, Object>> addresses = (List<Map<String, Object>>) body.get("addresses");
+    private void process(GeocodingTask task) throws InterruptedException {
+        Long storeId = task.storeId();
 
-            if (addresses.isEmpty()) {
-                log.warn("[Geocoding] No coordinates found for address: {}", roadAddress);
-                markAsNeedCheck(storeId, "지오코딩 실패: 좌표 검색 결과 없음");
-                return;
+        // 주소 전처리 (특수 공백 제거 등) 결과를 캐시 키로 사용
+        String address = refineAddress(task.roadAddress());
+        if (address.isEmpty()) {
+            log.warn("[Geocoding] Address is empty for storeId={}", storeId);
+            fail(storeId, "지오코딩 실패: 주소 없음");
+            return;
+        }
+
+        Optional<Coordinate> coordinate;
+        try {
+            coordinate = resolve(address);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[Geocoding] Error processing storeId={}", storeId, e);
+            fail(storeId, "지오코딩 오류: " + e.getMessage());
+            return;
+        }
+
+        if (coordinate.isEmpty()) {
+            log.warn("[Geocoding] No coordinates found for address: {}", address);
+            notFoundCounter.increment();
+            markAsNeedCheck(storeId, "지오코딩 실패: 좌표 검색 결과 없음");
+            return;
+        }
+
+        applyLocation(storeId, coordinate.get());
+        resolvedCounter.increment();
+    }
+
+    // 만료된 검색 결과 없음 항목 정리 (조회 시에도 만료 여부를 확인하므로 테이블 크기 관리용)
+    @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
+    public void purgeExpiredNotFound() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(notFoundTtl);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = transactionTemplate.execute(status -> geocodeCacheRepository.deleteNotFoundBefore(cutoff, PURGE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        log.info("[Geocoding] Purged {} expired not-found cache entries before {}", total, cutoff);
+    }
+
+    // 캐시에 있으면 API 호출 없이 반환, 없으면 호출 후 결과(검색 결과 없음 포함)를 캐시에 저장
+    // 검색 결과 없음은 일시적인 API 누락일 수 있으므로 not-found-ttl 이 지나면 다시 호출
+    private Optional<Coordinate> resolve(String address) throws InterruptedException {
+        boolean cacheable = address.length() <= MAX_CACHE_ADDRESS_LENGTH;
+        if (cacheable) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(notFoundTtl);
+            Optional<GeocodeCache> cached = geocodeCacheRepository.findById(address);
+            if (cached.isPresent() && cached.get().isExpiredNotFound(cutoff)) {
+                transactionTemplate.executeWithoutResult(status -> geocodeCacheRepository.deleteNotFound(address, cutoff));
+                cached = Optional.empty();
+            }
+            if (cached.isPresent()) {
+                cacheHitCounter.increment();
+                GeocodeCache cache = cached.get();
+                return cache.isResolved()
+                        ? Optional.of(new Coordinate(cache.getLatitude(), cache.getLongitude()))
+                        : Optional.empty();
             }
+        }
 
-            // 첫 번째 결과 사용
-            Map<String, Object> firstResult = addresses.get(0);
-            Double latitude = Double.valueOf((String) firstResult.get("y"));
-            Double longitude = Double.valueOf((String) firstResult.get("x"));
+        Optional<Coordinate> coordinate = callWithRetry(address);
 
-            // DB 업데이트
-            Store store = storeRepository.findById(storeId).orElse(null);
-            if (store != null) {
-                store.updateStore(null, null, null, null, latitude, longitude, null, null, null, null, null, null, null, null);
-                log.info("[Geocoding] Updated location for storeId={}: lat={}, lng={}", storeId, latitude, longitude);
+        if (cacheable) {
+            transactionTemplate.executeWithoutResult(status -> geocodeCacheRepository.insertIgnore(
+                    address,
+                    coordinate.map(Coordinate::latitude).orElse(null),
+                    coordinate.map(Coordinate::longitude).orElse(null),
+                    LocalDateTime.now()));
+        }
+        return coordinate;
+    }
+
+    // 처리율 제한 후 호출, 일시적 오류(네트워크/5xx/429)는 지수 백오프로 재시도
+    private Optional<Coordinate> callWithRetry(String address) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            apiCallCounter.increment();
+            try {
+                return geocodingClient.geocode(address);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                retryCounter.increment();
+                long delay = backoffMillis * (1L << (attempt - 1));
+                log.warn("[Geocoding] Attempt {} failed for address={}, retrying in {}ms: {}", attempt, address, delay, e.getMessage());
+                Thread.sleep(delay + ThreadLocalRandom.current().nextLong(Math.max(1, delay / 2)));
             }
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("[Geocoding] Error processing storeId={}", storeId, e);
-            markAsNeedCheck(storeId, "지오코딩 오류: " + e.getMessage());
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof HttpStatusCodeException statusException) {
+            return statusException.getStatusCode().is5xxServerError()
+                    || statusException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
         }
+        return false;
+    }
+
+    private void applyLocation(Long storeId, Coordinate coordinate) {
+        transactionTemplate.executeWithoutResult(status ->
+                storeRepository.findById(storeId).ifPresent(store -> {
+                    store.updateLocation(coordinate.latitude(), coordinate.longitude());
+                    storeLocationIndex.refresh(store);
+                    storeCacheService.evictStoreDetail(storeId);
+                    log.info("[Geocoding] Updated location for storeId={}: lat={}, lng={}",
+                            storeId, coordinate.latitude(), coordinate.longitude());
+                }));
+    }
+
+    private void fail(Long storeId, String reason) {
+        failedCounter.increment();
+        markAsNeedCheck(storeId, reason);
     }
 
     private void markAsNeedCheck(Long storeId, String reason) {
-        storeRepository.findById(storeId).ifPresent(store -> {
-            store.markAsNeedCheck(reason);
-            log.warn("[Geocoding] Store marked for manual check: {} (Reason: {})", storeId, reason);
-        });
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    storeRepository.findById(storeId).ifPresent(store -> {
+                        store.markAsNeedCheck(reason);
+                        storeCacheService.evictStoreDetail(storeId);
+                        log.warn("[Geocoding] Store marked for manual check: {} (Reason: {})", storeId, reason);
+                    }));
+        } catch (Exception e) {
+            log.error("[Geocoding] Failed to mark store for manual check: {}", storeId, e);
+        }
     }
 
     private String refineAddress(String address) {
@@ -112,10 +316,28 @@ public class GeocodingService {
 
         //  한글, 영문, 숫자, 공백, 소괄호, 대시, 쉼표, 점 외에는 모두 제거 (공백으로 치환)
         String refined = address.replaceAll("[^0-9a-zA-Z가-힣\\s\\(\\)\\-,.]", " ");
-        
+
         // 다중 공백을 단일 공백으로 정리
         refined = refined.replaceAll("\\s+", " ").trim();
 
         return refined;
     }
+
+    private record GeocodingTask(Long storeId, String roadAddress) {
+    }
+
+    // 애플리케이션 기동 이후 누적 처리 현황 (인스턴스별)
+    public record GeocodingStatus(
+            int queued,
+            int inProgress,
+            long requested,
+            long resolved,
+            long notFound,
+            long failed,
+            long rejected,
+            long cacheHits,
+            long apiCalls,
+            long retries
+    ) {
+    }
 }
@@ -0,0 +1,305 @@
+package com.looky.common.service;
+
+import com.looky.domain.user.entity.MailOutbox;
+import com.looky.domain.user.entity.MailOutboxStatus;
+import com.looky.domain.user.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 메일 아웃박스 발송 파이프라인
+// 요청 트랜잭션에서 mail_outbox 저장 -> 커밋 후 워커 깨움 -> 발송 대상 선점(SKIP LOCKED) -> 배치를 SMTP 연결 하나로 발송 -> 결과 기록 (실패 시 지수 백오프 재시도)
+@Service
+@Slf4j
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final long LEASE_MARGIN_MILLIS = 60_000;
+    private static final List<MailOutboxStatus> BACKLOG_STATUSES = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String fromAddress;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long leaseMillis;
+    private final long pollIntervalMillis;
+    private final int retentionDays;
+
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+    private final AtomicLong backlog = new AtomicLong(); // 발송 대기 + 발송 중 (전체 인스턴스 기준, 주기적으로 갱신)
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer sendTimer;
+    private final Timer deliveryDelayTimer;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository,
+                          JavaMailSender mailSender,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.email.from}") String fromAddress,
+                          @Value("${app.mail.workers:2}") int workerCount,
+                          @Value("${app.mail.batch-size:20}") int batchSize,
+                          @Value("${app.mail.max-attempts:5}") int maxAttempts,
+                          @Value("${app.mail.backoff-ms:1000}") long backoffMillis,
+                          @Value("${app.mail.lease-ms:360000}") long leaseMillis,
+                          @Value("${app.mail.poll-interval-ms:1000}") long pollIntervalMillis,
+                          @Value("${app.mail.retention-days:7}") int retentionDays,
+                          @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}") long connectTimeoutMillis,
+                          @Value("${spring.mail.properties.mail.smtp.timeout:5000}") long readTimeoutMillis,
+                          @Value("${spring.mail.properties.mail.smtp.writetimeout:5000}") long writeTimeoutMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.fromAddress = fromAddress;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.leaseMillis = resolveLeaseMillis(leaseMillis, batchSize, connectTimeoutMillis + readTimeoutMillis + writeTimeoutMillis);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retentionDays = retentionDays;
+
+        this.sentCounter = meterRegistry.counter("mail.outbox.messages", "result", "sent");
+        this.retriedCounter = meterRegistry.counter("mail.outbox.messages", "result", "retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.messages", "result", "failed");
+        this.sendTimer = meterRegistry.timer("mail.smtp.send"); // 배치 하나의 SMTP 발송 시간
+        this.deliveryDelayTimer = meterRegistry.timer("mail.outbox.delivery.delay"); // 저장부터 발송 완료까지
+        meterRegistry.gauge("mail.outbox.backlog", backlog);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorkerLoop, "mail-dispatcher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // 종료 시 진행 중인 배치만 마무리 (남은 메일은 선점 만료 후 다른 인스턴스나 재기동 시 발송)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // 발송할 메일을 아웃박스에 저장 (호출 트랜잭션과 함께 커밋되며, 커밋 이후 워커를 바로 깨움)
+    public void enqueue(String recipient, String subject, String text) {
+        mailOutboxRepository.save(new MailOutbox(recipient, subject, text, LocalDateTime.now()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    // 발송 대기 건수 갱신 (메트릭 수집용)
+    @Scheduled(fixedDelayString = "${app.mail.backlog-refresh-ms:10000}")
+    public void refreshBacklog() {
+        try {
+            backlog.set(mailOutboxRepository.countByStatusIn(BACKLOG_STATUSES));
+        } catch (Exception e) {
+            log.warn("[Mail] Failed to refresh outbox backlog", e);
+        }
+    }
+
+    // 보관 기간이 지난 발송 완료/최종 실패 메일 정리
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = transactionTemplate.execute(status -> mailOutboxRepository.deleteFinishedBefore(cutoff, PURGE_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        log.info("[Mail] Purged {} finished outbox messages before {}", total, cutoff);
+    }
+
+    private void wakeUp() {
+        if (wakeUpSignal.availablePermits() < workerCount) {
+            wakeUpSignal.release();
+        }
+    }
+
+    private void runWorkerLoop() {
+        while (running) {
+            try {
+                List<MailOutbox> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    if (!awaitWakeUp()) {
+                        return;
+                    }
+                    continue;
+                }
+                send(batch);
+            } catch (Exception e) {
+                log.error("[Mail] Unexpected error in dispatcher loop", e);
+                if (!awaitWakeUp()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 새 메일 저장 알림 또는 폴링 주기까지 대기 (재시도 대기 건, 다른 인스턴스에서 저장된 건은 폴링으로 처리)
+    private boolean awaitWakeUp() {
+        try {
+            wakeUpSignal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 발송 시각이 된 메일을 잠금 후 선점 (선점 만료 전까지 다른 워커/인스턴스가 가져가지 않음)
+    private List<MailOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis));
+        return transactionTemplate.execute(status -> {
+            List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(now, batchSize);
+            due.forEach(mail -> mail.claim(leaseUntil));
+            return due;
+        });
+    }
+
+    private void send(List<MailOutbox> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+
+        // JavaMailSenderImpl 은 한 번의 호출에서 SMTP 연결 하나로 모든 메시지를 발송하고, 실패한 메시지만 모아 예외로 알려줌
+        Map<Object, Exception> failures = Map.of();
+        MailException batchFailure = null;
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        } finally {
+            sample.stop(sendTimer);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        List<FailedMail> failedMails = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            if (failure == null) {
+                sentIds.add(batch.get(i).getId());
+                deliveryDelayTimer.record(Duration.between(batch.get(i).getCreatedAt(), now));
+            } else {
+                failedMails.add(new FailedMail(batch.get(i), failure));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, now);
+            }
+            failedMails.forEach(failed -> recordFailure(failed, now));
+        });
+        sentCounter.increment(sentIds.size());
+    }
+
+    // 최대 시도 횟수 전까지는 지수 백오프(+지터)로 재시도
+    private void recordFailure(FailedMail failed, LocalDateTime now) {
+        MailOutbox mail = failed.mail();
+        String error = truncate(failed.cause().getMessage());
+
+        if (mail.getAttempts() >= maxAttempts) {
+            failedCounter.increment();
+            log.error("[Mail] Giving up outbox id={} after {} attempts: {}", mail.getId(), mail.getAttempts(), error);
+            mailOutboxRepository.markFailed(mail.getId(), MailOutboxStatus.FAILED, mail.getNextAttemptAt(), error, now);
+            return;
+        }
+
+        retriedCounter.increment();
+        long delay = backoffMillis * (1L << Math.min(mail.getAttempts() - 1, 16));
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, delay / 2));
+        LocalDateTime retryAt = now.plus(Duration.ofMillis(delay + jitter));
+        log.warn("[Mail] Attempt {} failed for outbox id={}, retrying at {}: {}", mail.getAttempts(), mail.getId(), retryAt, error);
+        mailOutboxRepository.markFailed(mail.getId(), MailOutboxStatus.PENDING, retryAt, error, now);
+    }
+
+    // 선점은 배치 발송이 끝나기 전에 만료되면 안 됨 (만료되면 다른 워커가 같은 메일을 중복 발송)
+    // 배치 최악 시간 = 배치 크기 x 메시지당 SMTP 제한 시간(연결 + 응답 + 쓰기), 설정값이 이보다 짧으면 여유를 더해 늘림
+    static long resolveLeaseMillis(long configuredMillis, int batchSize, long perMessageTimeoutMillis) {
+        long worstBatchMillis = batchSize * perMessageTimeoutMillis;
+        if (configuredMillis > worstBatchMillis) {
+            return configuredMillis;
+        }
+        long leaseMillis = worstBatchMillis + LEASE_MARGIN_MILLIS;
+        log.warn("[Mail] app.mail.lease-ms={} is shorter than a worst-case batch ({} ms), using {} ms",
+                configuredMillis, worstBatchMillis, leaseMillis);
+        return leaseMillis;
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setFrom(fromAddress);
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private record FailedMail(MailOutbox mail, Exception cause) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.looky.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 네이버 지도 Geocoding API 클라이언트
+@Slf4j
+public class NaverGeocodingClient implements GeocodingClient {
+
+    private static final String NAVER_GEOCODE_URL = "https://maps.apigw.ntruss.com/map-geocode/v2/geocode";
+
+    private final RestTemplate restTemplate;
+    private final HttpHeaders headers;
+
+    public NaverGeocodingClient(RestTemplate restTemplate, String clientId, String clientSecret) {
+        this.restTemplate = restTemplate;
+        this.headers = new HttpHeaders();
+        this.headers.set("X-NCP-APIGW-API-KEY-ID", clientId != null ? clientId.trim() : "");
+        this.headers.set("X-NCP-APIGW-API-KEY", clientSecret != null ? clientSecret.trim() : "");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Coordinate> geocode(String address) {
+        // 요청 URL 생성 (URLEncoder 사용)
+        String encodedQuery = URLEncoder.encode(address, StandardCharsets.UTF_8);
+        URI uri = URI.create(NAVER_GEOCODE_URL + "?query=" + encodedQuery);
+
+        log.debug("[Geocoding] Generated URI: {}", uri);
+
+        ResponseEntity<Map> response = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<Void>(headers), Map.class);
+        Map<String, Object> body = response.getBody();
+
+        if (body == null || !body.containsKey("addresses")) {
+            throw new IllegalStateException("API 응답 오류");
+        }
+
+        List<Map<String, Object>> addresses = (List<Map<String, Object>>) body.get("addresses");
+        if (addresses.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 첫 번째 결과 사용
+        Map<String, Object> firstResult = addresses.get(0);
+        double latitude = Double.parseDouble((String) firstResult.get("y"));
+        double longitude = Double.parseDouble((String) firstResult.get("x"));
+        return Optional.of(new Coordinate(latitude, longitude));
+    }
+}
@@ -0,0 +1,69 @@
+package com.looky.common.util;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (createdAt, id) 내림차순 키셋 페이지 요청
+// 커서는 직전 페이지 마지막 항목의 createdAt/id 를 Base64(URL-safe) 로 인코딩한 문자열 (첫 페이지는 null)
+public record CursorRequest(LocalDateTime createdAt, Long id, int size) {
+
+    public static final int MAX_SIZE = 100;
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final String SEPARATOR = "_";
+
+    public static CursorRequest of(String cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new CursorRequest(null, null, size);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new CursorRequest(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)),
+                    size);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "잘못된 커서입니다.");
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (COUNT 쿼리 없음)
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    public Pageable pageable() {
+        return PageRequest.of(0, fetchSize());
+    }
+
+    // Specification 기반 조회용 조건: createdAt < ? OR (createdAt = ? AND id < ?)
+    public <T> Specification<T> toSpecification() {
+        return (root, query, cb) -> {
+            if (createdAt == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package com.looky.common.util;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 대용량 엑셀(.xlsx) 첫 번째 시트를 SAX 이벤트 방식으로 한 행씩 읽는 유틸 (워크북 전체를 메모리에 올리지 않음)
+public class ExcelStreamReader {
+
+    private static final ExcelCell EMPTY_CELL = new ExcelCell("", null, false);
+
+    private ExcelStreamReader() {
+    }
+
+    public static void readFirstSheet(File file, Consumer<ExcelRow> rowConsumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new SheetHandler(strings, styles, new DataFormatter(), rowConsumer));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 셀 값: 표시 문자열(서식 적용), 숫자 셀의 원본 값(<v>, 숫자 셀이 아니면 null), 날짜 서식 여부
+    public record ExcelCell(String text, Double number, boolean date) {
+    }
+
+    // 한 행의 셀 값 (빈 셀은 "")
+    public record ExcelRow(int rowNum, List<ExcelCell> cells) {
+
+        // 텍스트 열: 서식이 적용된 문자열
+        public String get(int index) {
+            return cell(index).text();
+        }
+
+        // 숫자 열: 표시 서식(소수 자릿수, 천 단위 구분 등)과 무관한 원본 값, 텍스트로 입력된 숫자는 문자열로 파싱
+        public Double getNumber(int index) {
+            ExcelCell cell = cell(index);
+            if (cell.number() != null) {
+                return cell.number();
+            }
+            return cell.text().isEmpty() ? null : Double.valueOf(cell.text());
+        }
+
+        // 날짜 열: 날짜 서식 숫자 셀은 원본 일련번호로 변환, 텍스트는 yyyy-MM-dd 로 파싱 (빈 셀/형식 오류는 DateTimeParseException)
+        public LocalDate getDate(int index) {
+            ExcelCell cell = cell(index);
+            if (cell.date()) {
+                return DateUtil.getLocalDateTime(cell.number()).toLocalDate();
+            }
+            return LocalDate.parse(cell.text());
+        }
+
+        public boolean isBlank() {
+            return cells.stream().allMatch(cell -> cell.text().isBlank());
+        }
+
+        private ExcelCell cell(int index) {
+            return index < cells.size() ? cells.get(index) : EMPTY_CELL;
+        }
+    }
+
+    // 시트 XML(<row>/<c>/<v>) 을 직접 읽어 숫자 셀의 원본 값을 함께 보관
+    private static class SheetHandler extends DefaultHandler {
+
+        private final SharedStrings strings;
+        private final StylesTable styles;
+        private final DataFormatter formatter;
+        private final Consumer<ExcelRow> rowConsumer;
+
+        private int rowNum = -1;
+        private List<ExcelCell> cells = new ArrayList<>();
+
+        private int column;
+        private String cellType;
+        private String styleIndex;
+        private final StringBuilder value = new StringBuilder();
+        private boolean inValue;
+        private boolean inInlineString;
+
+        private SheetHandler(SharedStrings strings, StylesTable styles, DataFormatter formatter, Consumer<ExcelRow> rowConsumer) {
+            this.strings = strings;
+            this.styles = styles;
+            this.formatter = formatter;
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String ref = attributes.getValue("r");
+                    rowNum = ref != null ? Integer.parseInt(ref) - 1 : rowNum + 1;
+                    cells = new ArrayList<>();
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    column = ref != null ? new CellReference(ref).getCol() : cells.size();
+                    cellType = attributes.getValue("t");
+                    styleIndex = attributes.getValue("s");
+                    value.setLength(0);
+                }
+                case "v" -> inValue = true;
+                case "is" -> inInlineString = true;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inInlineString) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> inValue = false;
+                case "is" -> inInlineString = false;
+                case "c" -> addCell(toCell(value.toString()));
+                case "row" -> rowConsumer.accept(new ExcelRow(rowNum, Collections.unmodifiableList(cells)));
+                default -> {
+                }
+            }
+        }
+
+        private void addCell(ExcelCell cell) {
+            // 비어 있는 셀은 이벤트가 오지 않으므로 열 위치를 맞춰 채움
+            while (cells.size() < column) {
+                cells.add(EMPTY_CELL);
+            }
+            cells.add(cell);
+        }
+
+        private ExcelCell toCell(String raw) {
+            if (raw.isEmpty()) {
+                return EMPTY_CELL;
+            }
+            if (cellType == null || cellType.equals("n")) {
+                double number = Double.parseDouble(raw);
+                XSSFCellStyle style = resolveStyle();
+                if (style == null) {
+                    return new ExcelCell(formatter.formatRawCellContents(number, 0, "General").trim(), number, false);
+                }
+                int formatIndex = style.getDataFormat();
+                String formatString = style.getDataFormatString() != null
+                        ? style.getDataFormatString()
+                        : BuiltinFormats.getBuiltinFormat(formatIndex);
+                boolean date = DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(number);
+                return new ExcelCell(formatter.formatRawCellContents(number, formatIndex, formatString).trim(), number, date);
+            }
+            return switch (cellType) {
+                case "s" -> new ExcelCell(strings.getItemAt(Integer.parseInt(raw)).getString().trim(), null, false);
+                case "b" -> new ExcelCell("0".equals(raw) ? "FALSE" : "TRUE", null, false);
+                case "e" -> EMPTY_CELL;
+                default -> new ExcelCell(raw.trim(), null, false); // inlineStr, str(수식 결과), d(ISO 날짜 문자열)
+            };
+        }
+
+        private XSSFCellStyle resolveStyle() {
+            if (styles == null) {
+                return null;
+            }
+            if (styleIndex != null) {
+                return styles.getStyleAt(Integer.parseInt(styleIndex));
+            }
+            return styles.getNumCellStyles() > 0 ? styles.getStyleAt(0) : null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.looky.common.util;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 대용량 엑셀(.xlsx)을 SXSSF 로 한 행씩 쓰는 유틸 (최근 ROW_WINDOW 행만 메모리에 두고 나머지는 압축 임시 파일로 내림)
+public class ExcelStreamWriter {
+
+    public static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final int ROW_WINDOW = 100;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ExcelStreamWriter() {
+    }
+
+    // 헤더 + 행 스트림을 시트 하나로 작성해 out 에 바로 씀 (out 은 닫지 않음)
+    public static <T> void writeSheet(OutputStream out, String sheetName, List<Column<T>> columns, Stream<T> rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                headerRow.createCell(i).setCellValue(columns.get(i).header());
+            }
+
+            int rowIdx = 1;
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                Row row = sheet.createRow(rowIdx++);
+                for (int i = 0; i < columns.size(); i++) {
+                    setCellValue(row.createCell(i), columns.get(i).value().apply(item));
+                }
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    // 다운로드 파일명 (예: users_2026-01-01.xlsx, 날짜는 Asia/Seoul 기준)
+    public static String filename(String prefix) {
+        return prefix + "_" + LocalDate.now(ZONE_ID) + ".xlsx";
+    }
+
+    private static void setCellValue(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime.format(DATE_TIME_FORMAT));
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    // 열 헤더와 값 추출 함수
+    public record Column<T>(String header, Function<T, ?> value) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.looky.common.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 사용자 검색어 -> MySQL BOOLEAN MODE 검색식 변환
+// 불리언 연산자 문자를 제거하고 공백으로 나눈 단어를 모두 포함(+)하도록 조합 (ngram 파서가 단어를 구문 검색으로 처리)
+public final class FullTextQuery {
+
+    public static final int NGRAM_TOKEN_SIZE = 2; // MySQL ngram_token_size 기본값
+
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextQuery() {
+    }
+
+    // 변환할 수 없으면 null (빈 검색어 또는 ngram 토큰보다 짧은 단어 포함 시 LIKE 검색으로 대체)
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        List<String> terms = Arrays.stream(keyword.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < NGRAM_TOKEN_SIZE)) {
+            return null;
+        }
+
+        return terms.stream()
+                .map(term -> "+" + term)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,72 @@
+package com.looky.common.util;
+
+// 한글 음절 자모 분해 / 초성 추출 (입력 중인 음절과 초성 검색어를 접두 비교하기 위함)
+// 겹모음/겹받침도 낱자로 풀어 "달" -> "닭", "스탑" -> "스타벅스" 처럼 입력 도중 상태가 접두어가 되도록 함
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    // 한글 음절을 자모 낱자로 분해 (한글 음절 외 문자는 그대로)
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BEGIN;
+                builder.append(CHO[code / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(code % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[code % JONG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // 한글 음절을 초성으로 치환 (한글 음절 외 문자는 그대로)
+    public static String choseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isSyllable(c) ? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)] : String.valueOf(c));
+        }
+        return builder.toString();
+    }
+
+    // 자음(ㄱ~ㅎ)으로만 이루어진 초성 검색어인지
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,54 @@
+package com.looky.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+// 토큰 버킷 처리율 제한기 (capacity 만큼 순간 허용, 초당 refillPerSecond 개씩 충전)
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 refillPerSecond 는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰이 있으면 1개 소비 후 0, 없으면 다음 토큰이 충전될 때까지 남은 시간 (나노초)
+    public synchronized long tryConsumeOrWaitNanos() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    // 토큰을 얻을 때까지 대기 후 1개 소비
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
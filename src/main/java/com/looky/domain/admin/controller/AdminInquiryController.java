@@ -1,8 +1,11 @@
 package com.looky.domain.admin.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
 import com.looky.domain.inquiry.dto.InquiryResponse;
 import com.looky.domain.inquiry.service.InquiryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,10 +20,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Admin Inquiry", description = "관리자 문의 관리 API")
 @RestController
@@ -42,4 +48,34 @@ public class AdminInquiryController {
         Page<InquiryResponse> page = inquiryService.getAllInquiries(pageable);
         return ResponseEntity.ok(CommonResponse.success(PageResponse.from(page)));
     }
+
+    @Operation(summary = "[관리자] 문의 전체 목록 커서 조회", description = "paging=cursor 로 요청하면 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 아님)", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping(params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<InquiryResponse>>> getAllInquiriesByCursor(
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<InquiryResponse> response = inquiryService.getAllInquiriesByCursor(CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "[관리자] 문의 전체 목록 엑셀 다운로드", description = "모든 사용자의 문의 내역을 최신순으로 엑셀 파일에 담아 스트리밍으로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 아님)", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = ExcelStreamWriter.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportAllInquiries() {
+        StreamingResponseBody body = out -> inquiryService.exportAllInquiries(out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, ExcelStreamWriter.CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + ExcelStreamWriter.filename("inquiries") + "\"")
+                .body(body);
+    }
 }
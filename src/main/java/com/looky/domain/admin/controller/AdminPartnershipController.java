@@ -2,6 +2,7 @@ package com.looky.domain.admin.controller;
 
 import com.looky.common.response.CommonResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.ExcelStreamWriter;
 import com.looky.domain.admin.service.AdminPartnershipService;
 import com.looky.domain.partnership.dto.CreatePartnershipRequest;
 import com.looky.domain.partnership.dto.PartnershipResponse;
@@ -23,8 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Admin Partnership", description = "관리자 제휴 관련 API (일반/엑셀)")
@@ -103,16 +104,17 @@ public class AdminPartnershipController {
             @ApiResponse(responseCode = "200", description = "다운로드 성공"),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
     })
-    @GetMapping(value = "/partnerships/template", produces = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-    public ResponseEntity<byte[]> exportPartnershipTemplate(
+    @GetMapping(value = "/partnerships/template", produces = ExcelStreamWriter.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportPartnershipTemplate(
             @Parameter(description = "대상 대학 ID") @RequestParam Long universityId,
-            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) throws IOException {
-        var result = adminPartnershipService.exportPartnershipTemplate(universityId);
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        String filename = adminPartnershipService.getPartnershipTemplateFilename(universityId);
+        StreamingResponseBody body = out -> adminPartnershipService.writePartnershipTemplate(universityId, out);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + result.filename() + "\"")
-                .body(result.content());
+                .header(HttpHeaders.CONTENT_TYPE, ExcelStreamWriter.CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     @Operation(summary = "[학생회/관리자] 제휴 엑셀로 등록", description = "엑셀 파일을 업로드하여 제휴 정보를 일괄 등록/수정합니다.")
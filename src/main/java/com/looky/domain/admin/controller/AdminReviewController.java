@@ -0,0 +1,36 @@
+package com.looky.domain.admin.controller;
+
+import com.looky.common.response.CommonResponse;
+import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.domain.review.service.StoreReviewSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "관리자 API")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminReviewController {
+
+    private final StoreReviewSummaryService storeReviewSummaryService;
+
+    @Operation(summary = "[관리자] 상점 리뷰 집계 재계산", description = "리뷰 테이블 기준으로 상점별 리뷰 수/평점 집계를 다시 계산합니다. 재계산된 상점 수를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재계산 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @PostMapping("/reviews/summaries/rebuild")
+    public ResponseEntity<CommonResponse<Integer>> rebuildReviewSummaries() {
+        return ResponseEntity.ok(CommonResponse.success(storeReviewSummaryService.rebuildAll()));
+    }
+}
@@ -2,6 +2,9 @@ package com.looky.domain.admin.controller;
 
 import com.looky.common.response.CommonResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.domain.admin.dto.GeocodingStatusResponse;
+import com.looky.domain.admin.dto.SearchIndexStatusResponse;
+import com.looky.domain.admin.dto.StoreImportResponse;
 import com.looky.domain.admin.service.AdminStoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -27,16 +31,38 @@ public class AdminStoreController {
 
     private final AdminStoreService adminStoreService;
 
-    @Operation(summary = "[관리자] 상점 데이터 엑셀 업로드", description = "상권 데이터를 엑셀로 업로드하여 DB에 저장 및 보정합니다.")
+    @Operation(summary = "[관리자] 상점 데이터 엑셀 업로드", description = "상권 데이터를 엑셀로 업로드하여 DB에 저장 및 보정합니다. 행 단위로 검증하여 오류 행만 제외하고 저장하며, 처리 결과와 행별 오류 목록을 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "업로드 성공 (작업 시작됨)"),
+            @ApiResponse(responseCode = "200", description = "업로드 처리 완료 (행별 오류 포함)"),
             @ApiResponse(responseCode = "400", description = "잘못된 파일", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+            @ApiResponse(responseCode = "415", description = "xlsx 형식이 아닌 파일", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
     })
     @PostMapping(value = "/stores/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<CommonResponse<String>> uploadStoreData(
+    public ResponseEntity<CommonResponse<StoreImportResponse>> uploadStoreData(
             @Parameter(description = "엑셀 파일 (.xlsx)", content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)) @RequestPart("file") MultipartFile file) {
-        adminStoreService.uploadStoreData(file);
-        return ResponseEntity.ok(CommonResponse.success("상점 데이터 업로드가 정상적으로 시작되었습니다.)"));
+        StoreImportResponse response = adminStoreService.uploadStoreData(file);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "[관리자] 지오코딩 처리 현황 조회", description = "상점 좌표 보정 대기열 크기, 처리/실패 건수, 주소 캐시 적중 수와 관리자 확인이 필요한 상점 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/stores/geocoding/status")
+    public ResponseEntity<CommonResponse<GeocodingStatusResponse>> getGeocodingStatus() {
+        GeocodingStatusResponse response = adminStoreService.getGeocodingStatus();
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "[관리자] 검색 자동완성 재색인", description = "상점/상품/소식 검색 자동완성 인덱스를 DB 기준으로 다시 만듭니다. 요청을 처리한 서버 인스턴스의 인덱스만 재색인됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재색인 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 에러", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @PostMapping("/search/reindex")
+    public ResponseEntity<CommonResponse<SearchIndexStatusResponse>> reindexSearch() {
+        SearchIndexStatusResponse response = adminStoreService.reindexSearch();
+        return ResponseEntity.ok(CommonResponse.success(response));
     }
 }
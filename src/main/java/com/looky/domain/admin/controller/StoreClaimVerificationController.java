@@ -1,6 +1,9 @@
 package com.looky.domain.admin.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
 import com.looky.domain.admin.dto.StoreClaimRejectionRequest;
 import com.looky.domain.admin.dto.StoreClaimResponse;
 import com.looky.domain.admin.service.StoreClaimVerificationService;
@@ -13,8 +16,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "StoreClaim", description = "상점 소유권 요청 심사 API")
 @RestController
@@ -34,6 +39,30 @@ public class StoreClaimVerificationController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @Operation(summary = "[관리자] 상점 소유권 요청 목록 커서 조회", description = "paging=cursor 로 요청하면 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping(params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<StoreClaimResponse>>> getStoreClaimsByCursor(
+            @Parameter(description = "요청 상태 (PENDING, APPROVED, REJECTED, CANCELED)")
+            @RequestParam(required = false) StoreClaimStatus status,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<StoreClaimResponse> response = storeClaimVerificationService.getStoreClaimsByCursor(status, CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "[관리자] 상점 소유권 요청 목록 엑셀 다운로드", description = "상점 소유권 요청 목록을 최신순으로 엑셀 파일에 담아 스트리밍으로 내려받습니다. status 파라미터로 상태별 다운로드가 가능합니다.")
+    @GetMapping(value = "/export", produces = ExcelStreamWriter.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportStoreClaims(
+            @Parameter(description = "요청 상태 (PENDING, APPROVED, REJECTED, CANCELED)")
+            @RequestParam(required = false) StoreClaimStatus status) {
+        StreamingResponseBody body = out -> storeClaimVerificationService.exportStoreClaims(status, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, ExcelStreamWriter.CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + ExcelStreamWriter.filename("store_claims") + "\"")
+                .body(body);
+    }
+
     @Operation(summary = "[관리자] 상점 소유권 요청 승인", description = "상점 소유권 요청을 승인합니다.")
     @PostMapping("/{claimId}/approve")
     public ResponseEntity<CommonResponse<Void>> approve(@PathVariable Long claimId) {
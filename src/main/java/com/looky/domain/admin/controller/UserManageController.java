@@ -1,11 +1,14 @@
 package com.looky.domain.admin.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.domain.admin.dto.UserResponse;
 import com.looky.domain.admin.dto.UserRoleUpdateRequest;
 import com.looky.domain.admin.service.UserManageService;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,8 +20,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Admin", description = "관리자 API")
 @RestController
@@ -42,6 +47,37 @@ public class UserManageController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @Operation(summary = "[관리자] 전체 사용자 목록 커서 조회", description = "paging=cursor 로 요청하면 최근 가입순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping(params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<UserResponse>>> getAllUsersByCursor(
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size
+    )
+    {
+        CursorResponse<UserResponse> response = userManageService.getAllUsersByCursor(CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "[관리자] 전체 사용자 엑셀 다운로드", description = "가입된 모든 사용자를 최근 가입순으로 엑셀 파일에 담아 스트리밍으로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = ExcelStreamWriter.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = out -> userManageService.exportUsers(out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, ExcelStreamWriter.CONTENT_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + ExcelStreamWriter.filename("users") + "\"")
+                .body(body);
+    }
+
     @Operation(summary = "[관리자] 사용자 권한 수정", description = "사용자의 권한을 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -0,0 +1,39 @@
+package com.looky.domain.admin.dto;
+
+import com.looky.common.service.GeocodingService.GeocodingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GeocodingStatusResponse {
+    private int queued; // 대기열 적재 건수
+    private int inProgress; // 처리 중 건수
+    private long requested; // 이하 기동 이후 누적 (인스턴스별)
+    private long resolved;
+    private long notFound;
+    private long failed;
+    private long rejected; // 대기열 초과로 거절
+    private long cacheHits;
+    private long apiCalls;
+    private long retries;
+    private long needToCheckStores; // 관리자 확인 필요 상점 수 (DB 기준)
+
+    public static GeocodingStatusResponse of(GeocodingStatus status, long needToCheckStores) {
+        return GeocodingStatusResponse.builder()
+                .queued(status.queued())
+                .inProgress(status.inProgress())
+                .requested(status.requested())
+                .resolved(status.resolved())
+                .notFound(status.notFound())
+                .failed(status.failed())
+                .rejected(status.rejected())
+                .cacheHits(status.cacheHits())
+                .apiCalls(status.apiCalls())
+                .retries(status.retries())
+                .needToCheckStores(needToCheckStores)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.looky.domain.admin.dto;
+
+import com.looky.domain.search.service.SearchSuggestIndex.IndexStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SearchIndexStatusResponse {
+    private int documentCount; // 색인된 상점/상품/소식 수 (인스턴스별)
+    private int keyCount; // 접두 검색 키 수
+    private LocalDateTime builtAt; // 마지막 스냅샷 교체 시각
+
+    public static SearchIndexStatusResponse from(IndexStatus status) {
+        return SearchIndexStatusResponse.builder()
+                .documentCount(status.documentCount())
+                .keyCount(status.keyCount())
+                .builtAt(status.builtAt())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.looky.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoreImportResponse {
+    private int totalRows; // 헤더 제외 처리 대상 행 수
+    private int createdCount;
+    private int updatedCount;
+    private int failedCount;
+    private int geocodingRequestedCount; // 좌표가 없어 지오코딩 요청된 상점 수
+    private List<String> errors; // "Line N: 사유" (최대 1000건)
+    private boolean errorsTruncated;
+}
@@ -2,6 +2,10 @@ package com.looky.domain.admin.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.util.ExcelStreamReader;
+import com.looky.common.util.ExcelStreamReader.ExcelRow;
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
 import com.looky.domain.organization.entity.Organization;
 import com.looky.domain.organization.entity.UserOrganization;
 import com.looky.domain.organization.entity.University;
@@ -10,31 +14,48 @@ import com.looky.domain.organization.repository.UniversityRepository;
 import com.looky.domain.organization.repository.UserOrganizationRepository;
 import com.looky.domain.partnership.dto.CreatePartnershipRequest;
 import com.looky.domain.partnership.dto.PartnershipResponse;
+import com.looky.domain.partnership.dto.PartnershipTemplateRow;
+import com.looky.domain.partnership.dto.StorePartnershipId;
 import com.looky.domain.partnership.dto.UpdatePartnershipRequest;
 import com.looky.domain.partnership.entity.Partnership;
+import com.looky.domain.partnership.entity.PartnershipStatus;
+import com.looky.domain.partnership.repository.PartnershipJdbcRepository;
+import com.looky.domain.partnership.repository.PartnershipJdbcRepository.BenefitUpdate;
+import com.looky.domain.partnership.repository.PartnershipJdbcRepository.PartnershipValues;
 import com.looky.domain.partnership.repository.PartnershipRepository;
 import com.looky.domain.store.entity.Store;
-import com.looky.domain.store.entity.StoreUniversity;
 import com.looky.domain.store.repository.StoreRepository;
 import com.looky.domain.store.repository.StoreUniversityRepository;
+import com.looky.domain.store.service.StoreBenefitIndex;
 import com.looky.domain.user.entity.Role;
 import com.looky.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.UnsupportedFileFormatException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,6 +70,12 @@ public class AdminPartnershipService {
     private final UserOrganizationRepository userOrganizationRepository;
     private final StoreUniversityRepository storeUniversityRepository;
     private final UniversityRepository universityRepository;
+    private final StoreBenefitIndex storeBenefitIndex;
+    private final PartnershipJdbcRepository partnershipJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int ID_CHUNK_SIZE = 1000; // 상점 ID IN 조회 단위
+    private static final int MAX_REPORTED_ERRORS = 1000;
 
     private static final String[] HEADERS = {
             "universityId", "storeId", "storeName", "branch", "roadAddress", "benefitDetail", "startDate", "endDate"
@@ -84,6 +111,7 @@ public class AdminPartnershipService {
                 .build();
 
         partnershipRepository.save(partnership);
+        storeBenefitIndex.refreshStore(store.getId());
 
         return partnership.getId();
     }
@@ -97,6 +125,7 @@ public class AdminPartnershipService {
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "제휴 정보를 찾을 수 없습니다."));
 
         partnership.updateBenefit(request.getBenefit(), request.getStartsAt(), request.getEndsAt());
+        storeBenefitIndex.refreshStore(partnership.getStore().getId());
     }
 
     // 제휴 삭제 (Admin)
@@ -107,6 +136,7 @@ public class AdminPartnershipService {
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "제휴 정보를 찾을 수 없습니다."));
 
         partnershipRepository.delete(partnership);
+        storeBenefitIndex.refreshStore(partnership.getStore().getId());
     }
 
     // 대학별 제휴 목록 조회
@@ -124,84 +154,97 @@ public class AdminPartnershipService {
                 .collect(Collectors.toList());
     }
 
-    // 엑셀 템플릿 내보내기 (특정 대학 소속 상점 리스트)
-    public PartnershipTemplateResult exportPartnershipTemplate(Long universityId) throws IOException {
+    // 엑셀 템플릿 파일명 (대학 존재 확인을 위해 응답 스트리밍 시작 전에 호출)
+    public String getPartnershipTemplateFilename(Long universityId) {
         University university = universityRepository.findById(universityId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "대학을 찾을 수 없습니다."));
 
         String domainPrefix = university.getEmailDomain().split("\\.")[0];
-        String filename = domainPrefix + "_partnership_template.xlsx";
-
-        List<StoreUniversity> storeUniversities = storeUniversityRepository.findByUniversityId(universityId);
-
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Partnerships");
-
-            // 헤더
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < HEADERS.length; i++) {
-                headerRow.createCell(i).setCellValue(HEADERS[i]);
-            }
-
-            // 본문
-            int rowIdx = 1;
-            for (StoreUniversity su : storeUniversities) {
-                Store store = su.getStore();
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(universityId); // 대학 ID (숨김/보호 로직 추가 가능)
-                row.createCell(1).setCellValue(store.getId());
-                row.createCell(2).setCellValue(store.getName());
-                row.createCell(3).setCellValue(store.getBranch());
-                row.createCell(4).setCellValue(store.getRoadAddress());
-            }
-
-            workbook.write(out);
-            return new PartnershipTemplateResult(out.toByteArray(), filename);
-        }
+        return domainPrefix + "_partnership_template.xlsx";
     }
 
-    public record PartnershipTemplateResult(byte[] content, String filename) {
+    // 엑셀 템플릿 내보내기 (특정 대학 소속 상점 리스트를 한 행씩 읽어 응답 스트림에 바로 씀)
+    public void writePartnershipTemplate(Long universityId, OutputStream out) throws IOException {
+        List<Column<PartnershipTemplateRow>> columns = List.of(
+                new Column<>(HEADERS[0], row -> universityId), // 대학 ID (숨김/보호 로직 추가 가능)
+                new Column<>(HEADERS[1], PartnershipTemplateRow::storeId),
+                new Column<>(HEADERS[2], PartnershipTemplateRow::name),
+                new Column<>(HEADERS[3], PartnershipTemplateRow::branch),
+                new Column<>(HEADERS[4], PartnershipTemplateRow::roadAddress),
+                new Column<>(HEADERS[5], row -> null),
+                new Column<>(HEADERS[6], row -> null),
+                new Column<>(HEADERS[7], row -> null)
+        );
+
+        try (Stream<PartnershipTemplateRow> rows = storeUniversityRepository.streamTemplateRowsByUniversityId(universityId)) {
+            ExcelStreamWriter.writeSheet(out, "Partnerships", columns, rows);
+        }
     }
 
     // 엑셀 업로드 및 처리
-    @Transactional
+    // 시트를 스트리밍으로 읽은 뒤 상점/관할 구역/기존 제휴를 IN 조회로 일괄 검증하고 JDBC 배치로 반영 (오류가 하나라도 있으면 전체 거부)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void importPartnershipData(MultipartFile file, User user, Long targetOrganizationId) {
-        Organization uploaderOrganization = resolveOrganization(user, targetOrganizationId);
-
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+        ImportTarget target = transactionTemplate.execute(status -> {
+            Organization organization = resolveOrganization(user, targetOrganizationId);
+            return new ImportTarget(organization.getId(), organization.getUniversity().getId());
+        });
 
-            // 1. 헤더 검증
-            validateHeaders(sheet.getRow(0));
-
-            List<String> errorMessages = new ArrayList<>();
-            List<PartnershipData> validDataList = new ArrayList<>();
-
-            // 2. Row별 검증
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null)
-                    continue;
+        Path tempFile = null;
+        try {
+            // 파일 기반으로 열어야 압축 해제된 시트 전체를 메모리에 올리지 않음
+            tempFile = Files.createTempFile("partnership-upload-", ".xlsx");
+            file.transferTo(tempFile);
+
+            ImportErrors errors = new ImportErrors();
+            List<PartnershipData> rows = new ArrayList<>();
+            boolean[] headerValidated = {false};
+
+            // 1. 헤더 검증 및 Row별 파싱
+            ExcelStreamReader.readFirstSheet(tempFile.toFile(), row -> {
+                if (!headerValidated[0]) {
+                    validateHeaders(row);
+                    headerValidated[0] = true;
+                    return;
+                }
+                if (row.isBlank()) {
+                    return;
+                }
 
                 try {
-                    PartnershipData data = parseRow(row, i);
-                    validateRowData(data, uploaderOrganization, i);
-                    validDataList.add(data);
+                    rows.add(parseRow(row));
                 } catch (IllegalArgumentException e) {
-                    errorMessages.add(e.getMessage());
+                    errors.add(e.getMessage());
                 }
-            }
+            });
 
-            // 에러가 하나라도 있으면 전체 거부
-            if (!errorMessages.isEmpty()) {
-                throw new CustomException(ErrorCode.BAD_REQUEST, String.join("\n", errorMessages));
+            if (!headerValidated[0]) {
+                throw new CustomException(ErrorCode.BAD_REQUEST, "헤더가 없습니다.");
             }
 
-            // 3. DB 반영 (Upsert)
-            applyPartnershipUpsert(validDataList, uploaderOrganization);
+            transactionTemplate.executeWithoutResult(status -> {
+                // 2. 상점/관할 구역 일괄 검증
+                validateRows(rows, target.universityId(), errors);
 
+                // 에러가 하나라도 있으면 전체 거부
+                if (errors.hasErrors()) {
+                    throw new CustomException(ErrorCode.BAD_REQUEST, errors.toMessage());
+                }
+
+                // 3. DB 반영 (Upsert, 같은 상점이 여러 번 나오면 마지막 행 기준)
+                Map<Long, PartnershipData> rowsByStoreId = new LinkedHashMap<>();
+                rows.forEach(data -> rowsByStoreId.put(data.storeId(), data));
+                applyPartnershipUpsert(rowsByStoreId.values(), target.organizationId());
+            });
+
+            log.info("[PartnershipImport] organizationId={}, rows={}", target.organizationId(), rows.size());
+
+        } catch (UnsupportedFileFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, "xlsx 형식의 엑셀 파일만 업로드할 수 있습니다.");
         } catch (IOException e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "엑셀 처리 중 오류가 발생했습니다.");
+        } finally {
+            deleteTempFile(tempFile);
         }
     }
 
@@ -222,11 +265,9 @@ public class AdminPartnershipService {
         }
     }
 
-    private void validateHeaders(Row headerRow) {
-        if (headerRow == null)
-            throw new CustomException(ErrorCode.BAD_REQUEST, "헤더가 없습니다.");
+    private void validateHeaders(ExcelRow headerRow) {
         for (int i = 0; i < HEADERS.length; i++) {
-            String cellValue = getCellValue(headerRow.getCell(i));
+            String cellValue = headerRow.get(i);
             if (!HEADERS[i].equals(cellValue)) {
                 throw new CustomException(ErrorCode.BAD_REQUEST,
                         "잘못된 헤더 형식입니다: " + cellValue + " (기대값: " + HEADERS[i] + ")");
@@ -234,19 +275,23 @@ public class AdminPartnershipService {
         }
     }
 
-    private PartnershipData parseRow(Row row, int lineNum) {
+    private PartnershipData parseRow(ExcelRow row) {
+        int lineNum = row.rowNum();
         try {
-            Long storeId = Long.parseLong(getCellValue(row.getCell(1)));
-            String storeName = getCellValue(row.getCell(2));
-            String benefit = getCellValue(row.getCell(5));
-            String startDateStr = getCellValue(row.getCell(6));
-            String endDateStr = getCellValue(row.getCell(7));
+            // ID 는 표시 서식과 무관한 셀 원본 값, 날짜는 날짜 서식 셀의 일련번호 또는 yyyy-MM-dd 텍스트
+            Double storeIdValue = row.getNumber(1);
+            if (storeIdValue == null) {
+                throw new NumberFormatException();
+            }
+            Long storeId = BigDecimal.valueOf(storeIdValue).longValueExact();
+            String storeName = row.get(2);
+            String benefit = row.get(5);
 
-            LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            LocalDate endDate = LocalDate.parse(endDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            LocalDate startDate = row.getDate(6);
+            LocalDate endDate = row.getDate(7);
 
-            return new PartnershipData(storeId, storeName, benefit, startDate, endDate);
-        } catch (NumberFormatException e) {
+            return new PartnershipData(lineNum, storeId, storeName, benefit, startDate, endDate);
+        } catch (NumberFormatException | ArithmeticException e) {
             throw new IllegalArgumentException("Line " + lineNum + ": 숫자 형식이 잘못되었습니다.");
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Line " + lineNum + ": 날짜 형식은 yyyy-MM-dd 여야 합니다.");
@@ -255,65 +300,107 @@ public class AdminPartnershipService {
         }
     }
 
-    private void validateRowData(PartnershipData data, Organization organization, int lineNum) {
-        // 1. 상점 존재 여부 확인
-        Store store = storeRepository.findById(data.storeId)
-                .orElseThrow(() -> new IllegalArgumentException("Line " + lineNum + ": 존재하지 않는 Store ID입니다."));
-
-        // 2. 무결성 검증 (상호명 일치 여부)
-        if (!store.getName().trim().equals(data.storeName.trim())) {
-            throw new IllegalArgumentException("Line " + lineNum + ": 상호명 불일치 (엑셀: " + data.storeName + ", DB: "
-                    + store.getName() + ") - 위조가 의심됩니다.");
+    // 업로드된 상점 ID 를 청크 단위 IN 조회로 확인 (행마다 조회하지 않음)
+    private void validateRows(List<PartnershipData> rows, Long universityId, ImportErrors errors) {
+        List<Long> storeIds = rows.stream().map(PartnershipData::storeId).distinct().toList();
+        Map<Long, String> storeNames = new HashMap<>();
+        Set<Long> linkedStoreIds = new HashSet<>();
+        for (int from = 0; from < storeIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = storeIds.subList(from, Math.min(from + ID_CHUNK_SIZE, storeIds.size()));
+            storeRepository.findNamesByIds(chunk).forEach(store -> storeNames.put(store.storeId(), store.name()));
+            linkedStoreIds.addAll(storeUniversityRepository.findLinkedStoreIds(universityId, chunk));
         }
 
-        // 3. 관할 구역 검증
-        boolean isLinked = storeUniversityRepository.existsByStoreIdAndUniversityId(store.getId(),
-                organization.getUniversity().getId());
-        if (!isLinked) {
-            throw new IllegalArgumentException("Line " + lineNum + ": 해당 상점은 본 학생회의 관할 구역(대학)이 아닙니다.");
+        for (PartnershipData data : rows) {
+            int lineNum = data.line();
+
+            // 1. 상점 존재 여부 확인
+            String storeName = storeNames.get(data.storeId());
+            if (storeName == null) {
+                errors.add("Line " + lineNum + ": 존재하지 않는 Store ID입니다.");
+                continue;
+            }
+
+            // 2. 무결성 검증 (상호명 일치 여부)
+            if (!storeName.trim().equals(data.storeName().trim())) {
+                errors.add("Line " + lineNum + ": 상호명 불일치 (엑셀: " + data.storeName() + ", DB: "
+                        + storeName + ") - 위조가 의심됩니다.");
+                continue;
+            }
+
+            // 3. 관할 구역 검증
+            if (!linkedStoreIds.contains(data.storeId())) {
+                errors.add("Line " + lineNum + ": 해당 상점은 본 학생회의 관할 구역(대학)이 아닙니다.");
+            }
         }
     }
 
-    private void applyPartnershipUpsert(List<PartnershipData> validDataList, Organization organization) {
-        for (PartnershipData data : validDataList) {
-            Partnership partnership = partnershipRepository.findByStoreIdAndOrganizationId(data.storeId,
-                    organization.getId());
+    private void applyPartnershipUpsert(Collection<PartnershipData> rows, Long organizationId) {
+        // 조직의 기존 제휴를 한 번에 조회해 수정/신규 생성 분리
+        Map<Long, Long> partnershipIdsByStoreId = new HashMap<>();
+        for (StorePartnershipId existing : partnershipRepository.findStorePartnershipIdsByOrganizationId(organizationId)) {
+            partnershipIdsByStoreId.putIfAbsent(existing.storeId(), existing.partnershipId());
+        }
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        List<PartnershipValues> newPartnerships = new ArrayList<>();
+        List<BenefitUpdate> benefitUpdates = new ArrayList<>();
+        for (PartnershipData data : rows) {
+            PartnershipValues values = new PartnershipValues(data.storeId(), data.benefit(), data.startDate(),
+                    data.endDate(), PartnershipStatus.of(data.startDate(), data.endDate(), today));
 
-            if (partnership != null) {
+            Long partnershipId = partnershipIdsByStoreId.get(data.storeId());
+            if (partnershipId != null) {
                 // 수정
-                partnership.updateBenefit(data.benefit, data.startDate, data.endDate);
+                benefitUpdates.add(new BenefitUpdate(partnershipId, values));
             } else {
                 // 신규 생성
-                Store store = storeRepository.getReferenceById(data.storeId);
-                partnership = Partnership.builder()
-                        .organization(organization)
-                        .store(store)
-                        .benefit(data.benefit)
-                        .startsAt(data.startDate)
-                        .endsAt(data.endDate)
-                        .build();
-                partnershipRepository.save(partnership);
+                newPartnerships.add(values);
             }
         }
+
+        partnershipJdbcRepository.updateBenefits(benefitUpdates);
+        partnershipJdbcRepository.insertPartnerships(organizationId, newPartnerships);
+        storeBenefitIndex.refreshAll();
     }
 
-    private String getCellValue(Cell cell) {
-        if (cell == null)
-            return "";
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getLocalDateTimeCellValue().toLocalDate().toString();
-                }
-                return String.valueOf((long) cell.getNumericCellValue());
-            default:
-                return "";
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("[PartnershipImport] Failed to delete temp file: {}", tempFile, e);
         }
     }
 
-    private record PartnershipData(Long storeId, String storeName, String benefit, LocalDate startDate,
+    private record ImportTarget(Long organizationId, Long universityId) {
+    }
+
+    private record PartnershipData(int line, Long storeId, String storeName, String benefit, LocalDate startDate,
             LocalDate endDate) {
     }
+
+    // 검증 오류 메시지 (상한까지만 보관해 메모리 사용량 고정)
+    private static class ImportErrors {
+        private final List<String> messages = new ArrayList<>();
+        private int count;
+
+        private void add(String message) {
+            count++;
+            if (messages.size() < MAX_REPORTED_ERRORS) {
+                messages.add(message);
+            }
+        }
+
+        private boolean hasErrors() {
+            return count > 0;
+        }
+
+        private String toMessage() {
+            String message = String.join("\n", messages);
+            return count > messages.size() ? message + "\n외 " + (count - messages.size()) + "건의 오류가 더 있습니다." : message;
+        }
+    }
 }
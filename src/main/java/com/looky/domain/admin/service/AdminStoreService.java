@@ -3,183 +3,343 @@ package com.looky.domain.admin.service;
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
 import com.looky.common.service.GeocodingService;
-import com.looky.domain.organization.repository.UniversityRepository; // Added import
+import com.looky.common.util.ExcelStreamReader;
+import com.looky.common.util.ExcelStreamReader.ExcelRow;
+import com.looky.domain.admin.dto.GeocodingStatusResponse;
+import com.looky.domain.admin.dto.SearchIndexStatusResponse;
+import com.looky.domain.admin.dto.StoreImportResponse;
+import com.looky.domain.organization.repository.UniversityRepository;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.domain.store.dto.StoreUniversityLink;
 import com.looky.domain.store.entity.Store;
-import com.looky.domain.store.entity.StoreStatus;
+import com.looky.domain.store.repository.StoreJdbcRepository;
+import com.looky.domain.store.repository.StoreJdbcRepository.NewStore;
 import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.store.repository.StoreUniversityRepository;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.store.service.StoreLocationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.UnsupportedFileFormatException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AdminStoreService {
 
+    private static final int CHUNK_SIZE = 500; // 청크 단위로 선조회/배치 저장/커밋
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
     private final StoreRepository storeRepository;
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final StoreUniversityRepository storeUniversityRepository;
     private final GeocodingService geocodingService;
     private final UniversityRepository universityRepository;
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreCacheService storeCacheService;
+    private final SearchSuggestIndex searchSuggestIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public void uploadStoreData(MultipartFile file) {
+    // 엑셀을 스트리밍으로 읽어 청크마다 별도 트랜잭션으로 저장 (실패한 행/청크만 제외하고 계속 진행)
+    public StoreImportResponse uploadStoreData(MultipartFile file) {
 
         if (file.isEmpty()) {
             throw new CustomException(ErrorCode.BAD_REQUEST, "파일이 비어있습니다.");
         }
 
-        try (InputStream inputStream = file.getInputStream()) {
-            Workbook workbook = new XSSFWorkbook(inputStream);
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // 헤더 검증
-            validateHeader(sheet.getRow(0));
-
-            // 헤더 순서
-            // 0: UniversityID 
-            // 1: Name
-            // 2: Branch
-            // 3: RoadAddress
-            // 4: JibunAddress
-            // 5: Latitude
-            // 6: Longitude
-
-            List<Long> storeIdsToGeocode = new ArrayList<>();
-
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null)
-                    continue;
-
-                Long universityId = getCellValueAsLong(row.getCell(0));
-                String name = getCellValueAsString(row.getCell(1));
-                String branch = getCellValueAsString(row.getCell(2));
-                String roadAddress = getCellValueAsString(row.getCell(3));
-                String jibunAddress = getCellValueAsString(row.getCell(4));
-                Double latitude = getCellValueAsDouble(row.getCell(5));
-                Double longitude = getCellValueAsDouble(row.getCell(6));
-
-                Optional<Store> existingStore = storeRepository.findByNameAndRoadAddress(name, roadAddress);
-                Store store;
-
-                // 이미 가게가 존재하는 경우 -> 엑셀 데이터로 덮어쓰기
-                if (existingStore.isPresent()) {
-
-                    store = existingStore.get();
-
-                    store.updateStore(
-                            // 엑셀 데이터로 덮어쓰기
-                            name,
-                            branch,
-                            roadAddress,
-                            jibunAddress,
-                            latitude != null ? latitude : store.getLatitude(),
-                            longitude != null ? longitude : store.getLongitude(),
-                            // 엑셀에 없는 나머지는 기존 데이터 유지
-                            store.getStorePhone(),
-                            store.getIntroduction(),
-                            store.getOperatingHours(),
-                            store.getStoreCategories(),
-                            store.getStoreMoods(),
-                            null, null, null
-                    );
-                } else { // 가게가 존재하지 않는 경우 -> 생성
-                    store = Store.builder()
-                            .name(name)
-                            .roadAddress(roadAddress)
-                            .jibunAddress(jibunAddress)
-                            .latitude(latitude)
-                            .longitude(longitude)
-                            .storeStatus(StoreStatus.UNCLAIMED)
-                            .user(null) // 주인 없음
-                            .build();
-                    storeRepository.save(store);
+        // 헤더 순서
+        // 0: UniversityID
+        // 1: Name
+        // 2: Branch
+        // 3: RoadAddress
+        // 4: JibunAddress
+        // 5: Latitude
+        // 6: Longitude
+
+        Path tempFile = null;
+        try {
+            // 파일 기반으로 열어야 압축 해제된 시트 전체를 메모리에 올리지 않음
+            tempFile = Files.createTempFile("store-upload-", ".xlsx");
+            file.transferTo(tempFile);
+
+            ImportProgress progress = new ImportProgress();
+            List<StoreRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            ExcelStreamReader.readFirstSheet(tempFile.toFile(), row -> {
+                if (!progress.headerValidated) {
+                    validateHeader(row);
+                    progress.headerValidated = true;
+                    return;
+                }
+                if (row.isBlank()) {
+                    return;
                 }
 
-                // 학교 연결 (기존 데이터에 계속 추가)
-                if (universityId != null) {
-                    universityRepository.findById(universityId).ifPresent(store::addUniversity);
+                progress.totalRows++;
+                StoreRow storeRow = parseRow(row, progress);
+                if (storeRow == null) {
+                    return;
                 }
 
-                // 위도/경도가 없으면 지오코딩 대상에 추가
-                if (store.getLatitude() == null || store.getLongitude() == null) {
-                    storeIdsToGeocode.add(store.getId());
+                chunk.add(storeRow);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
                 }
-            }
+            });
 
-            // 비동기 지오코딩 트리거
-            for (Long storeId : storeIdsToGeocode) {
-                storeRepository.findById(storeId).ifPresent(s -> geocodingService.updateLocation(s.getId(), s.getRoadAddress()));
+            if (!progress.headerValidated) {
+                throw new CustomException(ErrorCode.BAD_REQUEST, "엑셀 파일에 헤더가 없습니다.");
             }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress);
+            }
+
+            log.info("[StoreImport] total={}, created={}, updated={}, failed={}, geocoding={}",
+                    progress.totalRows, progress.created, progress.updated, progress.failed, progress.geocodingRequested);
+            return progress.toResponse();
 
+        } catch (UnsupportedFileFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, "xlsx 형식의 엑셀 파일만 업로드할 수 있습니다.");
         } catch (IOException e) {
             log.error("Excel upload failed", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "엑셀 업로드 처리 중 오류가 발생했습니다.");
+        } finally {
+            deleteTempFile(tempFile);
         }
     }
 
-    private Long getCellValueAsLong(Cell cell) {
-        if (cell == null)
-            return null;
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return (long) cell.getNumericCellValue();
-        } else if (cell.getCellType() == CellType.STRING) {
-            try {
-                return Long.parseLong(cell.getStringCellValue());
-            } catch (NumberFormatException e) {
-                return null;
+    private void importChunk(List<StoreRow> rows, ImportProgress progress) {
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> writeChunk(rows));
+        } catch (RuntimeException e) {
+            log.error("[StoreImport] Chunk failed (Line {} ~ {})", rows.get(0).line(), rows.get(rows.size() - 1).line(), e);
+            for (StoreRow row : rows) {
+                progress.addError(row.line(), "저장 중 오류가 발생했습니다.");
             }
+            return;
         }
-        return null;
+
+        progress.created += result.created;
+        progress.updated += result.updated;
+        result.errors.forEach(progress::addError);
+
+        // 커밋 이후 지오코딩 대기열에 추가 (업로드 요청 스레드에서 외부 API를 호출하지 않음)
+        result.storesToGeocode.forEach((storeId, roadAddress) -> {
+            if (geocodingService.enqueue(storeId, roadAddress)) {
+                progress.geocodingRequested++;
+            }
+        });
     }
 
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null)
-            return "";
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                return String.valueOf((long) cell.getNumericCellValue()); // 정수로 변환
-            default:
-                return "";
+    // 지오코딩 대기열/처리 현황과 관리자 확인 필요 상점 수
+    public GeocodingStatusResponse getGeocodingStatus() {
+        return GeocodingStatusResponse.of(geocodingService.getStatus(), storeRepository.countByNeedToCheckTrue());
+    }
+
+    // 검색 자동완성 인덱스 전체 재색인 (요청을 받은 인스턴스만)
+    public SearchIndexStatusResponse reindexSearch() {
+        searchSuggestIndex.rebuild();
+        return SearchIndexStatusResponse.from(searchSuggestIndex.getStatus());
+    }
+
+    private ChunkResult writeChunk(List<StoreRow> rows) {
+        ChunkResult result = new ChunkResult();
+
+        // 청크 내 대학 / 기존 상점 / 기존 상점-대학 연결을 각각 한 번의 IN 조회로 선조회
+        Set<Long> universityIds = rows.stream()
+                .map(StoreRow::universityId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> knownUniversityIds = universityIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(universityRepository.findExistingIds(universityIds));
+
+        Set<String> names = rows.stream().map(StoreRow::name).collect(Collectors.toSet());
+        Set<String> roadAddresses = rows.stream().map(StoreRow::roadAddress).collect(Collectors.toSet());
+        Map<String, Store> existingStores = new HashMap<>();
+        for (Store store : storeRepository.findByNameInAndRoadAddressIn(names, roadAddresses)) {
+            existingStores.putIfAbsent(keyOf(store.getName(), store.getRoadAddress()), store);
         }
+
+        Map<Long, Set<Long>> linkedUniversityIds = new HashMap<>();
+        if (!existingStores.isEmpty()) {
+            List<Long> existingStoreIds = existingStores.values().stream().map(Store::getId).toList();
+            for (StoreUniversityLink link : storeUniversityRepository.findLinksByStoreIds(existingStoreIds)) {
+                linkedUniversityIds.computeIfAbsent(link.storeId(), id -> new HashSet<>()).add(link.universityId());
+            }
+        }
+
+        Map<String, PendingStore> newStores = new LinkedHashMap<>();
+        List<StoreUniversityLink> newLinks = new ArrayList<>();
+
+        for (StoreRow row : rows) {
+            if (row.universityId() != null && !knownUniversityIds.contains(row.universityId())) {
+                result.errors.put(row.line(), "존재하지 않는 대학 ID입니다: " + row.universityId());
+                continue;
+            }
+
+            String key = keyOf(row.name(), row.roadAddress());
+            Store store = existingStores.get(key);
+
+            // 이미 가게가 존재하는 경우 -> 엑셀 데이터로 덮어쓰기
+            if (store != null) {
+                store.updateStore(
+                        // 엑셀 데이터로 덮어쓰기
+                        row.name(),
+                        row.branch(),
+                        row.roadAddress(),
+                        row.jibunAddress(),
+                        row.latitude() != null ? row.latitude() : store.getLatitude(),
+                        row.longitude() != null ? row.longitude() : store.getLongitude(),
+                        // 엑셀에 없는 나머지는 기존 데이터 유지
+                        store.getStorePhone(),
+                        store.getIntroduction(),
+                        store.getOperatingHours(),
+                        store.getStoreCategories(),
+                        store.getStoreMoods(),
+                        null, null, null
+                );
+                storeLocationIndex.refresh(store);
+                storeCacheService.evictStoreDetail(store.getId());
+                searchSuggestIndex.refreshStore(store.getId());
+
+                // 학교 연결 (기존 데이터에 계속 추가)
+                if (row.universityId() != null
+                        && linkedUniversityIds.computeIfAbsent(store.getId(), id -> new HashSet<>()).add(row.universityId())) {
+                    newLinks.add(new StoreUniversityLink(store.getId(), row.universityId()));
+                }
+
+                // 위도/경도가 없으면 지오코딩 대상에 추가
+                if (store.getLatitude() == null || store.getLongitude() == null) {
+                    result.storesToGeocode.put(store.getId(), store.getRoadAddress());
+                }
+                result.updated++;
+                continue;
+            }
+
+            // 가게가 존재하지 않는 경우 -> 생성 (같은 청크 내 중복 행은 병합)
+            PendingStore pending = newStores.get(key);
+            if (pending == null) {
+                newStores.put(key, new PendingStore(row));
+                result.created++;
+            } else {
+                pending.merge(row);
+                result.updated++;
+            }
+        }
+
+        List<PendingStore> pendingStores = new ArrayList<>(newStores.values());
+        List<Long> createdIds = storeJdbcRepository.insertUnclaimedStores(
+                pendingStores.stream().map(PendingStore::toNewStore).toList());
+
+        for (int i = 0; i < pendingStores.size(); i++) {
+            Long storeId = createdIds.get(i);
+            PendingStore pending = pendingStores.get(i);
+
+            for (Long universityId : pending.universityIds) {
+                newLinks.add(new StoreUniversityLink(storeId, universityId));
+            }
+            storeLocationIndex.refresh(storeId, pending.latitude, pending.longitude, false);
+
+            if (pending.latitude == null || pending.longitude == null) {
+                result.storesToGeocode.put(storeId, pending.roadAddress);
+            }
+        }
+
+        storeJdbcRepository.insertStoreUniversities(newLinks);
+        searchSuggestIndex.refreshStores(createdIds);
+        return result;
     }
 
-    private Double getCellValueAsDouble(Cell cell) {
-        if (cell == null)
-            return null;
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return cell.getNumericCellValue();
-        } else if (cell.getCellType() == CellType.STRING) {
-            try {
-                return Double.parseDouble(cell.getStringCellValue());
-            } catch (NumberFormatException e) {
-                return null;
+    private StoreRow parseRow(ExcelRow row, ImportProgress progress) {
+        int line = row.rowNum() + 1;
+        try {
+            Long universityId = parseLong(row, 0, "universityId");
+            String name = row.get(1);
+            String roadAddress = row.get(3);
+            Double latitude = parseDouble(row, 5, "latitude");
+            Double longitude = parseDouble(row, 6, "longitude");
+
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("상호명(name)이 비어 있습니다.");
+            }
+            if (roadAddress.isEmpty()) {
+                throw new IllegalArgumentException("도로명 주소(roadAddress)가 비어 있습니다.");
             }
+
+            return new StoreRow(line, universityId, name, emptyToNull(row.get(2)), roadAddress,
+                    emptyToNull(row.get(4)), latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            progress.addError(line, e.getMessage());
+            return null;
         }
-        return null;
     }
 
-    private static final String[] EXPECTED_HEADERS = {"universityId", "name", "branch", "roadAddress", "jibunAddress", "latitude", "longitude"};
+    // 숫자 열은 표시 서식(#,##0 / 0.00 등)이 아닌 셀 원본 값으로 변환
+    private Long parseLong(ExcelRow row, int index, String column) {
+        Double value = parseDouble(row, index, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return BigDecimal.valueOf(value).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(column + " 값이 정수가 아닙니다: " + row.get(index));
+        }
+    }
+
+    private Double parseDouble(ExcelRow row, int index, String column) {
+        try {
+            return row.getNumber(index);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + row.get(index));
+        }
+    }
 
-    private void validateHeader(Row headerRow) {
-        if (headerRow == null) {
-            throw new CustomException(ErrorCode.BAD_REQUEST, "엑셀 파일에 헤더가 없습니다.");
+    private String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String keyOf(String name, String roadAddress) {
+        return name + '\u0000' + roadAddress;
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("[StoreImport] Failed to delete temp file: {}", tempFile, e);
         }
+    }
+
+    private static final String[] EXPECTED_HEADERS = {"universityId", "name", "branch", "roadAddress", "jibunAddress", "latitude", "longitude"};
 
+    private void validateHeader(ExcelRow headerRow) {
         for (int i = 0; i < EXPECTED_HEADERS.length; i++) {
-            Cell cell = headerRow.getCell(i);
-            String cellValue = getCellValueAsString(cell);
+            String cellValue = headerRow.get(i);
             if (!EXPECTED_HEADERS[i].equals(cellValue)) {
                 throw new CustomException(ErrorCode.BAD_REQUEST,
                         String.format("잘못된 헤더 형식입니다. 기대값: '%s', 실제값: '%s' (열: %d). 헤더 순서를 확인해주세요: [universityId, name, branch, roadAddress, jibunAddress, latitude, longitude]",
@@ -187,4 +347,74 @@ public class AdminStoreService {
             }
         }
     }
+
+    private record StoreRow(int line, Long universityId, String name, String branch, String roadAddress,
+                            String jibunAddress, Double latitude, Double longitude) {
+    }
+
+    // 신규 생성 예정 상점 (같은 청크 내 중복 행은 뒤의 값으로 덮어씀)
+    private static class PendingStore {
+        private final String name;
+        private final String roadAddress;
+        private String branch;
+        private String jibunAddress;
+        private Double latitude;
+        private Double longitude;
+        private final Set<Long> universityIds = new LinkedHashSet<>();
+
+        private PendingStore(StoreRow row) {
+            this.name = row.name();
+            this.roadAddress = row.roadAddress();
+            merge(row);
+        }
+
+        private void merge(StoreRow row) {
+            if (row.branch() != null) this.branch = row.branch();
+            if (row.jibunAddress() != null) this.jibunAddress = row.jibunAddress();
+            if (row.latitude() != null) this.latitude = row.latitude();
+            if (row.longitude() != null) this.longitude = row.longitude();
+            if (row.universityId() != null) this.universityIds.add(row.universityId());
+        }
+
+        private NewStore toNewStore() {
+            return new NewStore(name, branch, roadAddress, jibunAddress, latitude, longitude);
+        }
+    }
+
+    private static class ChunkResult {
+        private int created;
+        private int updated;
+        private final Map<Integer, String> errors = new LinkedHashMap<>(); // line -> 사유
+        private final Map<Long, String> storesToGeocode = new LinkedHashMap<>(); // storeId -> 도로명 주소
+    }
+
+    // 전체 업로드 진행 상황 (오류 메시지는 상한까지만 보관해 메모리 사용량 고정)
+    private static class ImportProgress {
+        private boolean headerValidated;
+        private int totalRows;
+        private int created;
+        private int updated;
+        private int failed;
+        private int geocodingRequested;
+        private final List<String> errors = new ArrayList<>();
+
+        private void addError(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Line " + line + ": " + message);
+            }
+        }
+
+        private StoreImportResponse toResponse() {
+            return StoreImportResponse.builder()
+                    .totalRows(totalRows)
+                    .createdCount(created)
+                    .updatedCount(updated)
+                    .failedCount(failed)
+                    .geocodingRequestedCount(geocodingRequested)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
 }
@@ -2,7 +2,12 @@ package com.looky.domain.admin.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
 import com.looky.domain.admin.dto.StoreClaimResponse;
+import com.looky.domain.store.dto.StoreClaimExportRow;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.entity.StoreClaim;
 import com.looky.domain.store.entity.StoreClaimStatus;
@@ -19,6 +24,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.looky.domain.store.service.StoreService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -38,13 +48,43 @@ public class StoreClaimVerificationService {
             claims = storeClaimRepository.findAll(pageable);
         }
         
-        return claims.map(claim -> {
-            String ownerName = ownerProfileRepository.findById(claim.getUserId())
-                    .map(OwnerProfile::getName)
-                    .orElse("Unknown");
+        return claims.map(this::toStoreClaimResponse);
+    }
+
+    // 소유권 요청 키셋 페이지 (최신순, COUNT 쿼리 없음)
+    public CursorResponse<StoreClaimResponse> getStoreClaimsByCursor(StoreClaimStatus status, CursorRequest cursorRequest) {
+        List<StoreClaim> claims = storeClaimRepository.findBeforeCursor(status, cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+        return CursorResponse.of(claims, cursorRequest, StoreClaim::getId)
+                .map(this::toStoreClaimResponse);
+    }
+
+    // 소유권 요청 엑셀 내보내기 (신청자 이름은 조인으로 함께 조회, 최신순으로 한 행씩 응답 스트림에 바로 씀)
+    public void exportStoreClaims(StoreClaimStatus status, OutputStream out) throws IOException {
+        List<Column<StoreClaimExportRow>> columns = List.of(
+                new Column<>("id", StoreClaimExportRow::id),
+                new Column<>("storeId", StoreClaimExportRow::storeId),
+                new Column<>("userId", StoreClaimExportRow::userId),
+                new Column<>("name", StoreClaimExportRow::ownerName),
+                new Column<>("storeName", StoreClaimExportRow::storeName),
+                new Column<>("bizRegNo", StoreClaimExportRow::bizRegNo),
+                new Column<>("representativeName", StoreClaimExportRow::representativeName),
+                new Column<>("storePhone", StoreClaimExportRow::storePhone),
+                new Column<>("status", StoreClaimExportRow::status),
+                new Column<>("createdAt", StoreClaimExportRow::createdAt),
+                new Column<>("adminMemo", StoreClaimExportRow::adminMemo)
+        );
+
+        try (Stream<StoreClaimExportRow> rows = storeClaimRepository.streamForExport(status)) {
+            ExcelStreamWriter.writeSheet(out, "StoreClaims", columns, rows);
+        }
+    }
+
+    private StoreClaimResponse toStoreClaimResponse(StoreClaim claim) {
+        String ownerName = ownerProfileRepository.findById(claim.getUserId())
+                .map(OwnerProfile::getName)
+                .orElse("Unknown");
 
-            return StoreClaimResponse.from(claim, ownerName);
-        });
+        return StoreClaimResponse.from(claim, ownerName);
     }
 
     @Transactional
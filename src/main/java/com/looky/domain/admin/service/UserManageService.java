@@ -2,9 +2,14 @@ package com.looky.domain.admin.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
 import com.looky.domain.admin.dto.UserResponse;
 import com.looky.domain.admin.dto.UserRoleUpdateRequest;
+import com.looky.domain.user.dto.UserExportRow;
 import com.looky.domain.user.entity.User;
 import com.looky.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +18,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 public class UserManageService {
@@ -27,6 +37,32 @@ public class UserManageService {
         return PageResponse.from(userResponses);
     }
 
+    // 전체 사용자 키셋 페이지 (최근 가입순, COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public CursorResponse<UserResponse> getAllUsersByCursor(CursorRequest cursorRequest) {
+        List<User> users = userRepository.findAllBeforeCursor(cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+        return CursorResponse.of(users, cursorRequest, User::getId)
+                .map(UserResponse::from);
+    }
+
+    // 전체 사용자 엑셀 내보내기 (최근 가입순으로 한 행씩 읽어 응답 스트림에 바로 씀)
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        List<Column<UserExportRow>> columns = List.of(
+                new Column<>("id", UserExportRow::id),
+                new Column<>("username", UserExportRow::username),
+                new Column<>("email", UserExportRow::email),
+                new Column<>("role", UserExportRow::role),
+                new Column<>("socialType", UserExportRow::socialType),
+                new Column<>("deleted", UserExportRow::deleted),
+                new Column<>("createdAt", UserExportRow::createdAt)
+        );
+
+        try (Stream<UserExportRow> rows = userRepository.streamAllForExport()) {
+            ExcelStreamWriter.writeSheet(out, "Users", columns, rows);
+        }
+    }
+
     // 사용자 권한 수정
     @Transactional
     public void updateUserRole(Long userId, UserRoleUpdateRequest request) {
@@ -40,11 +40,10 @@ public class CouponController {
         @PostMapping("/stores/{storeId}/coupons")
         public ResponseEntity<CommonResponse<Long>> createCoupon(
                 @Parameter(description = "상점 ID") @PathVariable Long storeId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @RequestBody @Valid CreateCouponRequest request
         )
         {
-                Long couponId = couponService.createCoupon(storeId, principalDetails.getUser(), request);
+                Long couponId = couponService.createCoupon(storeId, request);
                 return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(couponId));
         }
 
@@ -57,11 +56,10 @@ public class CouponController {
         @PatchMapping("/coupons/{couponId}")
         public ResponseEntity<CommonResponse<Void>> updateCoupon(
                 @Parameter(description = "쿠폰 ID") @PathVariable Long couponId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @RequestBody @Valid UpdateCouponRequest request
         )
         {
-                couponService.updateCoupon(couponId, principalDetails.getUser(), request);
+                couponService.updateCoupon(couponId, request);
                 return ResponseEntity.ok(CommonResponse.success(null));
         }
 
@@ -73,11 +71,10 @@ public class CouponController {
         })
         @DeleteMapping("/coupons/{couponId}")
         public ResponseEntity<CommonResponse<Void>> deleteCoupon(
-                @Parameter(description = "쿠폰 ID") @PathVariable Long couponId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+                @Parameter(description = "쿠폰 ID") @PathVariable Long couponId
         )
         {
-                couponService.deleteCoupon(couponId, principalDetails.getUser());
+                couponService.deleteCoupon(couponId);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body(CommonResponse.success(null));
         }
 
@@ -89,11 +86,10 @@ public class CouponController {
         @PostMapping("/stores/{storeId}/coupons/verify")
         public ResponseEntity<CommonResponse<Void>> verifyCoupon(
                 @Parameter(description = "상점 ID") @PathVariable Long storeId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @RequestBody @Valid VerifyCouponRequest request
         )
         {
-                couponService.verifyAndUseCoupon(storeId, principalDetails.getUser(), request.getCode());
+                couponService.verifyAndUseCoupon(storeId, request.getCode());
                 return ResponseEntity.ok(CommonResponse.success(null));
         }
 
@@ -133,8 +129,11 @@ public class CouponController {
         @Operation(summary = "[학생] 쿠폰 발급", description = "사용자가 쿠폰을 발급받습니다.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "쿠폰 발급 성공"),
+                        @ApiResponse(responseCode = "202", description = "발급 처리 중 (내 쿠폰함에서 결과 확인)"),
                         @ApiResponse(responseCode = "404", description = "쿠폰 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
-                        @ApiResponse(responseCode = "422", description = "재고 소진 / 발급 기간 아님 / 한도 초과", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+                        @ApiResponse(responseCode = "409", description = "재고 소진", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+                        @ApiResponse(responseCode = "422", description = "발급 기간 아님 / 한도 초과", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+                        @ApiResponse(responseCode = "429", description = "발급 요청 폭주", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
         })
         @PostMapping("/coupons/{couponId}/issue")
         public ResponseEntity<CommonResponse<IssueCouponResponse>> issueCoupon(
@@ -143,6 +142,9 @@ public class CouponController {
         )
         {
                 IssueCouponResponse response = couponService.issueCoupon(couponId, principalDetails.getUser());
+                if (response.isPending()) {
+                        return ResponseEntity.accepted().body(CommonResponse.success(response));
+                }
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
@@ -17,6 +17,7 @@ public class CouponResponse {
     private LocalDateTime issueStartsAt;
     private LocalDateTime issueEndsAt;
     private Integer totalQuantity;
+    private Integer issuedCount; // 발급된 수량
     private Integer limitPerUser;
     private CouponStatus status;
     private CouponBenefitType benefitType;
@@ -33,6 +34,7 @@ public class CouponResponse {
                 .issueStartsAt(coupon.getIssueStartsAt())
                 .issueEndsAt(coupon.getIssueEndsAt())
                 .totalQuantity(coupon.getTotalQuantity())
+                .issuedCount(coupon.getIssuedCount())
                 .limitPerUser(coupon.getLimitPerUser())
                 .status(coupon.getStatus())
                 .benefitType(coupon.getBenefitType())
@@ -21,6 +21,7 @@ public class IssueCouponResponse {
     private CouponBenefitType benefitType;
     private String benefitValue;
     private String storeName;
+    private boolean pending; // DB 반영이 지연되어 처리 중인 경우 (내 쿠폰함에서 결과 확인)
 
     public static IssueCouponResponse from(StudentCoupon studentCoupon) {
         Coupon coupon = studentCoupon.getCoupon();
@@ -37,4 +38,10 @@ public class IssueCouponResponse {
                 .storeName(coupon.getStore().getName())
                 .build();
     }
+
+    public static IssueCouponResponse pending() {
+        return IssueCouponResponse.builder()
+                .pending(true)
+                .build();
+    }
 }
@@ -34,6 +34,9 @@ public class Coupon extends BaseEntity {
     @Column(nullable = false)
     private Integer totalQuantity; // 총 발행 한도
 
+    @Column(nullable = false)
+    private Integer issuedCount = 0; // 발급된 수량 (조건부 UPDATE로만 증가)
+
     @Column(nullable = false)
     private Integer limitPerUser;
 
@@ -56,11 +59,13 @@ public class Coupon extends BaseEntity {
         this.issueStartsAt = issueStartsAt;
         this.issueEndsAt = issueEndsAt;
         this.totalQuantity = totalQuantity;
+        this.issuedCount = 0;
         this.limitPerUser = limitPerUser;
         this.status = status;
         this.benefitType = benefitType;
         this.benefitValue = benefitValue;
         this.minOrderAmount = minOrderAmount;
+        adjustScheduledStatus();
     }
 
     public void updateCoupon(String title, String description, LocalDateTime issueStartsAt, LocalDateTime issueEndsAt, Integer totalQuantity, Integer limitPerUser, CouponStatus status, CouponBenefitType benefitType, String benefitValue, Integer minOrderAmount) {
@@ -84,5 +89,13 @@ public class Coupon extends BaseEntity {
             this.benefitValue = benefitValue;
         if (minOrderAmount != null)
             this.minOrderAmount = minOrderAmount;
+        adjustScheduledStatus();
+    }
+
+    // 발급 시작 전인 활성 쿠폰은 예약 상태로 두고, 시작 시점에 LifecycleSweeper 가 활성화
+    private void adjustScheduledStatus() {
+        if (this.status == CouponStatus.ACTIVE && this.issueStartsAt != null && this.issueStartsAt.isAfter(LocalDateTime.now())) {
+            this.status = CouponStatus.SCHEDULED;
+        }
     }
 }
@@ -13,6 +13,9 @@ import java.util.concurrent.ThreadLocalRandom;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_student_coupon_issue", columnNames = {"coupon_id", "user_id", "issue_sequence"})
+})
 public class StudentCoupon extends BaseEntity {
 
     @Id
@@ -28,6 +31,9 @@ public class StudentCoupon extends BaseEntity {
     @JoinColumn(name = "coupon_id", nullable = false)
     private Coupon coupon;
 
+    @Column(name = "issue_sequence", nullable = false)
+    private Integer issueSequence; // 유저별 발급 순번 (1 ~ limitPerUser, 중복 발급 방지)
+
     @Column(length = 4)
     private String verificationCode; // 점주 확인용 고유 코드 (쿠폰 사용 버튼 클릭 시 발급)
 
@@ -45,9 +51,10 @@ public class StudentCoupon extends BaseEntity {
     private LocalDateTime expiresAt; // 쿠폰 만료 시점
 
     @Builder
-    public StudentCoupon(User user, Coupon coupon, CouponUsageStatus status, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+    public StudentCoupon(User user, Coupon coupon, Integer issueSequence, CouponUsageStatus status, LocalDateTime issuedAt, LocalDateTime expiresAt) {
         this.user = user;
         this.coupon = coupon;
+        this.issueSequence = issueSequence;
         this.status = status != null ? status : CouponUsageStatus.UNUSED;
         this.issuedAt = issuedAt != null ? issuedAt : LocalDateTime.now();
         this.expiresAt = expiresAt;
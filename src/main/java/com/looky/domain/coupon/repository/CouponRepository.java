@@ -1,10 +1,11 @@
 package com.looky.domain.coupon.repository;
 
 import com.looky.domain.coupon.entity.Coupon;
+import com.looky.domain.coupon.entity.CouponStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,36 +14,57 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     long countByStoreId(Long storeId);
 
+    List<Coupon> findByStatus(CouponStatus status);
+
+    // 잔여 수량이 충분할 때만 발급 수량 증가 (0 반환 시 소진)
+    @Modifying
+    @Query("UPDATE Coupon c SET c.issuedCount = c.issuedCount + :count " +
+           "WHERE c.id = :couponId AND c.issuedCount + :count <= c.totalQuantity")
+    int increaseIssuedCount(@Param("couponId") Long couponId, @Param("count") int count);
+
     @Query("SELECT DISTINCT c FROM Coupon c " +
            "JOIN c.store s " +
            "JOIN Partnership p ON p.store = s " +
            "JOIN p.organization o " +
            "WHERE o.university.id = :universityId " +
            "AND c.issueStartsAt BETWEEN :startOfDay AND :endOfDay " +
-           "AND p.startsAt <= :today AND p.endsAt >= :today " +
+           "AND p.status = 'ACTIVE' " +
            "ORDER BY c.issueStartsAt DESC")
     List<Coupon> findTodayCouponsByUniversity(
             @Param("universityId") Long universityId,
             @Param("startOfDay") LocalDateTime startOfDay,
-            @Param("endOfDay") LocalDateTime endOfDay,
-            @Param("today") LocalDate today
+            @Param("endOfDay") LocalDateTime endOfDay
     );
 
+    // 발급 기간 전환은 LifecycleSweeper 가 status 로 반영
     @Query("SELECT c FROM Coupon c " +
            "WHERE c.store.id IN :storeIds " +
-           "AND c.issueStartsAt <= :now AND c.issueEndsAt >= :now " +
            "AND c.status = 'ACTIVE'")
-    List<Coupon> findActiveCouponsByStoreIds(
-            @Param("storeIds") List<Long> storeIds,
-            @Param("now") LocalDateTime now
-    );
+    List<Coupon> findActiveCouponsByStoreIds(@Param("storeIds") List<Long> storeIds);
 
     @Query("SELECT COUNT(c) > 0 FROM Coupon c " +
            "WHERE c.store.id = :storeId " +
-           "AND c.issueStartsAt <= :now AND c.issueEndsAt >= :now " +
            "AND c.status = 'ACTIVE'")
-    boolean existsActiveCoupon(
-            @Param("storeId") Long storeId,
-            @Param("now") LocalDateTime now
-    );
+    boolean existsActiveCoupon(@Param("storeId") Long storeId);
+
+    // 쿠폰 혜택 인덱스 전체 적재용
+    @Query("SELECT DISTINCT c.store.id FROM Coupon c WHERE c.status = 'ACTIVE'")
+    List<Long> findActiveCouponStoreIds();
+
+    // 발급 시작 시각이 지난 예약 쿠폰 활성화
+    @Modifying
+    @Query(value = "UPDATE coupon SET status = 'ACTIVE', modified_at = :now " +
+                   "WHERE status = 'SCHEDULED' AND issue_starts_at <= :now " +
+                   "AND (issue_ends_at IS NULL OR issue_ends_at >= :now) " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int activateScheduledCoupons(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 발급 종료 시각이 지난 쿠폰 만료
+    @Modifying
+    @Query(value = "UPDATE coupon SET status = 'EXPIRED', modified_at = :now " +
+                   "WHERE status IN ('ACTIVE', 'SCHEDULED') AND issue_ends_at < :now " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int expireCoupons(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
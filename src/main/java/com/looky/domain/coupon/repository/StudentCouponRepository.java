@@ -6,15 +6,19 @@ import com.looky.domain.store.entity.Store;
 import com.looky.domain.user.entity.User;
 import com.looky.domain.coupon.entity.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface StudentCouponRepository extends JpaRepository<StudentCoupon, Long> {
     Integer countByCouponAndUser(Coupon coupon, User user);
 
+    long countByCoupon_IdAndUser_Id(Long couponId, Long userId);
+
     @Query("SELECT sc FROM StudentCoupon sc " +
             "JOIN FETCH sc.coupon c " +
             "JOIN FETCH c.store " +
@@ -42,4 +46,12 @@ public interface StudentCouponRepository extends JpaRepository<StudentCoupon, Lo
     boolean existsByUserAndCoupon_StoreAndStatus(User user, Store store, CouponUsageStatus status);
 
     List<StudentCoupon> findByUserAndCouponIn(User user, List<Coupon> coupons);
+
+    // 만료 시각이 지난 미사용/활성화 쿠폰 만료
+    @Modifying
+    @Query(value = "UPDATE student_coupon SET status = 'EXPIRED', modified_at = :now " +
+                   "WHERE status IN ('UNUSED', 'ACTIVATED') AND expires_at < :now " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int expireStudentCoupons(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
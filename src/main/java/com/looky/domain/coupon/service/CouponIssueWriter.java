@@ -0,0 +1,229 @@
+package com.looky.domain.coupon.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.coupon.dto.IssueCouponResponse;
+import com.looky.domain.coupon.entity.Coupon;
+import com.looky.domain.coupon.entity.CouponUsageStatus;
+import com.looky.domain.coupon.entity.StudentCoupon;
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.coupon.repository.StudentCouponRepository;
+import com.looky.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 메모리에서 선점된 쿠폰 발급 건을 모아 한 트랜잭션으로 DB에 반영 (그룹 커밋)
+@Component
+@Slf4j
+public class CouponIssueWriter {
+
+    private static final int BATCH_SIZE = 100; // 한 트랜잭션에 반영할 최대 건수
+    private static final int QUEUE_CAPACITY = 10_000; // 반영 대기 최대 건수
+    private static final long WRITE_TIMEOUT_SECONDS = 5; // 요청 스레드 최대 대기 시간
+
+    private final CouponRepository couponRepository;
+    private final StudentCouponRepository studentCouponRepository;
+    private final UserRepository userRepository;
+    private final CouponStockManager couponStockManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingIssue> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CouponIssueWriter(CouponRepository couponRepository,
+                             StudentCouponRepository studentCouponRepository,
+                             UserRepository userRepository,
+                             CouponStockManager couponStockManager,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.studentCouponRepository = studentCouponRepository;
+        this.userRepository = userRepository;
+        this.couponStockManager = couponStockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.flushTimer = meterRegistry.timer("coupon.issue.flush");
+        this.batchSizeSummary = meterRegistry.summary("coupon.issue.batch.size");
+        meterRegistry.gauge("coupon.issue.pending", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "coupon-issue-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 종료 시 대기 중인 발급 건을 모두 반영한 뒤 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(WRITE_TIMEOUT_SECONDS * 2));
+    }
+
+    // 선점 건을 반영 대기열에 넣고 DB 반영 결과를 기다림
+    public IssueCouponResponse write(CouponReservation reservation) {
+        PendingIssue pending = new PendingIssue(reservation, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            couponStockManager.release(reservation);
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "쿠폰 발급 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return pending.result().get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "쿠폰 발급 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            // 대기열의 건은 이후에도 반영될 수 있으므로 실패가 아닌 처리 중으로 응답하고, 결과는 반영 후 정리
+            awaitInBackground(pending);
+            return IssueCouponResponse.pending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            awaitInBackground(pending);
+            return IssueCouponResponse.pending();
+        }
+    }
+
+    private void awaitInBackground(PendingIssue pending) {
+        CouponReservation reservation = pending.reservation();
+        log.warn("[CouponIssue] Issuance still pending after {}s couponId={}, userId={}",
+                WRITE_TIMEOUT_SECONDS, reservation.couponId(), reservation.userId());
+        pending.result().whenComplete((response, e) -> {
+            if (e == null) {
+                log.info("[CouponIssue] Pending issuance completed couponId={}, userId={}, studentCouponId={}",
+                        reservation.couponId(), reservation.userId(), response.getStudentCouponId());
+            } else {
+                log.warn("[CouponIssue] Pending issuance rejected couponId={}, userId={}: {}",
+                        reservation.couponId(), reservation.userId(), e.getMessage());
+            }
+        });
+    }
+
+    private void runFlushLoop() {
+        List<PendingIssue> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingIssue first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 직전 반영 중 쌓인 요청을 함께 처리
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[CouponIssue] Unexpected error in flush loop", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingIssue> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            List<IssueCouponResponse> responses = flushTimer.recordCallable(
+                    () -> transactionTemplate.execute(status -> insert(batch)));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(responses.get(i));
+            }
+        } catch (Exception e) {
+            // 배치 단위 실패 시 건별로 다시 반영하여 실패 건만 거절
+            log.warn("[CouponIssue] Batch of {} failed, retrying individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::flushSingle);
+        }
+    }
+
+    private void flushSingle(PendingIssue pending) {
+        try {
+            List<IssueCouponResponse> responses = transactionTemplate.execute(status -> insert(List.of(pending)));
+            pending.result().complete(responses.get(0));
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.COUPON_SOLD_OUT) {
+                // DB 기준 소진 -> 메모리 수량을 DB 기준으로 재적재
+                couponStockManager.invalidate(pending.reservation().couponId());
+            } else {
+                couponStockManager.release(pending.reservation());
+            }
+            pending.result().completeExceptionally(e);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스 발급 등으로 순번 충돌 -> 유저 발급 수를 DB 기준으로 재적재
+            couponStockManager.invalidate(pending.reservation().couponId());
+            pending.result().completeExceptionally(
+                    new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "인당 발급 한도를 초과했습니다."));
+        } catch (Exception e) {
+            // 커밋 도중 실패 등 반영 여부를 알 수 없으므로 반환하지 않고 DB 기준으로 재적재
+            log.error("[CouponIssue] Failed to persist issuance couponId={}, userId={}",
+                    pending.reservation().couponId(), pending.reservation().userId(), e);
+            couponStockManager.invalidate(pending.reservation().couponId());
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private List<IssueCouponResponse> insert(List<PendingIssue> batch) {
+        Map<Long, Long> countByCouponId = batch.stream()
+                .collect(Collectors.groupingBy(p -> p.reservation().couponId(), Collectors.counting()));
+
+        // DB 발급 수량도 조건부로 증가 (다중 인스턴스 환경의 최종 방어선)
+        countByCouponId.forEach((couponId, count) -> {
+            if (couponRepository.increaseIssuedCount(couponId, count.intValue()) == 0) {
+                throw new CustomException(ErrorCode.COUPON_SOLD_OUT);
+            }
+        });
+
+        Map<Long, Coupon> couponMap = couponRepository.findAllById(countByCouponId.keySet()).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+
+        List<StudentCoupon> studentCoupons = batch.stream()
+                .map(PendingIssue::reservation)
+                .map(reservation -> StudentCoupon.builder()
+                        .user(userRepository.getReferenceById(reservation.userId()))
+                        .coupon(couponMap.get(reservation.couponId()))
+                        .issueSequence(reservation.issueSequence())
+                        .status(CouponUsageStatus.UNUSED)
+                        // 발급/만료 시각은 선점 시각(공용 Clock, KST) 기준이므로 LifecycleSweeper/CouponService 의 만료 판정과 시간대가 같음
+                        .issuedAt(reservation.requestedAt())
+                        .expiresAt(reservation.requestedAt().plusDays(30))
+                        .build())
+                .toList();
+
+        studentCouponRepository.saveAll(studentCoupons);
+        studentCouponRepository.flush();
+
+        return studentCoupons.stream()
+                .map(IssueCouponResponse::from)
+                .toList();
+    }
+
+    private record PendingIssue(CouponReservation reservation, CompletableFuture<IssueCouponResponse> result) {
+    }
+}
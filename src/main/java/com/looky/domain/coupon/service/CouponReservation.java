@@ -0,0 +1,8 @@
+package com.looky.domain.coupon.service;
+
+import java.time.LocalDateTime;
+
+// 메모리에서 선점한 쿠폰 발급 건 (DB 반영 대기)
+public record CouponReservation(Long couponId, Long userId, int issueSequence, LocalDateTime requestedAt,
+                                CouponStockManager.StockHold hold) {
+}
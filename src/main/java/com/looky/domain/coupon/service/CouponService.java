@@ -7,20 +7,20 @@ import com.looky.domain.coupon.entity.*;
 import com.looky.domain.coupon.repository.*;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.store.service.StoreBenefitIndex;
 import com.looky.domain.user.entity.User;
-import com.looky.domain.user.repository.UserRepository;
+import com.looky.security.details.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.looky.domain.user.entity.Role;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import com.looky.domain.user.entity.StudentProfile;
-import com.looky.domain.user.repository.StudentProfileRepository;
+import java.time.Clock;
 import java.time.LocalDate;
 
 @Service
@@ -31,18 +31,21 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final StudentCouponRepository studentCouponRepository;
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
-    private final StudentProfileRepository studentProfileRepository;
+    private final CouponStockManager couponStockManager;
+    private final CouponIssueWriter couponIssueWriter;
+    private final StoreBenefitIndex storeBenefitIndex;
+    private final CurrentUserContext currentUserContext;
+    private final Clock clock;
 
     // --- 점주용 ---
 
     @Transactional
-    public Long createCoupon(Long storeId, User user, CreateCouponRequest request) {
+    public Long createCoupon(Long storeId, CreateCouponRequest request) {
         
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
-        validateStoreOwner(store, user);
+        validateStoreOwner(store);
 
         Coupon coupon = Coupon.builder()
                 .store(store)
@@ -66,16 +69,21 @@ public class CouponService {
 
 
         Coupon savedCoupon = couponRepository.save(coupon);
+        storeBenefitIndex.refreshStore(storeId);
 
         return savedCoupon.getId();
     }
 
     @Transactional
-    public void updateCoupon(Long couponId, User user, UpdateCouponRequest request) {
+    public void updateCoupon(Long couponId, UpdateCouponRequest request) {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
 
-        validateStoreOwner(coupon.getStore(), user);
+        validateStoreOwner(coupon.getStore());
+
+        if (request.getTotalQuantity() != null && request.getTotalQuantity() < coupon.getIssuedCount()) {
+            throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "총 발행 한도는 이미 발급된 수량보다 작을 수 없습니다.");
+        }
 
         coupon.updateCoupon(
                 request.getTitle(),
@@ -94,24 +102,30 @@ public class CouponService {
                 throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "종료일은 시작일보다 빠를 수 없습니다.");
             }
         }
+
+        // 발급 재고 캐시는 커밋 이후 DB 기준으로 재적재
+        couponStockManager.invalidate(couponId);
+        storeBenefitIndex.refreshStore(coupon.getStore().getId());
     }
 
     @Transactional
-    public void deleteCoupon(Long couponId, User user) {
+    public void deleteCoupon(Long couponId) {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
 
-        validateStoreOwner(coupon.getStore(), user);
+        validateStoreOwner(coupon.getStore());
 
         couponRepository.delete(coupon);
+        couponStockManager.invalidate(couponId);
+        storeBenefitIndex.refreshStore(coupon.getStore().getId());
     }
 
     @Transactional
-    public void verifyAndUseCoupon(Long storeId, User owner, String verificationCode) {
+    public void verifyAndUseCoupon(Long storeId, String verificationCode) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
-        validateStoreOwner(store, owner);
+        validateStoreOwner(store);
 
         // 검증 코드로 우리 가게 활성화 쿠폰 조회
         StudentCoupon studentCoupon = studentCouponRepository.findForOwnerVerification(
@@ -130,15 +144,21 @@ public class CouponService {
             throw new CustomException(ErrorCode.FORBIDDEN, "학생만 이용 가능한 서비스입니다.");
         }
 
-        StudentProfile studentProfile = studentProfileRepository.findById(user.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "학생 프로필을 찾을 수 없습니다."));
+        Long universityId = currentUserContext.getUniversityId();
+        if (universityId == null) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "학생 프로필을 찾을 수 없습니다.");
+        }
+
+        return getTodayCoupons(user, universityId);
+    }
 
-        Long universityId = studentProfile.getUniversity().getId();
-        LocalDate today = LocalDate.now();
+    // 소속 대학이 확인된 경우 (홈 화면 집계 등)
+    public List<CouponResponse> getTodayCoupons(User user, Long universityId) {
+        LocalDate today = LocalDate.now(clock);
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.atTime(23, 59, 59);
 
-        List<Coupon> coupons = couponRepository.findTodayCouponsByUniversity(universityId, startOfDay, endOfDay, today);
+        List<Coupon> coupons = couponRepository.findTodayCouponsByUniversity(universityId, startOfDay, endOfDay);
 
         List<CouponResponse> responses = coupons.stream()
                 .map(CouponResponse::from)
@@ -184,38 +204,11 @@ public class CouponService {
         return responses;
     }
 
-    @Transactional
+    // 메모리 재고에서 선점 후 배치 반영 결과를 기다림 (대기 중 DB 커넥션 점유 방지)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IssueCouponResponse issueCoupon(Long couponId, User user) {
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
-
-        // Validation
-        if (coupon.getStatus() != CouponStatus.ACTIVE) {
-            throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 가능한 상태가 아닙니다.");
-        }
-        LocalDateTime now = LocalDateTime.now();
-        if (coupon.getIssueStartsAt() != null && now.isBefore(coupon.getIssueStartsAt())) {
-            throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 기간이 아닙니다.");
-        }
-        if (coupon.getIssueEndsAt() != null && now.isAfter(coupon.getIssueEndsAt())) {
-            throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 기간이 지났습니다.");
-        }
-
-        Integer userCount = studentCouponRepository.countByCouponAndUser(coupon, user);
-        if (userCount >= coupon.getLimitPerUser()) {
-            throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "인당 발급 한도를 초과했습니다.");
-        }
-
-        StudentCoupon studentCoupon = StudentCoupon.builder()
-                .user(user)
-                .coupon(coupon)
-                .status(CouponUsageStatus.UNUSED)
-                .expiresAt(now.plusDays(30))
-                .build();
-
-        studentCouponRepository.save(studentCoupon);
-
-        return IssueCouponResponse.from(studentCoupon);
+        CouponReservation reservation = couponStockManager.reserve(couponId, user.getId());
+        return couponIssueWriter.write(reservation);
     }
 
     @Transactional
@@ -227,7 +220,7 @@ public class CouponService {
             throw new CustomException(ErrorCode.STATE_CONFLICT, "이미 사용된 쿠폰입니다.");
         }
 
-        if (studentCoupon.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (studentCoupon.getExpiresAt().isBefore(LocalDateTime.now(clock))) {
             throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "만료된 쿠폰입니다.");
         }
 
@@ -240,11 +233,8 @@ public class CouponService {
                 .collect(Collectors.toList());
     }
 
-    private void validateStoreOwner(Store store, User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+    private void validateStoreOwner(Store store) {
+        if (!currentUserContext.isOwnerOf(store)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "가게 주인이 아닙니다.");
         }
     }
@@ -0,0 +1,178 @@
+package com.looky.domain.coupon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.coupon.entity.Coupon;
+import com.looky.domain.coupon.entity.CouponStatus;
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.coupon.repository.StudentCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 쿠폰별 잔여 수량/유저별 발급 수를 메모리에서 관리하여 소진·한도 초과 요청을 DB 조회 없이 거절
+@Component
+@Slf4j
+public class CouponStockManager {
+
+    private final CouponRepository couponRepository;
+    private final StudentCouponRepository studentCouponRepository;
+    private final Clock clock;
+
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(30); // 발급 요청이 없는 쿠폰/유저 항목 제거 시간
+    private static final long MAX_COUPONS = 10_000;
+    private static final long MAX_USERS_PER_COUPON = 100_000;
+
+    // 제거된 항목은 다음 요청에서 DB 기준으로 재적재 (반영 대기 건과의 차이는 DB 조건부 증가/순번 유니크 키가 막음)
+    private final Cache<Long, CouponStock> stocks = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .maximumSize(MAX_COUPONS)
+            .build();
+
+    private final Counter acceptedCounter;
+    private final Counter soldOutCounter;
+    private final Counter limitExceededCounter;
+
+    public CouponStockManager(CouponRepository couponRepository,
+                              StudentCouponRepository studentCouponRepository,
+                              Clock clock,
+                              MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.studentCouponRepository = studentCouponRepository;
+        this.clock = clock;
+        this.acceptedCounter = meterRegistry.counter("coupon.issue.accepted");
+        this.soldOutCounter = meterRegistry.counter("coupon.issue.rejected", "reason", "sold_out");
+        this.limitExceededCounter = meterRegistry.counter("coupon.issue.rejected", "reason", "limit_exceeded");
+    }
+
+    // 서버 기동 시 활성 쿠폰 잔여 수량을 DB 기준으로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        stocks.invalidateAll();
+        List<Coupon> activeCoupons = couponRepository.findByStatus(CouponStatus.ACTIVE);
+        activeCoupons.forEach(coupon -> stocks.put(coupon.getId(), new CouponStock(coupon)));
+        log.info("[CouponStock] Loaded stock for {} active coupons", activeCoupons.size());
+    }
+
+    // 발급 가능 여부 확인 후 잔여 수량 1개와 유저 발급 순번 선점
+    public CouponReservation reserve(Long couponId, Long userId) {
+        CouponStock stock = getOrLoad(couponId);
+
+        LocalDateTime now = LocalDateTime.now(clock); // 발급/만료 시각의 기준 (CouponIssueWriter 가 그대로 저장)
+        stock.validateIssuable(now);
+
+        // 이미 소진된 경우 빠르게 거절
+        if (stock.remaining.get() <= 0) {
+            soldOutCounter.increment();
+            throw new CustomException(ErrorCode.COUPON_SOLD_OUT);
+        }
+
+        AtomicInteger userIssued = getOrLoadUserIssued(stock, userId);
+        int issued;
+        do {
+            issued = userIssued.get();
+            if (issued >= stock.limitPerUser) {
+                limitExceededCounter.increment();
+                throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "인당 발급 한도를 초과했습니다.");
+            }
+        } while (!userIssued.compareAndSet(issued, issued + 1));
+
+        long remaining;
+        do {
+            remaining = stock.remaining.get();
+            if (remaining <= 0) {
+                userIssued.decrementAndGet();
+                soldOutCounter.increment();
+                throw new CustomException(ErrorCode.COUPON_SOLD_OUT);
+            }
+        } while (!stock.remaining.compareAndSet(remaining, remaining - 1));
+
+        acceptedCounter.increment();
+        return new CouponReservation(couponId, userId, issued + 1, now, new StockHold(stock, userIssued));
+    }
+
+    // DB 반영 실패 시 선점 당시의 재고 객체에 수량 반환
+    // (그 사이 무효화·재적재되었다면 새 객체는 DB 기준 수량이므로 건드리지 않음)
+    public void release(CouponReservation reservation) {
+        StockHold hold = reservation.hold();
+        hold.stock().remaining.incrementAndGet();
+        hold.userIssued().decrementAndGet();
+    }
+
+    // 쿠폰 정보 변경/삭제 시 캐시 제거 (커밋 이후 다음 발급 요청에서 DB 기준으로 재적재)
+    public void invalidate(Long couponId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stocks.invalidate(couponId);
+                }
+            });
+        } else {
+            stocks.invalidate(couponId);
+        }
+    }
+
+    private CouponStock getOrLoad(Long couponId) {
+        return stocks.get(couponId, id -> new CouponStock(couponRepository.findById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "쿠폰을 찾을 수 없습니다."))));
+    }
+
+    private AtomicInteger getOrLoadUserIssued(CouponStock stock, Long userId) {
+        return stock.issuedByUser.get(userId,
+                id -> new AtomicInteger((int) studentCouponRepository.countByCoupon_IdAndUser_Id(stock.couponId, id)));
+    }
+
+    // 선점 시점의 재고/유저 발급 수 객체 (반환 시 같은 객체에 되돌리기 위해 보관)
+    record StockHold(CouponStock stock, AtomicInteger userIssued) {
+    }
+
+    static final class CouponStock {
+        private final Long couponId;
+        private final CouponStatus status;
+        private final LocalDateTime issueStartsAt;
+        private final LocalDateTime issueEndsAt;
+        private final int limitPerUser;
+        private final AtomicLong remaining;
+        private final Cache<Long, AtomicInteger> issuedByUser = Caffeine.newBuilder()
+                .expireAfterAccess(IDLE_EXPIRY)
+                .maximumSize(MAX_USERS_PER_COUPON)
+                .build();
+
+        private CouponStock(Coupon coupon) {
+            this.couponId = coupon.getId();
+            this.status = coupon.getStatus();
+            this.issueStartsAt = coupon.getIssueStartsAt();
+            this.issueEndsAt = coupon.getIssueEndsAt();
+            this.limitPerUser = coupon.getLimitPerUser();
+            this.remaining = new AtomicLong(Math.max(0, coupon.getTotalQuantity() - coupon.getIssuedCount()));
+        }
+
+        private void validateIssuable(LocalDateTime now) {
+            // 예약 쿠폰은 시작 시각부터 발급 (스케줄러의 ACTIVE 전환을 기다리지 않음)
+            if (status != CouponStatus.ACTIVE && status != CouponStatus.SCHEDULED) {
+                throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 가능한 상태가 아닙니다.");
+            }
+            if (issueStartsAt != null && now.isBefore(issueStartsAt)) {
+                throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 기간이 아닙니다.");
+            }
+            if (issueEndsAt != null && now.isAfter(issueEndsAt)) {
+                throw new CustomException(ErrorCode.UNPROCESSABLE_ENTITY, "발급 기간이 지났습니다.");
+            }
+        }
+    }
+}
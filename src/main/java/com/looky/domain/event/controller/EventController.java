@@ -1,8 +1,10 @@
 package com.looky.domain.event.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.event.dto.EventResponse;
 import com.looky.domain.event.entity.EventStatus;
 import com.looky.domain.event.entity.EventType;
@@ -56,4 +58,21 @@ public class EventController {
         PageResponse<EventResponse> response = eventService.getEvents(keyword, eventTypes, status, universityId, pageable);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
+
+    @Operation(summary = "[공통] 이벤트 목록 커서 조회", description = "paging=cursor 로 요청하면 최신 등록순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping(params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<EventResponse>>> getEventsByCursor(
+            @Parameter(description = "검색 키워드 (제목)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "이벤트 타입 필터 (복수 선택 가능)") @RequestParam(required = false) List<EventType> eventTypes,
+            @Parameter(description = "상태 필터") @RequestParam(required = false) EventStatus status,
+            @Parameter(description = "대학 ID") @RequestParam(required = false) Long universityId,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<EventResponse> response = eventService.getEventsByCursor(keyword, eventTypes, status, universityId, CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
 }
@@ -3,6 +3,27 @@ package com.looky.domain.event.repository;
 import com.looky.domain.event.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+
+    // 시작 시각이 지난 예정 이벤트 진행중 전환
+    @Modifying
+    @Query(value = "UPDATE events SET status = 'LIVE', modified_at = :now " +
+                   "WHERE status = 'UPCOMING' AND start_date_time <= :now AND end_date_time >= :now " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int startEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 종료 시각이 지난 이벤트 종료 전환
+    @Modifying
+    @Query(value = "UPDATE events SET status = 'ENDED', modified_at = :now " +
+                   "WHERE status IN ('UPCOMING', 'LIVE') AND end_date_time < :now " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int endEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -2,8 +2,10 @@ package com.looky.domain.event.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.common.service.S3Service;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.event.dto.CreateEventRequest;
 import com.looky.domain.event.dto.EventResponse;
 import com.looky.domain.event.dto.UpdateEventRequest;
@@ -79,6 +81,23 @@ public class EventService {
         return PageResponse.from(responsePage);
     }
 
+    // 이벤트 목록 키셋 페이지 (최신 등록순, COUNT 쿼리 없음)
+    public CursorResponse<EventResponse> getEventsByCursor(String keyword, List<EventType> eventTypes, EventStatus status, Long universityId, CursorRequest cursorRequest) {
+        Specification<Event> spec = Specification.where(EventSpecification.hasKeyword(keyword))
+                .and(EventSpecification.hasEventTypes(eventTypes))
+                .and(EventSpecification.hasStatus(status))
+                .and(EventSpecification.hasUniversityId(universityId))
+                .and(cursorRequest.toSpecification());
+
+        List<Event> events = eventRepository.findBy(spec, query -> query
+                .sortBy(CursorRequest.SORT)
+                .limit(cursorRequest.fetchSize())
+                .all());
+
+        return CursorResponse.of(events, cursorRequest, Event::getId)
+                .map(EventResponse::from);
+    }
+
     @Transactional
     public void updateEvent(Long eventId, UpdateEventRequest request, List<MultipartFile> images) throws IOException {
         Event event = eventRepository.findById(eventId)
@@ -1,8 +1,10 @@
 package com.looky.domain.favorite.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.favorite.dto.FavoriteStoreResponse;
 import com.looky.domain.favorite.service.FavoriteService;
 import com.looky.security.details.PrincipalDetails;
@@ -90,4 +92,21 @@ public class FavoriteController {
                                 pageable);
                 return ResponseEntity.ok(CommonResponse.success(PageResponse.from(favorites)));
         }
+
+        @Operation(summary = "[학생] 내 단골 상점 목록 커서 조회", description = "paging=cursor 로 요청하면 최근 등록순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "조회 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+        })
+        @GetMapping(value = "/favorites", params = "paging=cursor")
+        public ResponseEntity<CommonResponse<CursorResponse<FavoriteStoreResponse>>> getMyFavoritesByCursor(
+                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
+                @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size
+        )
+        {
+                CursorResponse<FavoriteStoreResponse> favorites = favoriteService.getMyFavoritesByCursor(principalDetails.getUser(),
+                                CursorRequest.of(cursor, size));
+                return ResponseEntity.ok(CommonResponse.success(favorites));
+        }
 }
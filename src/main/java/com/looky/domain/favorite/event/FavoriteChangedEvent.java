@@ -0,0 +1,13 @@
+package com.looky.domain.favorite.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 찜 추가(+1)/삭제(-1) 이벤트 (커밋 이후 인기 상점 랭킹에 반영)
+public record FavoriteChangedEvent(
+        Long storeId,
+        List<Long> universityIds, // 상점이 속한 대학 ID 목록
+        int delta,
+        LocalDateTime favoritedAt // 찜 생성 시각 (이번 주 생성분만 집계)
+) {
+}
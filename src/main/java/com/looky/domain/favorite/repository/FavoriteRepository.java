@@ -5,12 +5,14 @@ import com.looky.domain.store.entity.Store;
 import com.looky.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface FavoriteRepository extends JpaRepository<FavoriteStore, Long> {
 
@@ -18,21 +20,20 @@ public interface FavoriteRepository extends JpaRepository<FavoriteStore, Long> {
 
     void deleteByUserAndStore(User user, Store store);
 
+    Optional<FavoriteStore> findByUserAndStore(User user, Store store);
+
     long countByStore(Store store);
 
     Page<FavoriteStore> findByUser(User user, Pageable pageable);
 
-    @Query("SELECT f.store, COUNT(f) " +
-           "FROM FavoriteStore f " +
-           "JOIN f.store s " +
-           "JOIN s.universities su " +
-           "WHERE su.university.id = :universityId " +
-           "AND f.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY f.store " +
-           "ORDER BY COUNT(f) DESC")
-    List<Object[]> findHotStores(
-            @Param("universityId") Long universityId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    // 내 찜 목록 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @EntityGraph(attributePaths = { "store" })
+    @Query("SELECT f FROM FavoriteStore f WHERE f.user.id = :userId " +
+           "AND (:cursorCreatedAt IS NULL OR f.createdAt < :cursorCreatedAt " +
+           "OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FavoriteStore> findByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
 }
@@ -2,18 +2,24 @@ package com.looky.domain.favorite.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.favorite.dto.FavoriteStoreResponse;
 import com.looky.domain.favorite.entity.FavoriteStore;
+import com.looky.domain.favorite.event.FavoriteChangedEvent;
 import com.looky.domain.favorite.repository.FavoriteRepository;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.repository.StoreRepository;
 import com.looky.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,6 +27,7 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addFavorite(User user, Long storeId) {
@@ -45,6 +52,7 @@ public class FavoriteService {
                 .build();
 
         favoriteRepository.save(favoriteStore);
+        eventPublisher.publishEvent(new FavoriteChangedEvent(storeId, universityIds(store), 1, favoriteStore.getCreatedAt()));
     }
 
     @Transactional
@@ -52,7 +60,10 @@ public class FavoriteService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "해당 상점을 찾을 수 없습니다."));
 
-        favoriteRepository.deleteByUserAndStore(user, store);
+        favoriteRepository.findByUserAndStore(user, store).ifPresent(favoriteStore -> {
+            favoriteRepository.delete(favoriteStore);
+            eventPublisher.publishEvent(new FavoriteChangedEvent(storeId, universityIds(store), -1, favoriteStore.getCreatedAt()));
+        });
     }
 
     public Long countFavorites(Long storeId) {
@@ -66,4 +77,19 @@ public class FavoriteService {
         return favoriteRepository.findByUser(user, pageable)
                 .map(favoriteStore -> FavoriteStoreResponse.from(favoriteStore.getStore()));
     }
+
+    // 내 찜 목록 키셋 페이지 (최근 찜한 순, COUNT 쿼리 없음)
+    public CursorResponse<FavoriteStoreResponse> getMyFavoritesByCursor(User user, CursorRequest cursorRequest) {
+        List<FavoriteStore> favorites = favoriteRepository.findByUserIdBeforeCursor(
+                user.getId(), cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+
+        return CursorResponse.of(favorites, cursorRequest, FavoriteStore::getId)
+                .map(favoriteStore -> FavoriteStoreResponse.from(favoriteStore.getStore()));
+    }
+
+    private List<Long> universityIds(Store store) {
+        return store.getUniversities().stream()
+                .map(storeUniversity -> storeUniversity.getUniversity().getId())
+                .toList();
+    }
 }
@@ -0,0 +1,42 @@
+package com.looky.domain.home.controller;
+
+import com.looky.common.response.CommonResponse;
+import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.domain.home.dto.HomeResponse;
+import com.looky.domain.home.service.HomeService;
+import com.looky.security.details.PrincipalDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Home", description = "홈 화면 API")
+@RestController
+@RequestMapping("/api/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeService homeService;
+
+    @Operation(summary = "[학생] 홈 화면 조회", description = "이번 주 핫한 가게, 오늘의 신규 쿠폰, 진행 중인 이벤트, 최근 단골 상점을 한 번에 조회합니다. 시간 내에 조회하지 못한 구역은 빈 목록으로 응답하고 failedSections 에 구역명을 담습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공 (일부 구역 실패 포함)"),
+            @ApiResponse(responseCode = "403", description = "학생 권한 필요", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<CommonResponse<HomeResponse>> getHome(
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        HomeResponse response = homeService.getHome(principalDetails.getUser());
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+}
@@ -0,0 +1,21 @@
+package com.looky.domain.home.dto;
+
+import com.looky.domain.coupon.dto.CouponResponse;
+import com.looky.domain.event.dto.EventResponse;
+import com.looky.domain.favorite.dto.FavoriteStoreResponse;
+import com.looky.domain.store.dto.HotStoreResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 학생 홈 화면 집계 (실패/시간 초과 구역은 빈 목록으로 채우고 failedSections 에 구역명 표시)
+@Getter
+@Builder
+public class HomeResponse {
+    private List<HotStoreResponse> hotStores; // 이번 주 핫한 가게
+    private List<CouponResponse> todayCoupons; // 오늘의 신규 쿠폰
+    private List<EventResponse> events; // 진행 중인 이벤트
+    private List<FavoriteStoreResponse> favorites; // 최근 등록한 단골 상점
+    private List<String> failedSections;
+}
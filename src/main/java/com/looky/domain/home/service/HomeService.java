@@ -0,0 +1,130 @@
+package com.looky.domain.home.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.common.util.CursorRequest;
+import com.looky.domain.coupon.dto.CouponResponse;
+import com.looky.domain.coupon.service.CouponService;
+import com.looky.domain.event.dto.EventResponse;
+import com.looky.domain.event.entity.EventStatus;
+import com.looky.domain.event.service.EventService;
+import com.looky.domain.favorite.dto.FavoriteStoreResponse;
+import com.looky.domain.favorite.service.FavoriteService;
+import com.looky.domain.home.dto.HomeResponse;
+import com.looky.domain.store.dto.HotStoreResponse;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.store.service.StoreService;
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 학생 홈 화면 집계: 소속 대학을 한 번만 확인한 뒤 구역별 조회를 전용 스레드 풀에서 병렬 실행
+// 구역별 시간 제한을 넘기거나 실패한 구역은 빈 목록으로 응답 (시간 초과된 조회는 풀에서 끝까지 실행됨)
+@Service
+@Slf4j
+public class HomeService {
+
+    private static final int EVENT_SIZE = 5;
+    private static final int FAVORITE_SIZE = 10;
+
+    private final StoreService storeService;
+    private final CouponService couponService;
+    private final EventService eventService;
+    private final FavoriteService favoriteService;
+    private final StoreCacheService storeCacheService;
+
+    private final ExecutorService executor;
+    private final long sectionTimeoutMillis;
+
+    public HomeService(StoreService storeService,
+                       CouponService couponService,
+                       EventService eventService,
+                       FavoriteService favoriteService,
+                       StoreCacheService storeCacheService,
+                       @Value("${app.home.threads:8}") int threads,
+                       @Value("${app.home.queue-capacity:256}") int queueCapacity,
+                       @Value("${app.home.section-timeout-ms:1000}") long sectionTimeoutMillis) {
+        this.storeService = storeService;
+        this.couponService = couponService;
+        this.eventService = eventService;
+        this.favoriteService = favoriteService;
+        this.storeCacheService = storeCacheService;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+
+        // 풀과 대기열이 모두 차면 작업을 버리지 않고 요청 스레드에서 직접 실행
+        // DB 동시 조회 수를 제한하지는 않음 (풀 스레드 + 직접 실행 중인 요청 스레드만큼 겹칠 수 있고, 커넥션 상한은 Hikari 풀이 담당)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "home-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public HomeResponse getHome(User user) {
+        if (user.getRole() != Role.ROLE_STUDENT) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "학생만 이용 가능한 서비스입니다.");
+        }
+
+        // 소속 대학이 없으면 대학 기준 구역(핫한 가게, 오늘의 쿠폰)은 빈 목록, 이벤트는 전체 대상
+        Long universityId = storeCacheService.getStudentUniversityId(user.getId());
+        Set<String> failedSections = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<List<HotStoreResponse>> hotStores = universityId == null
+                ? CompletableFuture.completedFuture(List.of())
+                : fetch("hotStores", failedSections, () -> storeService.getHotStoresByUniversity(universityId));
+        CompletableFuture<List<CouponResponse>> todayCoupons = universityId == null
+                ? CompletableFuture.completedFuture(List.of())
+                : fetch("todayCoupons", failedSections, () -> couponService.getTodayCoupons(user, universityId));
+        CompletableFuture<List<EventResponse>> events = fetch("events", failedSections, () ->
+                eventService.getEventsByCursor(null, null, EventStatus.LIVE, universityId, CursorRequest.of(null, EVENT_SIZE)).getContent());
+        CompletableFuture<List<FavoriteStoreResponse>> favorites = fetch("favorites", failedSections, () ->
+                favoriteService.getMyFavoritesByCursor(user, CursorRequest.of(null, FAVORITE_SIZE)).getContent());
+
+        CompletableFuture.allOf(hotStores, todayCoupons, events, favorites).join();
+
+        List<String> failed = new ArrayList<>(failedSections);
+        failed.sort(null);
+        return HomeResponse.builder()
+                .hotStores(hotStores.join())
+                .todayCoupons(todayCoupons.join())
+                .events(events.join())
+                .favorites(favorites.join())
+                .failedSections(failed)
+                .build();
+    }
+
+    // 구역 조회 (시간 초과/예외 시 빈 목록)
+    private <T> CompletableFuture<List<T>> fetch(String section, Set<String> failedSections, Supplier<List<T>> query) {
+        return CompletableFuture.supplyAsync(query, executor)
+                .orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("[Home] Section {} failed: {}", section, e.toString());
+                    failedSections.add(section);
+                    return List.of();
+                });
+    }
+}
@@ -0,0 +1,10 @@
+package com.looky.domain.inquiry.dto;
+
+import com.looky.domain.inquiry.entity.InquiryType;
+
+import java.time.LocalDateTime;
+
+// 관리자 문의 목록 엑셀 한 행
+public record InquiryExportRow(Long id, Long userId, String username, InquiryType type, String title,
+                               String content, LocalDateTime createdAt) {
+}
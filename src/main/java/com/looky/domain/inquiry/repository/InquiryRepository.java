@@ -1,10 +1,34 @@
 package com.looky.domain.inquiry.repository;
 
+import com.looky.domain.inquiry.dto.InquiryExportRow;
 import com.looky.domain.inquiry.entity.Inquiry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     Page<Inquiry> findByUserId(Long userId, Pageable pageable);
+
+    // 전체 문의 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @Query("SELECT i FROM Inquiry i WHERE (:cursorCreatedAt IS NULL OR i.createdAt < :cursorCreatedAt " +
+           "OR (i.createdAt = :cursorCreatedAt AND i.id < :cursorId)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquiry> findAllBeforeCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 관리자 엑셀 내보내기용 전체 문의 스트리밍 조회 (최신순, 트랜잭션 안에서 소비 후 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.looky.domain.inquiry.dto.InquiryExportRow(i.id, u.id, u.username, i.type, i.title, i.content, i.createdAt) " +
+           "FROM Inquiry i JOIN i.user u ORDER BY i.createdAt DESC, i.id DESC")
+    Stream<InquiryExportRow> streamAllForExport();
 }
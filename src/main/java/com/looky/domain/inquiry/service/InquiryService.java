@@ -2,8 +2,13 @@ package com.looky.domain.inquiry.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.service.S3Service;
+import com.looky.common.util.CursorRequest;
+import com.looky.common.util.ExcelStreamWriter;
+import com.looky.common.util.ExcelStreamWriter.Column;
 import com.looky.domain.inquiry.dto.CreateInquiryRequest;
+import com.looky.domain.inquiry.dto.InquiryExportRow;
 import com.looky.domain.inquiry.dto.InquiryResponse;
 import com.looky.domain.inquiry.entity.Inquiry;
 import com.looky.domain.inquiry.entity.InquiryImage;
@@ -18,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -79,4 +86,28 @@ public class InquiryService {
         return inquiryRepository.findAll(pageable)
                 .map(InquiryResponse::from);
     }
+
+    // 전체 문의 엑셀 내보내기 (최신순으로 한 행씩 읽어 응답 스트림에 바로 씀)
+    public void exportAllInquiries(OutputStream out) throws IOException {
+        List<Column<InquiryExportRow>> columns = List.of(
+                new Column<>("id", InquiryExportRow::id),
+                new Column<>("userId", InquiryExportRow::userId),
+                new Column<>("username", InquiryExportRow::username),
+                new Column<>("type", InquiryExportRow::type),
+                new Column<>("title", InquiryExportRow::title),
+                new Column<>("content", InquiryExportRow::content),
+                new Column<>("createdAt", InquiryExportRow::createdAt)
+        );
+
+        try (Stream<InquiryExportRow> rows = inquiryRepository.streamAllForExport()) {
+            ExcelStreamWriter.writeSheet(out, "Inquiries", columns, rows);
+        }
+    }
+
+    // 전체 문의 키셋 페이지 (최신순, COUNT 쿼리 없음)
+    public CursorResponse<InquiryResponse> getAllInquiriesByCursor(CursorRequest cursorRequest) {
+        List<Inquiry> inquiries = inquiryRepository.findAllBeforeCursor(cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+        return CursorResponse.of(inquiries, cursorRequest, Inquiry::getId)
+                .map(InquiryResponse::from);
+    }
 }
@@ -4,7 +4,6 @@ import com.looky.common.response.CommonResponse;
 import com.looky.common.response.SwaggerErrorResponse;
 import com.looky.domain.item.entity.ItemCategory;
 import com.looky.domain.item.service.ItemCategoryService;
-import com.looky.security.details.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,7 +13,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -37,10 +35,9 @@ public class ItemCategoryController {
     @PostMapping
     public ResponseEntity<CommonResponse<Long>> createItemCategory(
             @PathVariable Long storeId,
-            @AuthenticationPrincipal PrincipalDetails principalDetails,
             @RequestBody Map<String, String> request
     ) {
-        Long categoryId = itemCategoryService.createItemCategory(storeId, principalDetails.getUser(), request.get("name"));
+        Long categoryId = itemCategoryService.createItemCategory(storeId, request.get("name"));
         return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(categoryId));
     }
 
@@ -58,10 +55,9 @@ public class ItemCategoryController {
     public ResponseEntity<CommonResponse<Void>> updateItemCategory(
             @PathVariable Long storeId,
             @PathVariable Long categoryId,
-            @AuthenticationPrincipal PrincipalDetails principalDetails,
             @RequestBody Map<String, String> request
     ) {
-        itemCategoryService.updateItemCategory(storeId, categoryId, principalDetails.getUser(), request.get("name"));
+        itemCategoryService.updateItemCategory(storeId, categoryId, request.get("name"));
         return ResponseEntity.ok(CommonResponse.success(null));
     }
 
@@ -73,10 +69,9 @@ public class ItemCategoryController {
     @DeleteMapping("/{categoryId}")
     public ResponseEntity<CommonResponse<Void>> deleteItemCategory(
             @PathVariable Long storeId,
-            @PathVariable Long categoryId,
-            @AuthenticationPrincipal PrincipalDetails principalDetails
+            @PathVariable Long categoryId
     ) {
-        itemCategoryService.deleteItemCategory(storeId, categoryId, principalDetails.getUser());
+        itemCategoryService.deleteItemCategory(storeId, categoryId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(CommonResponse.success(null));
     }
 }
@@ -6,7 +6,6 @@ import com.looky.domain.item.dto.CreateItemRequest;
 import com.looky.domain.item.dto.ItemResponse;
 import com.looky.domain.item.dto.UpdateItemRequest;
 import com.looky.domain.item.service.ItemService;
-import com.looky.security.details.PrincipalDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,7 +17,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,12 +40,11 @@ public class ItemController {
         })
         @PostMapping("/stores/{storeId}/items")
         public ResponseEntity<CommonResponse<Long>> createItem(
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @Parameter(description = "상품 ID") @PathVariable Long storeId,
                 @Parameter(description = "상품 이미지") @RequestPart MultipartFile image,
                 @RequestPart @Valid CreateItemRequest request
         ) throws IOException {
-                Long itemId = itemService.createItem(storeId, principalDetails.getUser(), request, image);
+                Long itemId = itemService.createItem(storeId, request, image);
                 return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(itemId));
         }
 
@@ -89,11 +86,10 @@ public class ItemController {
         public ResponseEntity<CommonResponse<Void>> updateItem(
                 @Parameter(description = "상품 ID") @PathVariable Long itemId,
                 @Parameter(description = "변경할 상품 이미지") @RequestPart MultipartFile image,
-                @RequestPart @Valid UpdateItemRequest request,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+                @RequestPart @Valid UpdateItemRequest request
         ) throws IOException {
 
-                itemService.updateItem(itemId, principalDetails.getUser(), request, image);
+                itemService.updateItem(itemId, request, image);
 
                 return ResponseEntity.ok(CommonResponse.success(null));
         }
@@ -106,11 +102,10 @@ public class ItemController {
         })
         @DeleteMapping("/items/{itemId}")
         public ResponseEntity<CommonResponse<Void>> deleteItem(
-                @Parameter(description = "상품 ID") @PathVariable Long itemId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+                @Parameter(description = "상품 ID") @PathVariable Long itemId
         )
         {
-                itemService.deleteItem(itemId, principalDetails.getUser());
+                itemService.deleteItem(itemId);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body(CommonResponse.success(null));
         }
 }
@@ -1,7 +1,10 @@
 package com.looky.domain.item.repository;
 
 import com.looky.domain.item.entity.Item;
+import com.looky.domain.search.dto.SearchSource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +14,17 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     boolean existsByStoreId(Long storeId);
 
     boolean existsByItemCategory(com.looky.domain.item.entity.ItemCategory itemCategory);
+
+    // 검색 자동완성 인덱스 적재용 (숨김 상품, 영업 중지 상점 상품 제외, 설명은 앞부분만)
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(i.id, s.id, i.name, s.name, substring(i.description, 1, 200)) " +
+           "FROM Item i JOIN i.store s WHERE i.isHidden = false AND s.isSuspended = false")
+    List<SearchSource> findAllSearchSources();
+
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(i.id, s.id, i.name, s.name, substring(i.description, 1, 200)) " +
+           "FROM Item i JOIN i.store s WHERE i.id IN :itemIds AND i.isHidden = false AND s.isSuspended = false")
+    List<SearchSource> findSearchSourcesByIds(@Param("itemIds") List<Long> itemIds);
+
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(i.id, s.id, i.name, s.name, substring(i.description, 1, 200)) " +
+           "FROM Item i JOIN i.store s WHERE s.id IN :storeIds AND i.isHidden = false AND s.isSuspended = false")
+    List<SearchSource> findSearchSourcesByStoreIds(@Param("storeIds") List<Long> storeIds);
 }
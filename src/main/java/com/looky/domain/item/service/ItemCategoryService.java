@@ -7,8 +7,7 @@ import com.looky.domain.item.repository.ItemCategoryRepository;
 import com.looky.domain.item.repository.ItemRepository;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.repository.StoreRepository;
-import com.looky.domain.user.entity.User;
-import com.looky.domain.user.repository.UserRepository;
+import com.looky.security.details.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,11 +23,11 @@ public class ItemCategoryService {
     private final ItemCategoryRepository itemCategoryRepository;
     private final ItemRepository itemRepository;
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
     @Transactional
-    public Long createItemCategory(Long storeId, User user, String name) {
-        Store store = getStoreAndValidateOwner(storeId, user);
+    public Long createItemCategory(Long storeId, String name) {
+        Store store = getStoreAndValidateOwner(storeId);
         
         ItemCategory itemCategory = ItemCategory.builder()
                 .store(store)
@@ -43,8 +42,8 @@ public class ItemCategoryService {
     }
 
     @Transactional
-    public void updateItemCategory(Long storeId, Long categoryId, User user, String name) {
-        getStoreAndValidateOwner(storeId, user);
+    public void updateItemCategory(Long storeId, Long categoryId, String name) {
+        getStoreAndValidateOwner(storeId);
         
         ItemCategory category = itemCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
@@ -57,8 +56,8 @@ public class ItemCategoryService {
     }
 
     @Transactional
-    public void deleteItemCategory(Long storeId, Long categoryId, User user) {
-        getStoreAndValidateOwner(storeId, user);
+    public void deleteItemCategory(Long storeId, Long categoryId) {
+        getStoreAndValidateOwner(storeId);
 
         ItemCategory category = itemCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "카테고리를 찾을 수 없습니다."));
@@ -75,14 +74,11 @@ public class ItemCategoryService {
         itemCategoryRepository.delete(category);
     }
 
-    private Store getStoreAndValidateOwner(Long storeId, User user) {
+    private Store getStoreAndValidateOwner(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "매장을 찾을 수 없습니다."));
 
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+        if (!currentUserContext.isOwnerOf(store)) {
              throw new CustomException(ErrorCode.FORBIDDEN, "본인 소유의 매장이 아닙니다.");
         }
         return store;
@@ -13,11 +13,11 @@ import com.looky.domain.item.entity.Item;
 import com.looky.domain.item.entity.ItemCategory;
 import com.looky.domain.item.repository.ItemCategoryRepository;
 import com.looky.domain.item.repository.ItemRepository;
+import com.looky.domain.search.service.SearchSuggestIndex;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.repository.StoreRepository;
 import com.looky.domain.store.service.StoreService;
-import com.looky.domain.user.entity.User;
-import com.looky.domain.user.repository.UserRepository;
+import com.looky.security.details.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,16 +36,17 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final ItemCategoryRepository itemCategoryRepository;
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
     private final S3Service s3Service;
     private final StoreService storeService;
+    private final SearchSuggestIndex searchSuggestIndex;
+    private final CurrentUserContext currentUserContext;
 
     @Transactional
-    public Long createItem(Long storeId, User user, CreateItemRequest request, MultipartFile image) throws IOException {
+    public Long createItem(Long storeId, CreateItemRequest request, MultipartFile image) throws IOException {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
-        validateStoreOwner(store, user);
+        validateStoreOwner(store);
 
         // 이미지 S3에 업로드
         String imageUrl = null;
@@ -68,6 +69,7 @@ public class ItemService {
 
         Item item = request.toEntity(store, itemCategory, imageUrl);
         Item savedItem = itemRepository.save(item);
+        searchSuggestIndex.refreshItem(savedItem.getId());
         
         // 등급 재계산
         storeService.recalculateCloverGrade(store);
@@ -91,11 +93,11 @@ public class ItemService {
     }
 
     @Transactional
-    public void updateItem(Long itemId, User user, UpdateItemRequest request, MultipartFile image) throws IOException{
+    public void updateItem(Long itemId, UpdateItemRequest request, MultipartFile image) throws IOException{
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "상품을 찾을 수 없습니다."));
 
-        validateStoreOwner(item.getStore(), user);
+        validateStoreOwner(item.getStore());
 
         String imageUrl = item.getImageUrl();
 
@@ -137,29 +139,28 @@ public class ItemService {
                 request.getBadge(),
                 itemCategory
         );
+        searchSuggestIndex.refreshItem(itemId);
         
         // 등급 재계산
         storeService.recalculateCloverGrade(item.getStore());
     }
 
     @Transactional
-    public void deleteItem(Long itemId, User user) {
+    public void deleteItem(Long itemId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "상품을 찾을 수 없습니다."));
 
-        validateStoreOwner(item.getStore(), user);
+        validateStoreOwner(item.getStore());
 
         itemRepository.delete(item);
+        searchSuggestIndex.refreshItem(itemId);
         
         // 등급 재계산
         storeService.recalculateCloverGrade(item.getStore());
     }
 
-    private void validateStoreOwner(Store store, User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+    private void validateStoreOwner(Store store) {
+        if (!currentUserContext.isOwnerOf(store)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "가게 주인이 아닙니다.");
         }
     }
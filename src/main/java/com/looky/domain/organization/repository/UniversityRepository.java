@@ -2,6 +2,14 @@ package com.looky.domain.organization.repository;
 
 import com.looky.domain.organization.entity.University;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UniversityRepository extends JpaRepository<University, Long> {
+
+    @Query("SELECT u.id FROM University u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
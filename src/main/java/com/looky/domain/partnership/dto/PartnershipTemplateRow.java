@@ -0,0 +1,5 @@
+package com.looky.domain.partnership.dto;
+
+// 제휴 등록 엑셀 템플릿 한 행 (대학 소속 상점)
+public record PartnershipTemplateRow(Long storeId, String name, String branch, String roadAddress) {
+}
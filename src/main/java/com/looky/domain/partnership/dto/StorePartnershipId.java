@@ -0,0 +1,5 @@
+package com.looky.domain.partnership.dto;
+
+// 조직의 기존 제휴 (상점 ID, 제휴 ID) 쌍 (엑셀 일괄 등록 시 신규/수정 판별용)
+public record StorePartnershipId(Long storeId, Long partnershipId) {
+}
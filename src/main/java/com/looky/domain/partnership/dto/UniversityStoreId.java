@@ -0,0 +1,5 @@
+package com.looky.domain.partnership.dto;
+
+// 제휴 중인 (대학 ID, 상점 ID) 쌍 (제휴 혜택 인덱스 적재용)
+public record UniversityStoreId(Long universityId, Long storeId) {
+}
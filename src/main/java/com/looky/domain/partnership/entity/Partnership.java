@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 @Entity
 @Getter
@@ -35,7 +36,9 @@ public class Partnership extends BaseEntity {
     @JoinColumn(name = "organization_id", nullable = false)
     private Organization organization;
 
-
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PartnershipStatus status; // 제휴 상태 (기간 경과 시 스케줄러가 전환)
 
     @Builder
     public Partnership(String benefit, LocalDate startsAt, LocalDate endsAt, Store store, Organization organization) {
@@ -44,11 +47,16 @@ public class Partnership extends BaseEntity {
         this.endsAt = endsAt;
         this.store = store;
         this.organization = organization;
+        this.status = PartnershipStatus.of(startsAt, endsAt, LocalDate.now(ZoneId.of("Asia/Seoul")));
     }
 
     public void updateBenefit(String benefit, LocalDate startsAt, LocalDate endsAt) {
         this.benefit = benefit;
         this.startsAt = startsAt;
         this.endsAt = endsAt;
+        // 일시 정지된 제휴는 기간이 바뀌어도 정지 상태 유지
+        if (this.status != PartnershipStatus.SUSPENDED) {
+            this.status = PartnershipStatus.of(startsAt, endsAt, LocalDate.now(ZoneId.of("Asia/Seoul")));
+        }
     }
 }
@@ -1,8 +1,19 @@
 package com.looky.domain.partnership.entity;
 
+import java.time.LocalDate;
+
 public enum PartnershipStatus {
 
+    SCHEDULED, // 제휴 시작 전
     ACTIVE, // 제휴 진행 중
     EXPIRED, // 만료됨
-    SUSPENDED // 일시 정지
+    SUSPENDED; // 일시 정지
+
+    // 제휴 기간 기준 상태 (이후 전환은 LifecycleSweeper 가 담당)
+    public static PartnershipStatus of(LocalDate startsAt, LocalDate endsAt, LocalDate today) {
+        if (endsAt.isBefore(today)) {
+            return EXPIRED;
+        }
+        return startsAt.isAfter(today) ? SCHEDULED : ACTIVE;
+    }
 }
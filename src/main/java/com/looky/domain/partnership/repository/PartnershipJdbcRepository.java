@@ -0,0 +1,81 @@
+package com.looky.domain.partnership.repository;
+
+import com.looky.domain.partnership.entity.PartnershipStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 제휴 엑셀 일괄 등록용 JDBC 배치 쓰기 (현재 트랜잭션 커넥션 사용)
+@Repository
+@RequiredArgsConstructor
+public class PartnershipJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_PARTNERSHIP_SQL =
+            "INSERT INTO partnership (created_at, modified_at, benefit, starts_at, ends_at, status, store_id, organization_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 일시 정지된 제휴는 기간이 바뀌어도 정지 상태 유지 (Partnership.updateBenefit 과 동일)
+    private static final String UPDATE_BENEFIT_SQL =
+            "UPDATE partnership SET benefit = ?, starts_at = ?, ends_at = ?, " +
+            "status = CASE WHEN status = 'SUSPENDED' THEN status ELSE ? END, modified_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 조직의 신규 제휴 일괄 생성
+    public void insertPartnerships(Long organizationId, List<PartnershipValues> partnerships) {
+        if (partnerships.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PARTNERSHIP_SQL, partnerships, BATCH_SIZE, (ps, partnership) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setString(3, partnership.benefit());
+            ps.setDate(4, Date.valueOf(partnership.startsAt()));
+            ps.setDate(5, Date.valueOf(partnership.endsAt()));
+            ps.setString(6, partnership.status().name());
+            ps.setLong(7, partnership.storeId());
+            ps.setLong(8, organizationId);
+        });
+    }
+
+    // 기존 제휴 혜택/기간 일괄 수정
+    public void updateBenefits(List<BenefitUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_BENEFIT_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            PartnershipValues values = update.values();
+            ps.setString(1, values.benefit());
+            ps.setDate(2, Date.valueOf(values.startsAt()));
+            ps.setDate(3, Date.valueOf(values.endsAt()));
+            ps.setString(4, values.status().name());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, update.partnershipId());
+        });
+    }
+
+    public record PartnershipValues(
+            Long storeId,
+            String benefit,
+            LocalDate startsAt,
+            LocalDate endsAt,
+            PartnershipStatus status
+    ) {
+    }
+
+    public record BenefitUpdate(Long partnershipId, PartnershipValues values) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.looky.domain.partnership.repository;
 
+import com.looky.domain.partnership.dto.StorePartnershipId;
+import com.looky.domain.partnership.dto.UniversityStoreId;
 import com.looky.domain.partnership.entity.Partnership;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PartnershipRepository extends JpaRepository<Partnership, Long> {
@@ -15,6 +19,11 @@ public interface PartnershipRepository extends JpaRepository<Partnership, Long>
     // 복합키 조회용
     Partnership findByStoreIdAndOrganizationId(Long storeId, Long organizationId);
 
+    // 엑셀 일괄 등록 시 조직의 기존 제휴 선조회
+    @Query("SELECT new com.looky.domain.partnership.dto.StorePartnershipId(p.store.id, p.id) " +
+           "FROM Partnership p WHERE p.organization.id = :organizationId")
+    List<StorePartnershipId> findStorePartnershipIdsByOrganizationId(@Param("organizationId") Long organizationId);
+
     // 대학별 제휴 조회
     @Query("SELECT p FROM Partnership p " +
             "JOIN FETCH p.store s " +
@@ -37,25 +46,54 @@ public interface PartnershipRepository extends JpaRepository<Partnership, Long>
             @Param("universityId") Long universityId
     );
 
+    // 제휴 기간 전환은 LifecycleSweeper 가 status 로 반영
     @Query("SELECT p FROM Partnership p " +
            "JOIN FETCH p.organization o " +
            "WHERE p.store.id IN :storeIds " +
            "AND o.university.id = :universityId " +
-           "AND p.startsAt <= :today AND p.endsAt >= :today")
+           "AND p.status = 'ACTIVE'")
     List<Partnership> findActivePartnershipsByStoreIdsAndUniversityId(
             @Param("storeIds") List<Long> storeIds,
-            @Param("universityId") Long universityId,
-            @Param("today") LocalDate today
+            @Param("universityId") Long universityId
     );
 
     @Query("SELECT COUNT(p) > 0 FROM Partnership p " +
            "JOIN p.organization o " +
            "WHERE p.store.id = :storeId " +
            "AND o.university.id = :universityId " +
-           "AND p.startsAt <= :today AND p.endsAt >= :today")
+           "AND p.status = 'ACTIVE'")
     boolean existsActivePartnership(
             @Param("storeId") Long storeId,
-            @Param("universityId") Long universityId,
-            @Param("today") LocalDate today
+            @Param("universityId") Long universityId
     );
+
+    // 제휴 혜택 인덱스 전체 적재용
+    @Query("SELECT DISTINCT new com.looky.domain.partnership.dto.UniversityStoreId(o.university.id, p.store.id) " +
+           "FROM Partnership p " +
+           "JOIN p.organization o " +
+           "WHERE p.status = 'ACTIVE'")
+    List<UniversityStoreId> findActiveUniversityStoreIds();
+
+    // 제휴 혜택 인덱스 상점 단위 갱신용
+    @Query("SELECT DISTINCT o.university.id FROM Partnership p " +
+           "JOIN p.organization o " +
+           "WHERE p.store.id = :storeId " +
+           "AND p.status = 'ACTIVE'")
+    List<Long> findActiveUniversityIdsByStoreId(@Param("storeId") Long storeId);
+
+    // 시작일이 된 예정 제휴 활성화
+    @Modifying
+    @Query(value = "UPDATE partnership SET status = 'ACTIVE', modified_at = :now " +
+                   "WHERE status = 'SCHEDULED' AND starts_at <= :today AND ends_at >= :today " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int activateScheduledPartnerships(@Param("today") LocalDate today, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 종료일이 지난 제휴 만료
+    @Modifying
+    @Query(value = "UPDATE partnership SET status = 'EXPIRED', modified_at = :now " +
+                   "WHERE status IN ('SCHEDULED', 'ACTIVE') AND ends_at < :today " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    int expirePartnerships(@Param("today") LocalDate today, @Param("now") LocalDateTime now, @Param("limit") int limit);
 }
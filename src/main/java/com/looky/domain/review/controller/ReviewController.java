@@ -1,8 +1,10 @@
 package com.looky.domain.review.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
 import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.review.dto.*;
 import com.looky.domain.review.service.ReviewService;
 import com.looky.security.details.PrincipalDetails;
@@ -100,6 +102,22 @@ public class ReviewController {
                 return ResponseEntity.ok(CommonResponse.success(PageResponse.from(reviews)));
         }
 
+        @Operation(summary = "[공통] 상점 리뷰 목록 커서 조회", description = "paging=cursor 로 요청하면 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class))),
+                        @ApiResponse(responseCode = "404", description = "상점 없음", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+        })
+        @GetMapping(value = "/stores/{storeId}/reviews", params = "paging=cursor")
+        public ResponseEntity<CommonResponse<CursorResponse<ReviewResponse>>> getReviewsByCursor(
+                        @Parameter(description = "상점 ID") @PathVariable Long storeId,
+                        @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size)
+        {
+                CursorResponse<ReviewResponse> reviews = reviewService.getReviewsByCursor(storeId, CursorRequest.of(cursor, size));
+                return ResponseEntity.ok(CommonResponse.success(reviews));
+        }
+
         @Operation(summary = "[공통] 내 리뷰 목록 조회", description = "내가 작성한 리뷰 목록을 조회합니다.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "성공"),
@@ -0,0 +1,13 @@
+package com.looky.domain.review.dto;
+
+// 상점별 리뷰 집계 결과 (답글 제외)
+public record StoreRatingStats(Long storeId, Double averageRating, Long reviewCount) {
+
+    public static StoreRatingStats empty(Long storeId) {
+        return new StoreRatingStats(storeId, 0.0, 0L);
+    }
+
+    public int reviewCountAsInt() {
+        return reviewCount != null ? reviewCount.intValue() : 0;
+    }
+}
@@ -49,7 +49,8 @@ public class Review extends BaseEntity {
 
     private boolean isPrivate;
 
-    @Column(nullable = false)
+    // 좋아요 수는 ReviewRepository.addLikeCount 로만 증감 (엔티티 변경 감지 UPDATE 가 이전 값으로 덮어쓰지 않도록 제외)
+    @Column(nullable = false, updatable = false)
     private int likeCount;
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -103,16 +104,6 @@ public class Review extends BaseEntity {
         this.status = ReviewStatus.BANNED;
     }
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     public void addImage(ReviewImage image) {
         this.images.add(image);
     }
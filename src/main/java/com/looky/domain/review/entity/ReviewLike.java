@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_like", columnNames = {"review_id", "user_id"})
+})
 public class ReviewLike extends BaseEntity {
 
     @Id
@@ -0,0 +1,53 @@
+package com.looky.domain.review.entity;
+
+import com.looky.domain.review.dto.StoreRatingStats;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상점별 리뷰 집계 (리뷰 작성/수정/삭제 시 함께 갱신, 답글 제외)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "store_review_summary")
+public class StoreReviewSummary {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount; // 리뷰 수
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum; // 평점 합계
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    // 평점이 있는 리뷰 기준 평균 (AVG(rating)과 동일하게 null 평점 제외)
+    public double getAverageRating() {
+        long ratedCount = rating1Count + rating2Count + rating3Count + rating4Count + rating5Count;
+        return ratedCount > 0 ? (double) ratingSum / ratedCount : 0.0;
+    }
+
+    public StoreRatingStats toRatingStats() {
+        return new StoreRatingStats(storeId, getAverageRating(), reviewCount);
+    }
+}
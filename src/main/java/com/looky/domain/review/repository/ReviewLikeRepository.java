@@ -4,9 +4,26 @@ import com.looky.domain.review.entity.Review;
 import com.looky.domain.review.entity.ReviewLike;
 import com.looky.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     boolean existsByUserAndReview(User user, Review review);
 
-    void deleteByUserAndReview(User user, Review review);
+    boolean existsByReviewIdAndUserId(Long reviewId, Long userId);
+
+    // 좋아요 추가 (uk_review_like 로 중복 요청은 무시, 실제 추가된 경우 1)
+    // IGNORE 가 FK 오류도 무시하므로 리뷰 존재 여부는 SELECT 로 확인 (없으면 0), 감사 컬럼은 JPA 저장과 같게 채움 (AuditorAware 미등록 -> 작성자 null)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_like (created_at, modified_at, created_by, last_modified_by, user_id, review_id) " +
+            "SELECT :now, :now, NULL, NULL, :userId, r.review_id FROM review r WHERE r.review_id = :reviewId", nativeQuery = true)
+    int insertIgnore(@Param("reviewId") Long reviewId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 좋아요 취소 (실제 삭제된 경우 1)
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.review.id = :reviewId AND l.user.id = :userId")
+    int deleteByReviewIdAndUserId(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
 }
@@ -6,10 +6,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.looky.domain.user.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     @EntityGraph(attributePaths = { "user" })
     Page<Review> findByStoreAndParentReviewIsNull(Store store, Pageable pageable);
@@ -20,6 +24,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @EntityGraph(attributePaths = { "store" })
     Page<Review> findByUserAndParentReviewIsNull(User user, Pageable pageable);
 
+    // 상점 리뷰 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @EntityGraph(attributePaths = { "user" })
+    @Query("SELECT r FROM Review r WHERE r.store.id = :storeId " +
+           "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+           "OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findByStoreIdBeforeCursor(@Param("storeId") Long storeId,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
     boolean existsByUserAndStoreAndParentReviewIsNull(User user, Store store);
 
     Long countByStoreIdAndParentReviewIsNull(Long storeId);
@@ -28,4 +43,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Double findAverageRatingByStoreId(@Param("storeId") Long storeId);
 
     Long countByStoreIdAndRatingAndParentReviewIsNull(Long storeId, Integer rating);
+
+    // 좋아요 수 원자적 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Review r SET r.likeCount = r.likeCount + :delta WHERE r.id = :reviewId AND r.likeCount + :delta >= 0")
+    int addLikeCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
 }
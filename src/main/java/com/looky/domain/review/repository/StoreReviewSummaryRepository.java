@@ -0,0 +1,55 @@
+package com.looky.domain.review.repository;
+
+import com.looky.domain.review.entity.StoreReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreReviewSummaryRepository extends JpaRepository<StoreReviewSummary, Long> {
+
+    // 집계 행이 없으면 생성, 있으면 증감분을 원자적으로 반영
+    @Modifying
+    @Query(value =
+        "INSERT INTO store_review_summary " +
+        "(store_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+        "VALUES (:storeId, :countDelta, :sumDelta, :r1, :r2, :r3, :r4, :r5) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "review_count = review_count + :countDelta, " +
+        "rating_sum = rating_sum + :sumDelta, " +
+        "rating1_count = rating1_count + :r1, " +
+        "rating2_count = rating2_count + :r2, " +
+        "rating3_count = rating3_count + :r3, " +
+        "rating4_count = rating4_count + :r4, " +
+        "rating5_count = rating5_count + :r5",
+        nativeQuery = true)
+    void applyDelta(@Param("storeId") Long storeId,
+                    @Param("countDelta") long countDelta,
+                    @Param("sumDelta") long sumDelta,
+                    @Param("r1") long r1,
+                    @Param("r2") long r2,
+                    @Param("r3") long r3,
+                    @Param("r4") long r4,
+                    @Param("r5") long r5);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM store_review_summary", nativeQuery = true)
+    void deleteAllSummaries();
+
+    // review 테이블 기준 전체 재집계 (드리프트 보정용)
+    @Modifying(clearAutomatically = true)
+    @Query(value =
+        "INSERT INTO store_review_summary " +
+        "(store_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+        "SELECT r.store_id, COUNT(*), COALESCE(SUM(r.rating), 0), " +
+        "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) " +
+        "FROM review r " +
+        "WHERE r.parent_review_id IS NULL " +
+        "GROUP BY r.store_id",
+        nativeQuery = true)
+    int insertAllFromReviews();
+}
@@ -6,12 +6,13 @@ import com.looky.common.util.FileValidator;
 import com.looky.common.service.S3Service;
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.coupon.entity.CouponUsageStatus;
 import com.looky.domain.coupon.repository.StudentCouponRepository;
 import com.looky.domain.review.dto.*;
 import com.looky.domain.review.entity.Review;
 import com.looky.domain.review.entity.ReviewImage;
-import com.looky.domain.review.entity.ReviewLike;
 import com.looky.domain.review.entity.ReviewReport;
 import com.looky.domain.review.repository.ReviewLikeRepository;
 import com.looky.domain.review.repository.ReviewReportRepository;
@@ -27,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.io.IOException;
 
@@ -42,6 +44,7 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ReviewReportRepository reviewReportRepository;
     private final S3Service s3Service;
+    private final StoreReviewSummaryService storeReviewSummaryService;
 
     @Transactional
     public Long createReview(User user, Long storeId, CreateReviewRequest request, List<MultipartFile> images) throws IOException {
@@ -117,6 +120,12 @@ public class ReviewService {
         uploadAndSaveImages(review, images);
 
         reviewRepository.save(review);
+
+        // 일반 리뷰인 경우 상점 리뷰 집계 반영
+        if (parentReview == null) {
+            storeReviewSummaryService.addReview(store.getId(), rating);
+        }
+
         return review.getId();
     }
 
@@ -142,8 +151,14 @@ public class ReviewService {
                     CouponUsageStatus.USED);
         }
 
+        Integer oldRating = review.getRating();
         review.updateReview(request.getContent(), request.getRating(), isVerified);
 
+        // 일반 리뷰의 평점이 바뀐 경우 상점 리뷰 집계 반영
+        if (review.getParentReview() == null) {
+            storeReviewSummaryService.changeRating(store.getId(), oldRating, review.getRating());
+        }
+
         // 새 이미지가 존재하면 기존 것 모두 삭제 후 새로 등록
         if (images != null && !images.isEmpty()) {
 
@@ -177,6 +192,11 @@ public class ReviewService {
             s3Service.deleteFile(image.getImageUrl());
         }
 
+        // 일반 리뷰인 경우 상점 리뷰 집계 반영 (답글은 집계 대상 아님)
+        if (review.getParentReview() == null) {
+            storeReviewSummaryService.removeReview(review.getStore().getId(), review.getRating());
+        }
+
         reviewRepository.delete(review);
     }
 
@@ -188,31 +208,26 @@ public class ReviewService {
                 .map(ReviewResponse::from);
     }
 
+    // 상점 리뷰 키셋 페이지 (최신순, COUNT 쿼리 없음)
+    public CursorResponse<ReviewResponse> getReviewsByCursor(Long storeId, CursorRequest cursorRequest) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "해당 상점을 찾을 수 없습니다.");
+        }
+
+        List<Review> reviews = reviewRepository.findByStoreIdBeforeCursor(
+                storeId, cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+        return CursorResponse.of(reviews, cursorRequest, Review::getId)
+                .map(ReviewResponse::from);
+    }
+
     public Page<ReviewResponse> getMyReviews(User user, Pageable pageable) {
         return reviewRepository.findByUserAndParentReviewIsNull(user, pageable)
                 .map(ReviewResponse::from);
     }
 
     public ReviewStatsResponse getReviewStats(Long storeId) {
-        // 평점 및 개수 산정 시 답글 제외
-        Double avgRating = reviewRepository.findAverageRatingByStoreId(storeId);
-        Long totalReviews = reviewRepository.countByStoreIdAndParentReviewIsNull(storeId);
-        
-        Long rating1 = reviewRepository.countByStoreIdAndRatingAndParentReviewIsNull(storeId, 1);
-        Long rating2 = reviewRepository.countByStoreIdAndRatingAndParentReviewIsNull(storeId, 2);
-        Long rating3 = reviewRepository.countByStoreIdAndRatingAndParentReviewIsNull(storeId, 3);
-        Long rating4 = reviewRepository.countByStoreIdAndRatingAndParentReviewIsNull(storeId, 4);
-        Long rating5 = reviewRepository.countByStoreIdAndRatingAndParentReviewIsNull(storeId, 5);
-
-        return ReviewStatsResponse.builder()
-                .averageRating(avgRating != null ? avgRating : 0.0)
-                .totalReviews(totalReviews != null ? totalReviews : 0L)
-                .rating1Count(rating1 != null ? rating1 : 0L)
-                .rating2Count(rating2 != null ? rating2 : 0L)
-                .rating3Count(rating3 != null ? rating3 : 0L)
-                .rating4Count(rating4 != null ? rating4 : 0L)
-                .rating5Count(rating5 != null ? rating5 : 0L)
-                .build();
+        // 평점 및 개수 산정 시 답글 제외 (상점 리뷰 집계 PK 조회)
+        return storeReviewSummaryService.getReviewStats(storeId);
     }
 
     // 리뷰 신고
@@ -243,31 +258,30 @@ public class ReviewService {
             throw new CustomException(ErrorCode.BAD_REQUEST, "자신의 리뷰에는 좋아요를 누를 수 없습니다.");
         }
 
-        if (reviewLikeRepository.existsByUserAndReview(user, review)) {
+        // 동시 요청은 uk_review_like 로 한 건만 추가되며, 추가된 경우에만 좋아요 수 증가
+        if (reviewLikeRepository.insertIgnore(reviewId, user.getId(), LocalDateTime.now()) == 0) {
+            if (!reviewRepository.existsById(reviewId)) {
+                throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 리뷰입니다.");
+            }
             throw new CustomException(ErrorCode.DUPLICATE_RESOURCE, "이미 좋아요를 누른 리뷰입니다.");
         }
-
-        ReviewLike reviewLike = ReviewLike.builder()
-                .user(user)
-                .review(review)
-                .build();
-
-        reviewLikeRepository.save(reviewLike);
-        review.increaseLikeCount();
+        reviewRepository.addLikeCount(reviewId, 1);
     }
 
     // 리뷰 좋아요 취소
     @Transactional
     public void removeLike(User user, Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 리뷰입니다."));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "존재하지 않는 리뷰입니다.");
+        }
 
-        if (!reviewLikeRepository.existsByUserAndReview(user, review)) {
+        // 좋아요 여부는 잠금 없는 읽기로 먼저 확인 (없는 행을 DELETE 하면 InnoDB 갭 잠금으로 다른 사용자의 INSERT IGNORE 와 교착될 수 있음)
+        // 동시 취소 요청은 실제 삭제된 한 건만 좋아요 수 감소
+        if (!reviewLikeRepository.existsByReviewIdAndUserId(reviewId, user.getId())
+                || reviewLikeRepository.deleteByReviewIdAndUserId(reviewId, user.getId()) == 0) {
             throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "좋아요를 누른 리뷰가 아닙니다.");
         }
-
-        reviewLikeRepository.deleteByUserAndReview(user, review);
-        review.decreaseLikeCount();
+        reviewRepository.addLikeCount(reviewId, -1);
     }
 
     private void uploadAndSaveImages(Review review, List<MultipartFile> images) throws IOException {
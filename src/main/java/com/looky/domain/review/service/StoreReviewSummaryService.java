@@ -0,0 +1,122 @@
+package com.looky.domain.review.service;
+
+import com.looky.domain.review.dto.ReviewStatsResponse;
+import com.looky.domain.review.dto.StoreRatingStats;
+import com.looky.domain.review.entity.StoreReviewSummary;
+import com.looky.domain.review.repository.StoreReviewSummaryRepository;
+import com.looky.domain.store.service.StoreCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class StoreReviewSummaryService {
+
+    private final StoreReviewSummaryRepository storeReviewSummaryRepository;
+    private final StoreCacheService storeCacheService;
+
+    // 일반 리뷰 작성 시 집계 반영
+    @Transactional
+    public void addReview(Long storeId, Integer rating) {
+        long[] histogram = new long[5];
+        accumulate(histogram, rating, 1);
+        applyDelta(storeId, 1, valueOf(rating), histogram);
+    }
+
+    // 일반 리뷰 삭제 시 집계 반영
+    @Transactional
+    public void removeReview(Long storeId, Integer rating) {
+        long[] histogram = new long[5];
+        accumulate(histogram, rating, -1);
+        applyDelta(storeId, -1, -valueOf(rating), histogram);
+    }
+
+    // 일반 리뷰 평점 변경 시 집계 반영
+    @Transactional
+    public void changeRating(Long storeId, Integer oldRating, Integer newRating) {
+        if (Objects.equals(oldRating, newRating)) {
+            return;
+        }
+        long[] histogram = new long[5];
+        accumulate(histogram, oldRating, -1);
+        accumulate(histogram, newRating, 1);
+        applyDelta(storeId, 0, valueOf(newRating) - valueOf(oldRating), histogram);
+    }
+
+    // 상점 단건 평점/리뷰 수 (PK 조회)
+    public StoreRatingStats getRatingStats(Long storeId) {
+        return storeReviewSummaryRepository.findById(storeId)
+                .map(StoreReviewSummary::toRatingStats)
+                .orElseGet(() -> StoreRatingStats.empty(storeId));
+    }
+
+    // 상점 목록 평점/리뷰 수 (PK IN 조회)
+    public Map<Long, StoreRatingStats> getRatingStatsMap(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return storeReviewSummaryRepository.findAllById(storeIds).stream()
+                .map(StoreReviewSummary::toRatingStats)
+                .collect(Collectors.toMap(StoreRatingStats::storeId, Function.identity()));
+    }
+
+    public ReviewStatsResponse getReviewStats(Long storeId) {
+        return storeReviewSummaryRepository.findById(storeId)
+                .map(summary -> ReviewStatsResponse.builder()
+                        .averageRating(summary.getAverageRating())
+                        .totalReviews(summary.getReviewCount())
+                        .rating1Count(summary.getRating1Count())
+                        .rating2Count(summary.getRating2Count())
+                        .rating3Count(summary.getRating3Count())
+                        .rating4Count(summary.getRating4Count())
+                        .rating5Count(summary.getRating5Count())
+                        .build())
+                .orElseGet(() -> ReviewStatsResponse.builder()
+                        .averageRating(0.0)
+                        .totalReviews(0L)
+                        .rating1Count(0L)
+                        .rating2Count(0L)
+                        .rating3Count(0L)
+                        .rating4Count(0L)
+                        .rating5Count(0L)
+                        .build());
+    }
+
+    // review 테이블 기준 전체 재집계 (관리자용)
+    @Transactional
+    public int rebuildAll() {
+        storeReviewSummaryRepository.deleteAllSummaries();
+        int rebuilt = storeReviewSummaryRepository.insertAllFromReviews();
+        storeCacheService.evictAllStoreDetails();
+        log.info("[ReviewSummary] Rebuilt review summaries for {} stores", rebuilt);
+        return rebuilt;
+    }
+
+    private void applyDelta(Long storeId, long countDelta, long sumDelta, long[] histogram) {
+        storeReviewSummaryRepository.applyDelta(storeId, countDelta, sumDelta,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+        // 상점 상세 캐시의 평점/리뷰 수 갱신
+        storeCacheService.evictStoreDetail(storeId);
+    }
+
+    private void accumulate(long[] histogram, Integer rating, int sign) {
+        if (rating != null && rating >= 1 && rating <= 5) {
+            histogram[rating - 1] += sign;
+        }
+    }
+
+    private long valueOf(Integer rating) {
+        return rating != null ? rating : 0;
+    }
+}
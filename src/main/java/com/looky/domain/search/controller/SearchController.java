@@ -0,0 +1,44 @@
+package com.looky.domain.search.controller;
+
+import com.looky.common.response.CommonResponse;
+import com.looky.common.response.SwaggerErrorResponse;
+import com.looky.domain.search.dto.SearchSuggestionResponse;
+import com.looky.domain.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Search", description = "검색 관련 API")
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "[공통] 검색어 자동완성", description = "상점명, 상품명/설명, 상점 소식 제목에서 입력 중인 검색어로 시작하는 항목을 조회합니다. 입력 중인 음절(예: '스탑' -> '스타벅스')과 초성 검색(예: 'ㅅㅌㅂㅅ')을 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 limit", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<CommonResponse<List<SearchSuggestionResponse>>> suggest(
+            @Parameter(description = "입력 중인 검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (최대 20)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SearchSuggestionResponse> response = searchService.suggest(q, limit);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+}
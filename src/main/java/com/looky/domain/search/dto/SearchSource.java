@@ -0,0 +1,5 @@
+package com.looky.domain.search.dto;
+
+// 검색 인덱스 적재용 원본 (title 은 접두 검색, keywords 는 단어 단위 검색, subText 는 표시용)
+public record SearchSource(Long id, Long storeId, String title, String subText, String keywords) {
+}
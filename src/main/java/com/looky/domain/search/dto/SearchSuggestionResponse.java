@@ -0,0 +1,25 @@
+package com.looky.domain.search.dto;
+
+import com.looky.domain.search.service.SearchSuggestIndex.Suggestion;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchSuggestionResponse {
+    private SearchTargetType type;
+    private Long id; // 상점/상품/소식 ID
+    private Long storeId;
+    private String title; // 상점명, 상품명, 소식 제목
+    private String subText; // 상점은 지점명, 상품/소식은 상점명
+
+    public static SearchSuggestionResponse from(Suggestion suggestion) {
+        return SearchSuggestionResponse.builder()
+                .type(suggestion.type())
+                .id(suggestion.id())
+                .storeId(suggestion.storeId())
+                .title(suggestion.title())
+                .subText(suggestion.subText())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.looky.domain.search.dto;
+
+// 검색 자동완성 대상 (목록 정렬 시 앞선 대상 우선)
+public enum SearchTargetType {
+    STORE,
+    ITEM,
+    STORE_NEWS
+}
@@ -0,0 +1,27 @@
+package com.looky.domain.search.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.search.dto.SearchSuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchSuggestIndex searchSuggestIndex;
+
+    // 검색어 자동완성 (DB 조회 없이 인메모리 인덱스만 사용)
+    public List<SearchSuggestionResponse> suggest(String query, int limit) {
+        if (limit < 1 || limit > SearchSuggestIndex.MAX_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "limit 는 1 이상 " + SearchSuggestIndex.MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        return searchSuggestIndex.suggest(query, limit).stream()
+                .map(SearchSuggestionResponse::from)
+                .toList();
+    }
+}
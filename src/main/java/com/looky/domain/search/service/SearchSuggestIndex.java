@@ -0,0 +1,429 @@
+package com.looky.domain.search.service;
+
+import com.looky.common.util.HangulJamo;
+import com.looky.domain.item.repository.ItemRepository;
+import com.looky.domain.search.dto.SearchSource;
+import com.looky.domain.search.dto.SearchTargetType;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.storenews.repository.StoreNewsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 상점/상품/소식 검색어 자동완성용 인메모리 접두 인덱스
+// 제목의 각 단어부터 끝까지를 자모 분해한 키와 초성 키를 정렬 배열로 보관해 이진 탐색 후 접두 범위만 순회
+// 쓰기 경로는 커밋 이후 변경 ID 만 표시하고, 주기 작업이 해당 문서만 다시 읽어 변경분 세그먼트로 스냅샷을 교체 (조회는 잠금 없음)
+// 전체 키 배열은 변경분이 커졌을 때만 다시 만듦 (기본 세그먼트의 변경 전 문서는 현재 문서와 다르면 조회에서 제외)
+@Component
+@Slf4j
+public class SearchSuggestIndex {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int MAX_SCANNED_KEYS = 2_000; // 짧은 접두어의 순회 상한
+    private static final int MAX_KEYWORD_TERMS = 20; // 상품 설명 등 단어 단위 키 상한
+    private static final int LOAD_CHUNK_SIZE = 1_000;
+    private static final int MIN_COMPACTION_THRESHOLD = 1_000; // 변경분 문서 수가 이 값과 전체의 10% 중 큰 값을 넘으면 전체 재구성
+
+    // 접두 일치 위치: 제목 처음 > 제목 중간 단어 > 지점명/설명 단어
+    private static final byte RANK_TITLE_START = 0;
+    private static final byte RANK_TITLE_WORD = 1;
+    private static final byte RANK_KEYWORD = 2;
+
+    private final StoreRepository storeRepository;
+    private final ItemRepository itemRepository;
+    private final StoreNewsRepository storeNewsRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final Set<Long> dirtyStoreIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyItemIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyNewsIds = ConcurrentHashMap.newKeySet();
+
+    private volatile Snapshot snapshot; // 최초 적재 전에는 null (빈 결과)
+
+    public SearchSuggestIndex(StoreRepository storeRepository,
+                              ItemRepository itemRepository,
+                              StoreNewsRepository storeNewsRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.itemRepository = itemRepository;
+        this.storeNewsRepository = storeNewsRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    // 기동 시 및 관리자 재색인 요청 시 전체 재적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Document> documents = readTransaction.execute(status -> {
+            List<Document> loaded = new ArrayList<>();
+            addAll(loaded, SearchTargetType.STORE, storeRepository.findAllSearchSources());
+            addAll(loaded, SearchTargetType.ITEM, itemRepository.findAllSearchSources());
+            addAll(loaded, SearchTargetType.STORE_NEWS, storeNewsRepository.findAllSearchSources());
+            return loaded;
+        });
+
+        Map<DocumentKey, Document> documentsByKey = new HashMap<>(documents.size() * 2);
+        documents.forEach(document -> documentsByKey.put(document.key(), document));
+
+        snapshot = Snapshot.build(documentsByKey);
+        log.info("[SearchSuggestIndex] Indexed {} documents with {} keys", documentsByKey.size(), snapshot.keyCount());
+    }
+
+    public IndexStatus getStatus() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new IndexStatus(0, 0, null);
+        }
+        return new IndexStatus(current.documentsByKey.size(), current.keyCount(), current.builtAt);
+    }
+
+    // 검색어 접두 일치 상위 N 건 (자모 단위 비교라 입력 중인 음절도 일치, 자음만 입력하면 초성 검색)
+    public List<Suggestion> suggest(String query, int limit) {
+        Snapshot current = snapshot;
+        String normalized = normalize(query);
+        if (current == null || normalized.isEmpty()) {
+            return List.of();
+        }
+
+        boolean choseongOnly = HangulJamo.isChoseongOnly(normalized);
+        String prefix = choseongOnly ? normalized : HangulJamo.decompose(normalized);
+
+        Map<Document, Byte> bestRanks = new HashMap<>();
+        collect(current, current.base, choseongOnly, prefix, bestRanks);
+        collect(current, current.delta, choseongOnly, prefix, bestRanks);
+
+        Comparator<Map.Entry<Document, Byte>> order = Comparator
+                .comparing((Map.Entry<Document, Byte> entry) -> entry.getValue())
+                .thenComparing(entry -> entry.getKey().type())
+                .thenComparingInt(entry -> entry.getKey().title().length())
+                .thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder());
+
+        return bestRanks.entrySet().stream()
+                .sorted(order)
+                .limit(Math.min(limit, MAX_LIMIT))
+                .map(entry -> entry.getKey().toSuggestion())
+                .toList();
+    }
+
+    // 세그먼트에서 접두 일치 문서의 최고 순위 수집 (이후 변경/삭제된 문서는 제외)
+    private static void collect(Snapshot snapshot, Segment segment, boolean choseongOnly, String prefix, Map<Document, Byte> bestRanks) {
+        KeyTable table = choseongOnly ? segment.choseongKeys : segment.jamoKeys;
+        int start = table.lowerBound(prefix);
+        int end = Math.min(table.keys.length, start + MAX_SCANNED_KEYS);
+        for (int i = start; i < end && table.keys[i].startsWith(prefix); i++) {
+            Document document = segment.documents[table.documentIndexes[i]];
+            if (snapshot.isLive(document)) {
+                bestRanks.merge(document, table.ranks[i], (a, b) -> (byte) Math.min(a, b));
+            }
+        }
+    }
+
+    // 상점 정보/영업 상태 변경, 삭제 반영 (상점에 속한 상품/소식도 함께 다시 읽음)
+    public void refreshStore(Long storeId) {
+        afterCommit(() -> dirtyStoreIds.add(storeId));
+    }
+
+    // 엑셀 일괄 등록 등 다수 상점 변경 반영
+    public void refreshStores(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(storeIds);
+        afterCommit(() -> dirtyStoreIds.addAll(ids));
+    }
+
+    public void refreshItem(Long itemId) {
+        afterCommit(() -> dirtyItemIds.add(itemId));
+    }
+
+    public void refreshStoreNews(Long newsId) {
+        afterCommit(() -> dirtyNewsIds.add(newsId));
+    }
+
+    // 변경 표시된 문서만 다시 읽어 변경분 세그먼트 교체 (변경분이 커지면 전체 재구성)
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:1000}")
+    public synchronized void applyPendingChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        List<Long> storeIds = drain(dirtyStoreIds);
+        List<Long> itemIds = drain(dirtyItemIds);
+        List<Long> newsIds = drain(dirtyNewsIds);
+        if (storeIds.isEmpty() && itemIds.isEmpty() && newsIds.isEmpty()) {
+            return;
+        }
+
+        List<Document> loaded;
+        try {
+            loaded = readTransaction.execute(status -> {
+                List<Document> documents = new ArrayList<>();
+                for (List<Long> chunk : chunks(storeIds)) {
+                    addAll(documents, SearchTargetType.STORE, storeRepository.findSearchSourcesByIds(chunk));
+                    addAll(documents, SearchTargetType.ITEM, itemRepository.findSearchSourcesByStoreIds(chunk));
+                    addAll(documents, SearchTargetType.STORE_NEWS, storeNewsRepository.findSearchSourcesByStoreIds(chunk));
+                }
+                for (List<Long> chunk : chunks(itemIds)) {
+                    addAll(documents, SearchTargetType.ITEM, itemRepository.findSearchSourcesByIds(chunk));
+                }
+                for (List<Long> chunk : chunks(newsIds)) {
+                    addAll(documents, SearchTargetType.STORE_NEWS, storeNewsRepository.findSearchSourcesByIds(chunk));
+                }
+                return documents;
+            });
+        } catch (Exception e) {
+            log.error("[SearchSuggestIndex] Failed to load {} changed stores, {} items, {} news, will retry",
+                    storeIds.size(), itemIds.size(), newsIds.size(), e);
+            dirtyStoreIds.addAll(storeIds);
+            dirtyItemIds.addAll(itemIds);
+            dirtyNewsIds.addAll(newsIds);
+            return;
+        }
+
+        // 마지막 전체 재구성 이후 바뀐 문서 키 (삭제 포함)
+        Set<DocumentKey> changedKeys = new HashSet<>(current.deltaKeys);
+        Map<DocumentKey, Document> documentsByKey = new HashMap<>(current.documentsByKey);
+
+        Set<Long> changedStoreIds = new HashSet<>(storeIds);
+        Iterator<Document> iterator = documentsByKey.values().iterator();
+        while (iterator.hasNext()) {
+            Document document = iterator.next();
+            if (changedStoreIds.contains(document.storeId())) {
+                changedKeys.add(document.key());
+                iterator.remove();
+            }
+        }
+        itemIds.forEach(id -> removeDocument(documentsByKey, changedKeys, new DocumentKey(SearchTargetType.ITEM, id)));
+        newsIds.forEach(id -> removeDocument(documentsByKey, changedKeys, new DocumentKey(SearchTargetType.STORE_NEWS, id)));
+        loaded.forEach(document -> {
+            documentsByKey.put(document.key(), document);
+            changedKeys.add(document.key());
+        });
+
+        int compactionThreshold = Math.max(MIN_COMPACTION_THRESHOLD, current.base.documents.length / 10);
+        snapshot = changedKeys.size() > compactionThreshold
+                ? Snapshot.build(documentsByKey)
+                : current.withChanges(documentsByKey, changedKeys);
+    }
+
+    private static void removeDocument(Map<DocumentKey, Document> documentsByKey, Set<DocumentKey> changedKeys, DocumentKey key) {
+        documentsByKey.remove(key);
+        changedKeys.add(key);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static List<Long> drain(Set<Long> dirtyIds) {
+        List<Long> ids = new ArrayList<>(dirtyIds);
+        ids.forEach(dirtyIds::remove);
+        return ids;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += LOAD_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + LOAD_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static void addAll(List<Document> target, SearchTargetType type, List<SearchSource> sources) {
+        for (SearchSource source : sources) {
+            target.add(new Document(type, source.id(), source.storeId(), source.title(), source.subText(), source.keywords()));
+        }
+    }
+
+    // 소문자 변환 후 영문/숫자/한글 외 문자(공백 포함) 제거
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^0-9a-z가-힣ㄱ-ㅣ]", "");
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.split("\\s+")) {
+            String normalized = normalize(word);
+            if (!normalized.isEmpty()) {
+                words.add(normalized);
+            }
+        }
+        return words;
+    }
+
+    private record DocumentKey(SearchTargetType type, Long id) {
+    }
+
+    private record Document(SearchTargetType type, Long id, Long storeId, String title, String subText, String keywords) {
+
+        DocumentKey key() {
+            return new DocumentKey(type, id);
+        }
+
+        Suggestion toSuggestion() {
+            return new Suggestion(type, id, storeId, title, subText);
+        }
+    }
+
+    private record KeyEntry(String key, int documentIndex, byte rank) {
+    }
+
+    // 정렬된 키 배열과 키별 문서 위치/일치 순위
+    private record KeyTable(String[] keys, int[] documentIndexes, byte[] ranks) {
+
+        static KeyTable of(List<KeyEntry> entries) {
+            entries.sort(Comparator.comparing(KeyEntry::key));
+            String[] keys = new String[entries.size()];
+            int[] documentIndexes = new int[entries.size()];
+            byte[] ranks = new byte[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                KeyEntry entry = entries.get(i);
+                keys[i] = entry.key();
+                documentIndexes[i] = entry.documentIndex();
+                ranks[i] = entry.rank();
+            }
+            return new KeyTable(keys, documentIndexes, ranks);
+        }
+
+        // prefix 이상인 첫 키 위치
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // 현재 문서 전체와 키 배열 세그먼트 (base: 마지막 전체 재구성 시점, delta: 그 이후 변경된 문서)
+    private static final class Snapshot {
+        private final Map<DocumentKey, Document> documentsByKey;
+        private final Segment base;
+        private final Segment delta;
+        private final Set<DocumentKey> deltaKeys;
+        private final LocalDateTime builtAt;
+
+        private Snapshot(Map<DocumentKey, Document> documentsByKey, Segment base, Segment delta, Set<DocumentKey> deltaKeys, LocalDateTime builtAt) {
+            this.documentsByKey = documentsByKey;
+            this.base = base;
+            this.delta = delta;
+            this.deltaKeys = deltaKeys;
+            this.builtAt = builtAt;
+        }
+
+        static Snapshot build(Map<DocumentKey, Document> documentsByKey) {
+            Segment base = Segment.build(documentsByKey.values().toArray(new Document[0]));
+            return new Snapshot(documentsByKey, base, Segment.EMPTY, Set.of(), LocalDateTime.now());
+        }
+
+        // 기본 세그먼트는 유지하고 변경된 문서만으로 변경분 세그먼트를 다시 만듦
+        Snapshot withChanges(Map<DocumentKey, Document> documentsByKey, Set<DocumentKey> changedKeys) {
+            Document[] changed = changedKeys.stream()
+                    .map(documentsByKey::get)
+                    .filter(Objects::nonNull)
+                    .toArray(Document[]::new);
+            return new Snapshot(documentsByKey, base, Segment.build(changed), changedKeys, builtAt);
+        }
+
+        // 세그먼트의 문서가 현재 문서인지 (변경/삭제 전 문서는 같은 객체가 아님)
+        boolean isLive(Document document) {
+            return documentsByKey.get(document.key()) == document;
+        }
+
+        int keyCount() {
+            return base.jamoKeys.keys().length + delta.jamoKeys.keys().length;
+        }
+    }
+
+    private static final class Segment {
+        private static final Segment EMPTY = build(new Document[0]);
+
+        private final Document[] documents;
+        private final KeyTable jamoKeys;
+        private final KeyTable choseongKeys;
+
+        private Segment(Document[] documents, KeyTable jamoKeys, KeyTable choseongKeys) {
+            this.documents = documents;
+            this.jamoKeys = jamoKeys;
+            this.choseongKeys = choseongKeys;
+        }
+
+        static Segment build(Document[] documents) {
+            List<KeyEntry> jamoEntries = new ArrayList<>(documents.length * 4);
+            List<KeyEntry> choseongEntries = new ArrayList<>(documents.length * 4);
+
+            for (int index = 0; index < documents.length; index++) {
+                // 제목은 각 단어부터 끝까지 이어 붙인 문자열을 키로 사용 ("스타벅스 강남점" -> "스타벅스강남점", "강남점")
+                List<String> titleWords = words(documents[index].title());
+                for (int start = 0; start < titleWords.size(); start++) {
+                    String suffix = String.join("", titleWords.subList(start, titleWords.size()));
+                    byte rank = start == 0 ? RANK_TITLE_START : RANK_TITLE_WORD;
+                    addKeys(jamoEntries, choseongEntries, suffix, index, rank);
+                }
+
+                List<String> keywordWords = words(documents[index].keywords());
+                for (String word : keywordWords.subList(0, Math.min(keywordWords.size(), MAX_KEYWORD_TERMS))) {
+                    addKeys(jamoEntries, choseongEntries, word, index, RANK_KEYWORD);
+                }
+            }
+
+            return new Segment(documents, KeyTable.of(jamoEntries), KeyTable.of(choseongEntries));
+        }
+
+        private static void addKeys(List<KeyEntry> jamoEntries, List<KeyEntry> choseongEntries, String text, int index, byte rank) {
+            jamoEntries.add(new KeyEntry(HangulJamo.decompose(text), index, rank));
+            choseongEntries.add(new KeyEntry(HangulJamo.choseong(text), index, rank));
+        }
+    }
+
+    public record Suggestion(SearchTargetType type, Long id, Long storeId, String title, String subText) {
+    }
+
+    // 인스턴스별 인덱스 현황
+    public record IndexStatus(int documentCount, int keyCount, LocalDateTime builtAt) {
+    }
+}
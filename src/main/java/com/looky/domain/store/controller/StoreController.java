@@ -5,7 +5,9 @@ import com.looky.domain.store.entity.StoreMood;
 
 import com.looky.common.response.SwaggerErrorResponse;
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.store.dto.*;
 import com.looky.domain.store.service.StoreService;
 import com.looky.security.details.PrincipalDetails;
@@ -47,11 +49,10 @@ public class StoreController {
         })
         @PostMapping
         public ResponseEntity<CommonResponse<Long>> createStore(
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @Parameter(description = "상품 이미지 목록") @RequestPart List<MultipartFile> images,
                 @RequestPart @Valid CreateStoreRequest request
         ) throws IOException {
-                Long storeId = storeService.createStore(principalDetails.getUser(), request, images);
+                Long storeId = storeService.createStore(request, images);
                 return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(storeId));
         }
 
@@ -64,12 +65,11 @@ public class StoreController {
         })
         @PatchMapping("/{storeId}")
         public ResponseEntity<CommonResponse<Void>> updateStore(
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
                 @Parameter(description = "상점 ID") @PathVariable Long storeId,
                 @RequestPart @Valid UpdateStoreRequest request,
                 @RequestPart(required = false) List<MultipartFile> images
         ) throws IOException {
-                storeService.updateStore(storeId, principalDetails.getUser(), request, images);
+                storeService.updateStore(storeId, request, images);
                 return ResponseEntity.ok(CommonResponse.success(null));
         }
 
@@ -77,10 +77,9 @@ public class StoreController {
         @DeleteMapping("/{storeId}/images/{imageId}")
         public ResponseEntity<CommonResponse<Void>> deleteStoreImage(
                 @PathVariable Long storeId,
-                @PathVariable Long imageId,
-                @AuthenticationPrincipal PrincipalDetails principalDetails
+                @PathVariable Long imageId
         ) {
-                storeService.deleteStoreImage(storeId, imageId, principalDetails.getUser());
+                storeService.deleteStoreImage(storeId, imageId);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body(CommonResponse.success(null));
         }
 
@@ -92,10 +91,9 @@ public class StoreController {
         })
         @DeleteMapping("/{storeId}")
         public ResponseEntity<CommonResponse<Void>> deleteStore(
-                @Parameter(description = "상점 ID") @PathVariable Long storeId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+                @Parameter(description = "상점 ID") @PathVariable Long storeId
         ) {
-                storeService.deleteStore(storeId, principalDetails.getUser());
+                storeService.deleteStore(storeId);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body(CommonResponse.success(null));
         }
 
@@ -104,10 +102,8 @@ public class StoreController {
                 @ApiResponse(responseCode = "200", description = "조회 성공")
         })
         @GetMapping("/my-stores")
-        public ResponseEntity<CommonResponse<List<StoreResponse>>> getMyStores(
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
-        ) {
-                List<StoreResponse> response = storeService.getMyStores(principalDetails.getUser());
+        public ResponseEntity<CommonResponse<List<StoreResponse>>> getMyStores() {
+                List<StoreResponse> response = storeService.getMyStores();
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
@@ -119,10 +115,9 @@ public class StoreController {
         })
         @GetMapping("/{storeId}/stats")
         public ResponseEntity<CommonResponse<StoreStatsResponse>> getStoreStats(
-                @Parameter(description = "상점 ID") @PathVariable Long storeId,
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+                @Parameter(description = "상점 ID") @PathVariable Long storeId
         ) {
-                StoreStatsResponse response = storeService.getStoreStats(storeId, principalDetails.getUser());
+                StoreStatsResponse response = storeService.getStoreStats(storeId);
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
@@ -159,7 +154,7 @@ public class StoreController {
         })
         @GetMapping
         public ResponseEntity<CommonResponse<PageResponse<StoreResponse>>> getStores(
-                @Parameter(description = "검색 키워드 (상점 이름)") @RequestParam(required = false) String keyword,
+                @Parameter(description = "검색 키워드 (상점 이름/지점명/주소)") @RequestParam(required = false) String keyword,
                 @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(required = false) List<StoreCategory> categories,
                 @Parameter(description = "분위기 필터 (복수 선택 가능)") @RequestParam(required = false) List<StoreMood> moods,
                 @Parameter(description = "대학(상권) ID 필터") @RequestParam(required = false) Long universityId,
@@ -171,19 +166,43 @@ public class StoreController {
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
-        @Operation(summary = "[학생] 주위 상점 조회", description = "위도, 경도, 반경(km)을 기준으로 주위 상점을 조회합니다.")
+        @Operation(summary = "[학생] 상점 목록 커서 조회", description = "paging=cursor 로 요청하면 최신 등록순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
         @ApiResponses(value = {
-                @ApiResponse(responseCode = "200", description = "상점 목록 조회 성공")
+                        @ApiResponse(responseCode = "200", description = "상점 목록 조회 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 크기", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
+        })
+        @GetMapping(params = "paging=cursor")
+        public ResponseEntity<CommonResponse<CursorResponse<StoreResponse>>> getStoresByCursor(
+                @Parameter(description = "검색 키워드 (상점 이름/지점명/주소)") @RequestParam(required = false) String keyword,
+                @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(required = false) List<StoreCategory> categories,
+                @Parameter(description = "분위기 필터 (복수 선택 가능)") @RequestParam(required = false) List<StoreMood> moods,
+                @Parameter(description = "대학(상권) ID 필터") @RequestParam(required = false) Long universityId,
+                @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
+        ) {
+                User user = principalDetails != null ? principalDetails.getUser() : null;
+                CursorResponse<StoreResponse> response = storeService.getStoresByCursor(keyword, categories, moods, universityId, CursorRequest.of(cursor, size), user);
+                return ResponseEntity.ok(CommonResponse.success(response));
+        }
+
+        @Operation(summary = "[학생] 주위 상점 조회", description = "위도, 경도, 반경(km)을 기준으로 주위 상점을 거리순으로 조회합니다. 다음 페이지는 마지막 상점의 distance, id를 커서로 전달합니다.")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "상점 목록 조회 성공"),
+                @ApiResponse(responseCode = "400", description = "잘못된 쿼리 파라미터", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
         })
         @GetMapping("/nearby")
         public ResponseEntity<CommonResponse<List<StoreResponse>>> getNearbyStores(
                 @Parameter(description = "위도") @RequestParam Double latitude,
                 @Parameter(description = "경도") @RequestParam Double longitude,
                 @Parameter(description = "반경(km)") @RequestParam Double radius,
+                @Parameter(description = "조회 개수 (기본 100, 최대 300)") @RequestParam(required = false) Integer limit,
+                @Parameter(description = "커서: 이전 페이지 마지막 상점의 distance") @RequestParam(required = false) Double cursorDistance,
+                @Parameter(description = "커서: 이전 페이지 마지막 상점의 id") @RequestParam(required = false) Long cursorId,
                 @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
         ) {
                 User user = principalDetails != null ? principalDetails.getUser() : null;
-                List<StoreResponse> response = storeService.getNearbyStores(latitude, longitude, radius, user);
+                List<StoreResponse> response = storeService.getNearbyStores(latitude, longitude, radius, limit, cursorDistance, cursorId, user);
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
@@ -209,10 +228,8 @@ public class StoreController {
                 @ApiResponse(responseCode = "403", description = "권한 없음 (학생 아님/대학 미소속)", content = @Content(schema = @Schema(implementation = SwaggerErrorResponse.class)))
         })
         @GetMapping("/hot")
-        public ResponseEntity<CommonResponse<List<HotStoreResponse>>> getHotStores(
-                @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails
-        ) {
-                List<HotStoreResponse> response = storeService.getHotStores(principalDetails.getUser());
+        public ResponseEntity<CommonResponse<List<HotStoreResponse>>> getHotStores() {
+                List<HotStoreResponse> response = storeService.getHotStores();
                 return ResponseEntity.ok(CommonResponse.success(response));
         }
 
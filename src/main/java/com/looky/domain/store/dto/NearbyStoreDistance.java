@@ -0,0 +1,7 @@
+package com.looky.domain.store.dto;
+
+// 주변 상점 검색 결과 (상점 ID, 검색 위치로부터 거리(km))
+public interface NearbyStoreDistance {
+    Long getStoreId();
+    Double getDistance();
+}
@@ -0,0 +1,11 @@
+package com.looky.domain.store.dto;
+
+import com.looky.domain.store.entity.StoreClaimStatus;
+
+import java.time.LocalDateTime;
+
+// 관리자 상점 소유권 요청 목록 엑셀 한 행 (신청자 이름은 점주 프로필 조인)
+public record StoreClaimExportRow(Long id, Long storeId, Long userId, String ownerName, String storeName,
+                                  String bizRegNo, String representativeName, String storePhone,
+                                  StoreClaimStatus status, LocalDateTime createdAt, String adminMemo) {
+}
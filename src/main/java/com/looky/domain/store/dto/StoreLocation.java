@@ -0,0 +1,5 @@
+package com.looky.domain.store.dto;
+
+// 상점 좌표 (주변 상점 인덱스 적재용)
+public record StoreLocation(Long storeId, Double latitude, Double longitude) {
+}
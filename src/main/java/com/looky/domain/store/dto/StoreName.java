@@ -0,0 +1,5 @@
+package com.looky.domain.store.dto;
+
+// 상점 ID 와 상호명 (제휴 엑셀 업로드 상호명 대조용)
+public record StoreName(Long storeId, String name) {
+}
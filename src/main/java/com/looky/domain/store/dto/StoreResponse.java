@@ -14,7 +14,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class StoreResponse {
     private Long id;
     private Long userId; // Owner ID
@@ -38,8 +38,13 @@ public class StoreResponse {
     private Boolean isPartnership; // 제휴 여부
     private Boolean hasCoupon; // 쿠폰 보유 여부
     private CloverGrade cloverGrade; // 클로버 등급
+    private Double distance; // 검색 위치로부터 거리(km), 주변 상점 조회 시에만 포함
 
     public static StoreResponse of(Store store, Double averageRating, Integer reviewCount, Boolean isPartnership, Boolean hasCoupon, CloverGrade cloverGrade) {
+        return of(store, averageRating, reviewCount, isPartnership, hasCoupon, cloverGrade, null);
+    }
+
+    public static StoreResponse of(Store store, Double averageRating, Integer reviewCount, Boolean isPartnership, Boolean hasCoupon, CloverGrade cloverGrade, Double distance) {
         return StoreResponse.builder()
                 .id(store.getId())
                 .userId(store.getUser() != null ? store.getUser().getId() : null)
@@ -63,6 +68,15 @@ public class StoreResponse {
                 .isPartnership(isPartnership)
                 .hasCoupon(hasCoupon)
                 .cloverGrade(cloverGrade)
+                .distance(distance)
+                .build();
+    }
+
+    // 캐시된 사용자 무관 상세에 사용자별 제휴/쿠폰 여부를 덧씌운 사본
+    public StoreResponse withBenefitFlags(Boolean isPartnership, Boolean hasCoupon) {
+        return toBuilder()
+                .isPartnership(isPartnership)
+                .hasCoupon(hasCoupon)
                 .build();
     }
 
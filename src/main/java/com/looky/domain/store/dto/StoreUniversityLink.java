@@ -0,0 +1,5 @@
+package com.looky.domain.store.dto;
+
+// 상점-대학 연결 (엑셀 일괄 등록 시 중복 연결 판별용)
+public record StoreUniversityLink(Long storeId, Long universityId) {
+}
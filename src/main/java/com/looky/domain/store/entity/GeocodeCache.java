@@ -0,0 +1,38 @@
+package com.looky.domain.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 정규화된 주소 -> 좌표 캐시 (좌표가 null 이면 검색 결과 없음, app.geocoding.not-found-ttl-hours 이후 재조회)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "geocode_cache")
+public class GeocodeCache {
+
+    @Id
+    @Column(name = "address")
+    private String address; // refineAddress 적용된 도로명 주소
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isResolved() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean isExpiredNotFound(LocalDateTime cutoff) {
+        return !isResolved() && createdAt.isBefore(cutoff);
+    }
+}
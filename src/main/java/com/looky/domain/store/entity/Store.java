@@ -17,7 +17,9 @@ import java.time.LocalDate;
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "store")
+@Table(name = "store", indexes = {
+        @Index(name = "idx_store_location", columnList = "is_suspended, latitude, longitude")
+})
 public class Store extends BaseEntity {
 
     @Id
@@ -84,7 +86,7 @@ public class Store extends BaseEntity {
     @Column(name = "holiday_ends_at")
     private LocalDate holidayEndsAt; // 휴무 종료일
 
-    @Column(nullable = false)
+    @Column(name = "is_suspended", nullable = false)
     private Boolean isSuspended = false; // 영업 중지 여부
 
     @Enumerated(EnumType.STRING)
@@ -198,6 +200,12 @@ public class Store extends BaseEntity {
         this.checkReason = null;
     }
 
+    // 좌표 갱신 (주변 상점 검색 인덱스 대상 컬럼)
+    public void updateLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public void markAsNeedCheck(String reason) {
         this.needToCheck = true;
         this.checkReason = reason;
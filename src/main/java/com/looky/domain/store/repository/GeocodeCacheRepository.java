@@ -0,0 +1,32 @@
+package com.looky.domain.store.repository;
+
+import com.looky.domain.store.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+
+    // 동시에 같은 주소를 조회한 경우 먼저 저장된 결과 유지
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO geocode_cache (address, latitude, longitude, created_at) " +
+            "VALUES (:address, :latitude, :longitude, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("address") String address,
+                     @Param("latitude") Double latitude,
+                     @Param("longitude") Double longitude,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    // 만료된 검색 결과 없음 항목 삭제 (좌표가 있는 항목은 유지)
+    @Modifying
+    @Query(value = "DELETE FROM geocode_cache WHERE address = :address AND latitude IS NULL AND created_at < :cutoff",
+           nativeQuery = true)
+    int deleteNotFound(@Param("address") String address, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM geocode_cache WHERE latitude IS NULL AND created_at < :cutoff LIMIT :limit",
+           nativeQuery = true)
+    int deleteNotFoundBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
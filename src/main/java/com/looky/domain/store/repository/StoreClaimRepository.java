@@ -1,14 +1,41 @@
 package com.looky.domain.store.repository;
 
+import com.looky.domain.store.dto.StoreClaimExportRow;
 import com.looky.domain.store.entity.StoreClaim;
 import com.looky.domain.store.entity.StoreClaimStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StoreClaimRepository extends JpaRepository<StoreClaim, Long> {
     Page<StoreClaim> findByStatus(StoreClaimStatus status, Pageable pageable);
+
+    // 소유권 요청 키셋 페이지 (status 가 null 이면 전체, createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @Query("SELECT c FROM StoreClaim c WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+           "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<StoreClaim> findBeforeCursor(@Param("status") StoreClaimStatus status,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 관리자 엑셀 내보내기용 소유권 요청 스트리밍 조회 (status 가 null 이면 전체, 최신순, 트랜잭션 안에서 소비 후 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.looky.domain.store.dto.StoreClaimExportRow(c.id, c.storeId, c.userId, op.name, c.storeName, " +
+           "c.bizRegNo, c.representativeName, c.storePhone, c.status, c.createdAt, c.adminMemo) " +
+           "FROM StoreClaim c LEFT JOIN OwnerProfile op ON op.userId = c.userId " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Stream<StoreClaimExportRow> streamForExport(@Param("status") StoreClaimStatus status);
     boolean existsByStoreIdAndStatus(Long storeId, StoreClaimStatus status);
     List<StoreClaim> findByUserId(Long userId);
 }
@@ -0,0 +1,100 @@
+package com.looky.domain.store.repository;
+
+import com.looky.domain.store.dto.StoreUniversityLink;
+import com.looky.domain.store.entity.StoreStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 엑셀 일괄 등록용 JDBC 배치 쓰기 (현재 트랜잭션 커넥션 사용)
+@Repository
+@RequiredArgsConstructor
+public class StoreJdbcRepository {
+
+    private static final String INSERT_STORE_SQL =
+            "INSERT INTO store (created_at, modified_at, name, branch, road_address, jibun_address, latitude, longitude, store_status, is_suspended, clover_grade) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 'SEED')";
+
+    private static final String INSERT_STORE_UNIVERSITY_SQL =
+            "INSERT INTO store_university (store_id, university_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 주인 없는(UNCLAIMED) 상점 일괄 생성 후 입력 순서대로 생성된 ID 반환
+    public List<Long> insertUnclaimedStores(List<NewStore> stores) {
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_STORE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (NewStore store : stores) {
+                    ps.setTimestamp(1, now);
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, store.name());
+                    ps.setString(4, store.branch());
+                    ps.setString(5, store.roadAddress());
+                    ps.setString(6, store.jibunAddress());
+                    setNullableDouble(ps, 7, store.latitude());
+                    setNullableDouble(ps, 8, store.longitude());
+                    ps.setString(9, StoreStatus.UNCLAIMED.name());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(stores.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != stores.size()) {
+                    throw new IllegalStateException("생성된 상점 ID 개수가 일치하지 않습니다. expected=" + stores.size() + ", actual=" + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    // 상점-대학 연결 일괄 생성
+    public void insertStoreUniversities(List<StoreUniversityLink> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_STORE_UNIVERSITY_SQL, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link.storeId());
+            ps.setLong(2, link.universityId());
+        });
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    public record NewStore(
+            String name,
+            String branch,
+            String roadAddress,
+            String jibunAddress,
+            Double latitude,
+            Double longitude
+    ) {
+    }
+}
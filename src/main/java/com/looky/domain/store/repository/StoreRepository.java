@@ -1,13 +1,17 @@
 package com.looky.domain.store.repository;
 
+import com.looky.domain.search.dto.SearchSource;
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreLocation;
+import com.looky.domain.store.dto.StoreName;
 import com.looky.domain.store.entity.Store;
-import com.looky.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,22 +22,68 @@ public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecific
 
     boolean existsByBizRegNo(String bizRegNo);
 
-    List<Store> findAllByUser(User user);
+    List<Store> findAllByUserId(Long userId);
+
+    // 제휴 엑셀 일괄 등록 청크 단위 상점 존재/상호명 선조회
+    @Query("SELECT new com.looky.domain.store.dto.StoreName(s.id, s.name) FROM Store s WHERE s.id IN :ids")
+    List<StoreName> findNamesByIds(@Param("ids") Collection<Long> ids);
 
     Optional<Store> findByNameAndRoadAddress(String name, String roadAddress);
 
+    // 엑셀 일괄 등록 청크 단위 기존 상점 선조회 (상호명+도로명 주소 쌍은 호출 측에서 재확인)
+    List<Store> findByNameInAndRoadAddressIn(Collection<String> names, Collection<String> roadAddresses);
+
+    long countByNeedToCheckTrue();
+
+    // 위경도 인덱스 기반 바운딩 박스로 후보를 좁힌 뒤 구면 거리(km)로 반경 필터
+    // 커서: (distance, store_id) 기준 키셋 페이지네이션
     @Query(value =
-        "SELECT *, " +
-        "(6371 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(latitude)))) AS distance " +
-        "FROM store " +
-        "WHERE is_suspended = false " +
-        "HAVING distance <= :radius " +
-        "ORDER BY distance",
+        "SELECT d.store_id AS storeId, d.distance AS distance FROM (" +
+        "    SELECT s.store_id, ST_Distance_Sphere(POINT(s.longitude, s.latitude), POINT(:longitude, :latitude)) / 1000 AS distance " +
+        "    FROM store s " +
+        "    WHERE s.is_suspended = false " +
+        "    AND s.latitude BETWEEN :minLatitude AND :maxLatitude " +
+        "    AND s.longitude BETWEEN :minLongitude AND :maxLongitude" +
+        ") d " +
+        "WHERE d.distance <= :radius " +
+        "AND (d.distance > :cursorDistance OR (d.distance = :cursorDistance AND d.store_id > :cursorId)) " +
+        "ORDER BY d.distance, d.store_id " +
+        "LIMIT :limit",
         nativeQuery = true)
-    List<Store> findByLocationWithin(@Param("latitude") double latitude, @Param("longitude") double longitude, @Param("radius") double radius);
+    List<NearbyStoreDistance> findNearbyStoreDistances(@Param("latitude") double latitude,
+                                                       @Param("longitude") double longitude,
+                                                       @Param("radius") double radius,
+                                                       @Param("minLatitude") double minLatitude,
+                                                       @Param("maxLatitude") double maxLatitude,
+                                                       @Param("minLongitude") double minLongitude,
+                                                       @Param("maxLongitude") double maxLongitude,
+                                                       @Param("cursorDistance") double cursorDistance,
+                                                       @Param("cursorId") long cursorId,
+                                                       @Param("limit") int limit);
+
+    // 주변 상점 인메모리 인덱스 적재용 좌표 목록
+    @Query("SELECT new com.looky.domain.store.dto.StoreLocation(s.id, s.latitude, s.longitude) FROM Store s " +
+           "WHERE s.isSuspended = false AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    List<StoreLocation> findAllActiveLocations();
 
     @Query("SELECT s FROM Store s " +
            "WHERE s.storeStatus = 'UNCLAIMED' " +
            "AND (s.name LIKE %:keyword% OR s.roadAddress LIKE %:keyword% OR s.jibunAddress LIKE %:keyword%)")
     List<Store> findUnclaimedByNameOrAddress(@Param("keyword") String keyword);
+
+    // 미등록 상점 FULLTEXT(ngram) 검색, 관련도순 (query 는 FullTextQuery.toBooleanQuery 결과)
+    @Query("SELECT s FROM Store s " +
+           "WHERE s.storeStatus = 'UNCLAIMED' " +
+           "AND function('store_fulltext_match', s.name, s.branch, s.roadAddress, s.jibunAddress, :query) > 0 " +
+           "ORDER BY function('store_fulltext_match', s.name, s.branch, s.roadAddress, s.jibunAddress, :query) DESC, s.id DESC")
+    List<Store> findUnclaimedByFullText(@Param("query") String query);
+
+    // 검색 자동완성 인덱스 적재용 (영업 중지 상점 제외)
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(s.id, s.id, s.name, s.branch, s.branch) FROM Store s " +
+           "WHERE s.isSuspended = false")
+    List<SearchSource> findAllSearchSources();
+
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(s.id, s.id, s.name, s.branch, s.branch) FROM Store s " +
+           "WHERE s.id IN :storeIds AND s.isSuspended = false")
+    List<SearchSource> findSearchSourcesByIds(@Param("storeIds") List<Long> storeIds);
 }
@@ -1,8 +1,13 @@
 package com.looky.domain.store.repository;
 
+import com.looky.common.config.StoreFullTextFunctionContributor;
+import com.looky.common.util.FullTextQuery;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.entity.StoreCategory;
 import com.looky.domain.store.entity.StoreMood;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.SetJoin;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -10,15 +15,37 @@ import java.util.List;
 
 public class StoreSpecification {
 
+    // 상점명/지점명/주소 FULLTEXT(ngram) 검색, 1글자 단어가 포함된 검색어는 상점명 LIKE 검색
     public static Specification<Store> hasKeyword(String keyword) {
         return (root, query, cb) -> {
             if (keyword == null || keyword.isBlank()) {
                 return null;
             }
-            return cb.like(root.get("name"), "%" + keyword + "%");
+            String booleanQuery = FullTextQuery.toBooleanQuery(keyword);
+            if (booleanQuery == null) {
+                return cb.like(root.get("name"), "%" + keyword.trim() + "%");
+            }
+            return cb.greaterThan(fullTextScore(root, cb, booleanQuery), 0.0);
+        };
+    }
+
+    // 검색 관련도 내림차순 정렬 (별도 정렬 조건이 없는 오프셋 페이지 목록에서만 사용, COUNT 쿼리에서는 정렬이 제거됨)
+    public static Specification<Store> orderByRelevance(String keyword) {
+        return (root, query, cb) -> {
+            String booleanQuery = FullTextQuery.toBooleanQuery(keyword);
+            if (booleanQuery != null) {
+                query.orderBy(cb.desc(fullTextScore(root, cb, booleanQuery)), cb.desc(root.get("id")));
+            }
+            return null;
         };
     }
 
+    private static Expression<Double> fullTextScore(Root<Store> root, CriteriaBuilder cb, String booleanQuery) {
+        return cb.function(StoreFullTextFunctionContributor.STORE_FULLTEXT_MATCH, Double.class,
+                root.get("name"), root.get("branch"), root.get("roadAddress"), root.get("jibunAddress"),
+                cb.literal(booleanQuery));
+    }
+
     public static Specification<Store> hasCategories(List<StoreCategory> categories) {
         return (root, query, cb) -> {
             if (categories == null || categories.isEmpty()) {
@@ -1,12 +1,33 @@
 package com.looky.domain.store.repository;
 
+import com.looky.domain.partnership.dto.PartnershipTemplateRow;
+import com.looky.domain.store.dto.StoreUniversityLink;
 import com.looky.domain.store.entity.StoreUniversity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface StoreUniversityRepository extends JpaRepository<StoreUniversity, Long> {
     boolean existsByStoreIdAndUniversityId(Long storeId, Long universityId);
 
-    List<StoreUniversity> findByUniversityId(Long universityId);
+    @Query("SELECT new com.looky.domain.store.dto.StoreUniversityLink(su.store.id, su.university.id) " +
+            "FROM StoreUniversity su WHERE su.store.id IN :storeIds")
+    List<StoreUniversityLink> findLinksByStoreIds(@Param("storeIds") Collection<Long> storeIds);
+
+    // 주어진 상점 중 해당 대학에 연결된 상점 ID
+    @Query("SELECT su.store.id FROM StoreUniversity su WHERE su.university.id = :universityId AND su.store.id IN :storeIds")
+    List<Long> findLinkedStoreIds(@Param("universityId") Long universityId, @Param("storeIds") Collection<Long> storeIds);
+
+    // 제휴 엑셀 템플릿 스트리밍 조회 (상점 조인 프로젝션, MySQL 행 단위 fetch 이므로 트랜잭션 안에서 소비 후 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.looky.domain.partnership.dto.PartnershipTemplateRow(s.id, s.name, s.branch, s.roadAddress) " +
+            "FROM StoreUniversity su JOIN su.store s WHERE su.university.id = :universityId ORDER BY s.id")
+    Stream<PartnershipTemplateRow> streamTemplateRowsByUniversityId(@Param("universityId") Long universityId);
 }
@@ -0,0 +1,84 @@
+package com.looky.domain.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 대학별 주간 찜 증가 수 (store_weekly_favorite_stats) JDBC 접근
+@Repository
+@RequiredArgsConstructor
+public class StoreWeeklyFavoriteStatsRepository {
+
+    // 행이 없으면 생성, 있으면 증감분을 원자적으로 반영 (음수로 내려가지 않음)
+    private static final String APPLY_DELTA_SQL =
+            "INSERT INTO store_weekly_favorite_stats (week_start, university_id, store_id, favorite_count, updated_at) " +
+            "VALUES (?, ?, ?, GREATEST(?, 0), ?) " +
+            "ON DUPLICATE KEY UPDATE favorite_count = GREATEST(favorite_count + ?, 0), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String FIND_BY_WEEK_SQL =
+            "SELECT university_id, store_id, favorite_count FROM store_weekly_favorite_stats " +
+            "WHERE week_start = ? AND favorite_count > 0";
+
+    private static final String EXISTS_BY_WEEK_SQL =
+            "SELECT EXISTS (SELECT 1 FROM store_weekly_favorite_stats WHERE week_start = ?)";
+
+    // favorite_store 기준 해당 주 집계 (이미 있는 행은 유지)
+    private static final String SEED_WEEK_SQL =
+            "INSERT IGNORE INTO store_weekly_favorite_stats (week_start, university_id, store_id, favorite_count, updated_at) " +
+            "SELECT ?, su.university_id, f.store_id, COUNT(*), ? " +
+            "FROM favorite_store f " +
+            "JOIN store_university su ON su.store_id = f.store_id " +
+            "WHERE f.created_at >= ? AND f.created_at < ? " +
+            "GROUP BY su.university_id, f.store_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public void applyDeltas(LocalDate weekStart, List<StatDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(weekStart));
+            ps.setLong(2, delta.universityId());
+            ps.setLong(3, delta.storeId());
+            ps.setLong(4, delta.delta());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, delta.delta());
+        });
+    }
+
+    public List<StatDelta> findByWeek(LocalDate weekStart) {
+        return jdbcTemplate.query(FIND_BY_WEEK_SQL,
+                (rs, rowNum) -> new StatDelta(rs.getLong("university_id"), rs.getLong("store_id"), rs.getLong("favorite_count")),
+                Date.valueOf(weekStart));
+    }
+
+    public boolean existsByWeek(LocalDate weekStart) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_WEEK_SQL, Boolean.class, Date.valueOf(weekStart)));
+    }
+
+    // created_at 은 JPA Auditing 이 JVM 기본 시간대(TimeConfig.ZONE_ID)로 기록하므로 weekStart 도 같은 시계 기준이어야 함
+    public int seedWeek(LocalDate weekStart) {
+        LocalDateTime from = weekStart.atStartOfDay();
+        return jdbcTemplate.update(SEED_WEEK_SQL,
+                Date.valueOf(weekStart),
+                Timestamp.valueOf(LocalDateTime.now(clock)),
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(from.plusWeeks(1)));
+    }
+
+    // 대학/상점별 찜 수 또는 증감분
+    public record StatDelta(long universityId, long storeId, long delta) {
+    }
+}
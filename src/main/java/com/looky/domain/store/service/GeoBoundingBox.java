@@ -0,0 +1,19 @@
+package com.looky.domain.store.service;
+
+// 중심에서 반경(km)을 모두 포함하는 위경도 범위 (격자 인덱스 셀 범위, DB 위경도 인덱스 범위 검색 공용)
+record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    private static final double KM_PER_LATITUDE_DEGREE = 110.574; // 위도 1도당 최소 거리(km)
+
+    static GeoBoundingBox around(double latitude, double longitude, double radius) {
+        double latitudeDelta = radius / KM_PER_LATITUDE_DEGREE;
+        // 경도 1도 거리는 고위도일수록 짧아지므로 범위 내 최고 위도 기준으로 계산 (극 근처는 전체 경도)
+        double maxAbsLatitude = Math.min(Math.abs(latitude) + latitudeDelta, 90.0);
+        double longitudeDelta = maxAbsLatitude < 89.0
+                ? latitudeDelta / Math.cos(Math.toRadians(maxAbsLatitude))
+                : 180.0;
+
+        return new GeoBoundingBox(latitude - latitudeDelta, latitude + latitudeDelta,
+                longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+}
@@ -0,0 +1,215 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.favorite.event.FavoriteChangedEvent;
+import com.looky.domain.store.repository.StoreWeeklyFavoriteStatsRepository;
+import com.looky.domain.store.repository.StoreWeeklyFavoriteStatsRepository.StatDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 대학별 이번 주 찜 증가 수 인메모리 랭킹
+// 찜 이벤트로 카운터를 갱신하고 대학별 상위 K 는 변경된 대학만 다시 계산하므로 조회는 O(K)
+// 증감분은 주기적으로 store_weekly_favorite_stats 에 반영한 뒤 DB 값을 다시 읽어 다른 인스턴스 변경분과 합침
+@Component
+@Slf4j
+public class HotStoreRanking {
+
+    public static final int TOP_K = 10;
+
+    // 찜 수 내림차순, 같으면 상점 ID 오름차순
+    private static final Comparator<RankedStore> RANK_ORDER = Comparator
+            .comparingLong(RankedStore::favoriteCount).reversed()
+            .thenComparingLong(RankedStore::storeId);
+
+    private final StoreWeeklyFavoriteStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final Object lock = new Object();
+    private volatile LocalDate weekStart;
+    private Map<Long, Map<Long, Long>> counts = new HashMap<>(); // 대학 ID -> 상점 ID -> 찜 수 (DB 값 + 미반영분)
+    private Map<StatKey, Long> pendingDeltas = new HashMap<>(); // DB 에 아직 반영하지 않은 증감분
+    private final Map<Long, List<RankedStore>> topStores = new ConcurrentHashMap<>(); // 대학별 상위 K (변경 시 제거)
+
+    public HotStoreRanking(StoreWeeklyFavoriteStatsRepository statsRepository,
+                           TransactionTemplate transactionTemplate,
+                           Clock clock) {
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.weekStart = currentWeekStart();
+    }
+
+    // 기동 시 이번 주 집계 적재 (배포 직후처럼 집계가 없으면 favorite_store 기준으로 채움)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        LocalDate week = currentWeekStart();
+        try {
+            if (!statsRepository.existsByWeek(week)) {
+                Integer seeded = transactionTemplate.execute(status -> statsRepository.seedWeek(week));
+                log.info("[HotStoreRanking] Seeded {} weekly favorite stats for week {}", seeded, week);
+            }
+            reload();
+        } catch (Exception e) {
+            log.error("[HotStoreRanking] Failed to load weekly favorite stats", e);
+        }
+    }
+
+    // 찜 추가/삭제 커밋 이후 대학별 카운터 갱신 (지난 주에 생성된 찜 삭제는 이번 주 집계와 무관)
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        synchronized (lock) {
+            LocalDate week = rollWeekIfNeeded();
+            if (event.favoritedAt() == null || event.favoritedAt().isBefore(week.atStartOfDay())) {
+                return;
+            }
+
+            for (Long universityId : event.universityIds()) {
+                applyCount(counts, universityId, event.storeId(), event.delta());
+                pendingDeltas.merge(new StatKey(week, universityId, event.storeId()), (long) event.delta(), Long::sum);
+                topStores.remove(universityId);
+            }
+        }
+    }
+
+    // 이번 주 찜 증가 수 상위 K 상점
+    public List<RankedStore> getTopStores(Long universityId) {
+        if (weekStart.equals(currentWeekStart())) {
+            List<RankedStore> cached = topStores.get(universityId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        synchronized (lock) {
+            rollWeekIfNeeded();
+            return topStores.computeIfAbsent(universityId,
+                    id -> selectTopK(counts.getOrDefault(id, Collections.emptyMap())));
+        }
+    }
+
+    // 미반영 증감분을 DB 에 반영하고 DB 기준으로 다시 적재
+    @Scheduled(fixedDelayString = "${app.hot-stores.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<StatKey, Long> toWrite;
+        synchronized (lock) {
+            toWrite = pendingDeltas;
+            pendingDeltas = new HashMap<>();
+        }
+
+        if (!toWrite.isEmpty()) {
+            Map<LocalDate, List<StatDelta>> deltasByWeek = new HashMap<>();
+            toWrite.forEach((key, delta) -> {
+                if (delta != 0) {
+                    deltasByWeek.computeIfAbsent(key.weekStart(), week -> new ArrayList<>())
+                            .add(new StatDelta(key.universityId(), key.storeId(), delta));
+                }
+            });
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> deltasByWeek.forEach(statsRepository::applyDeltas));
+            } catch (Exception e) {
+                log.error("[HotStoreRanking] Failed to flush {} weekly favorite deltas, will retry", toWrite.size(), e);
+                synchronized (lock) {
+                    toWrite.forEach((key, delta) -> pendingDeltas.merge(key, delta, Long::sum));
+                }
+                return;
+            }
+        }
+
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("[HotStoreRanking] Failed to reload weekly favorite stats", e);
+        }
+    }
+
+    // DB 값 + 아직 반영하지 않은 증감분으로 카운터 교체
+    private void reload() {
+        LocalDate week = currentWeekStart();
+        List<StatDelta> rows = statsRepository.findByWeek(week);
+
+        synchronized (lock) {
+            if (!rollWeekIfNeeded().equals(week)) {
+                return;
+            }
+
+            Map<Long, Map<Long, Long>> reloaded = new HashMap<>();
+            for (StatDelta row : rows) {
+                applyCount(reloaded, row.universityId(), row.storeId(), row.delta());
+            }
+            pendingDeltas.forEach((key, delta) -> {
+                if (key.weekStart().equals(week)) {
+                    applyCount(reloaded, key.universityId(), key.storeId(), delta);
+                }
+            });
+
+            counts = reloaded;
+            topStores.clear();
+        }
+    }
+
+    // 주가 바뀌면 카운터 초기화 (지난 주 미반영분은 pendingDeltas 에 남아 해당 주로 반영됨)
+    private LocalDate rollWeekIfNeeded() {
+        LocalDate current = currentWeekStart();
+        if (!current.equals(weekStart)) {
+            weekStart = current;
+            counts = new HashMap<>();
+            topStores.clear();
+        }
+        return current;
+    }
+
+    private static void applyCount(Map<Long, Map<Long, Long>> target, Long universityId, Long storeId, long delta) {
+        Map<Long, Long> storeCounts = target.computeIfAbsent(universityId, id -> new HashMap<>());
+        long updated = storeCounts.getOrDefault(storeId, 0L) + delta;
+        if (updated > 0) {
+            storeCounts.put(storeId, updated);
+        } else {
+            storeCounts.remove(storeId);
+        }
+    }
+
+    // 크기 K 의 최소 힙으로 상위 K 선택
+    private static List<RankedStore> selectTopK(Map<Long, Long> storeCounts) {
+        PriorityQueue<RankedStore> heap = new PriorityQueue<>(TOP_K + 1, RANK_ORDER.reversed());
+        storeCounts.forEach((storeId, count) -> {
+            heap.offer(new RankedStore(storeId, count));
+            if (heap.size() > TOP_K) {
+                heap.poll();
+            }
+        });
+
+        List<RankedStore> result = new ArrayList<>(heap);
+        result.sort(RANK_ORDER);
+        return List.copyOf(result);
+    }
+
+    // favorite_store.created_at 과 같은 시계 기준 (주 경계가 seedWeek 의 집계 구간과 일치)
+    private LocalDate currentWeekStart() {
+        return LocalDate.now(clock).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record StatKey(LocalDate weekStart, long universityId, long storeId) {
+    }
+
+    public record RankedStore(long storeId, long favoriteCount) {
+    }
+}
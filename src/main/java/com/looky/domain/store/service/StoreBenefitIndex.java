@@ -0,0 +1,216 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.partnership.dto.UniversityStoreId;
+import com.looky.domain.partnership.repository.PartnershipRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 대학별 제휴 상점 / 발급 가능 쿠폰 보유 상점 ID 인메모리 인덱스
+// 정렬된 long 배열 스냅샷을 통째로 교체하므로 조회는 잠금 없이 이진 탐색만 수행
+@Component
+@Slf4j
+public class StoreBenefitIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final PartnershipRepository partnershipRepository;
+    private final CouponRepository couponRepository;
+    private final TransactionTemplate readTransaction;
+
+    private volatile Snapshot snapshot; // 최초 적재 전에는 null (DB 조회로 대체)
+
+    public StoreBenefitIndex(PartnershipRepository partnershipRepository,
+                             CouponRepository couponRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.partnershipRepository = partnershipRepository;
+        this.couponRepository = couponRepository;
+        // 커밋 이후 콜백에서도 별도 커넥션으로 조회하도록 새 읽기 전용 트랜잭션 사용
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    // 기동 시 및 매일 자정(Asia/Seoul) 전체 재적재, 기간 전환은 LifecycleSweeper 가 전환 발생 시 호출
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        List<UniversityStoreId> partnerships = readTransaction.execute(status -> partnershipRepository.findActiveUniversityStoreIds());
+        List<Long> couponStoreIds = readTransaction.execute(status -> couponRepository.findActiveCouponStoreIds());
+
+        Map<Long, List<Long>> storeIdsByUniversity = partnerships.stream()
+                .collect(Collectors.groupingBy(UniversityStoreId::universityId,
+                        Collectors.mapping(UniversityStoreId::storeId, Collectors.toList())));
+
+        Map<Long, long[]> partnershipStoreIds = new HashMap<>();
+        storeIdsByUniversity.forEach((universityId, storeIds) -> partnershipStoreIds.put(universityId, toSortedArray(storeIds)));
+
+        snapshot = new Snapshot(partnershipStoreIds, toSortedArray(couponStoreIds));
+        log.info("[StoreBenefitIndex] Indexed {} partnerships across {} universities, {} stores with active coupons",
+                partnerships.size(), partnershipStoreIds.size(), couponStoreIds.size());
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public boolean hasPartnership(Long storeId, Long universityId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return partnershipRepository.existsActivePartnership(storeId, universityId);
+        }
+        return contains(current.partnershipStoreIds.getOrDefault(universityId, EMPTY), storeId);
+    }
+
+    public boolean hasActiveCoupon(Long storeId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return couponRepository.existsActiveCoupon(storeId);
+        }
+        return contains(current.couponStoreIds, storeId);
+    }
+
+    // 주어진 상점 중 해당 대학과 제휴 중인 상점 ID
+    public Set<Long> filterPartnershipStores(Long universityId, List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return partnershipRepository.findActivePartnershipsByStoreIdsAndUniversityId(storeIds, universityId)
+                    .stream().map(p -> p.getStore().getId()).collect(Collectors.toSet());
+        }
+        return filter(current.partnershipStoreIds.getOrDefault(universityId, EMPTY), storeIds);
+    }
+
+    // 주어진 상점 중 발급 가능한 쿠폰이 있는 상점 ID
+    public Set<Long> filterActiveCouponStores(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return couponRepository.findActiveCouponsByStoreIds(storeIds)
+                    .stream().map(c -> c.getStore().getId()).collect(Collectors.toSet());
+        }
+        return filter(current.couponStoreIds, storeIds);
+    }
+
+    // 상점 단위 제휴/쿠폰 변경 반영 (트랜잭션 커밋 이후 해당 상점만 재조회)
+    public void refreshStore(Long storeId) {
+        afterCommit(() -> patch(storeId));
+    }
+
+    // 다수 상점 변경 반영 (트랜잭션 커밋 이후 전체 재적재)
+    public void refreshAll() {
+        afterCommit(this::rebuild);
+    }
+
+    private synchronized void patch(Long storeId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        Set<Long> universityIds = new HashSet<>(readTransaction.execute(status -> partnershipRepository.findActiveUniversityIdsByStoreId(storeId)));
+        boolean couponActive = Boolean.TRUE.equals(readTransaction.execute(status -> couponRepository.existsActiveCoupon(storeId)));
+
+        Map<Long, long[]> partnershipStoreIds = new HashMap<>(current.partnershipStoreIds);
+        for (Map.Entry<Long, long[]> entry : current.partnershipStoreIds.entrySet()) {
+            if (!universityIds.contains(entry.getKey()) && contains(entry.getValue(), storeId)) {
+                long[] removed = without(entry.getValue(), storeId);
+                if (removed.length == 0) {
+                    partnershipStoreIds.remove(entry.getKey());
+                } else {
+                    partnershipStoreIds.put(entry.getKey(), removed);
+                }
+            }
+        }
+        for (Long universityId : universityIds) {
+            partnershipStoreIds.put(universityId, with(partnershipStoreIds.getOrDefault(universityId, EMPTY), storeId));
+        }
+
+        long[] couponStoreIds = couponActive
+                ? with(current.couponStoreIds, storeId)
+                : without(current.couponStoreIds, storeId);
+
+        snapshot = new Snapshot(partnershipStoreIds, couponStoreIds);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    private static boolean contains(long[] sortedIds, long id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    private static Set<Long> filter(long[] sortedIds, List<Long> storeIds) {
+        Set<Long> result = new HashSet<>();
+        for (Long storeId : storeIds) {
+            if (contains(sortedIds, storeId)) {
+                result.add(storeId);
+            }
+        }
+        return result;
+    }
+
+    private static long[] with(long[] sortedIds, long id) {
+        int index = Arrays.binarySearch(sortedIds, id);
+        if (index >= 0) {
+            return sortedIds;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[sortedIds.length + 1];
+        System.arraycopy(sortedIds, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(sortedIds, insertAt, result, insertAt + 1, sortedIds.length - insertAt);
+        return result;
+    }
+
+    private static long[] without(long[] sortedIds, long id) {
+        int index = Arrays.binarySearch(sortedIds, id);
+        if (index < 0) {
+            return sortedIds;
+        }
+        long[] result = new long[sortedIds.length - 1];
+        System.arraycopy(sortedIds, 0, result, 0, index);
+        System.arraycopy(sortedIds, index + 1, result, index, sortedIds.length - index - 1);
+        return result;
+    }
+
+    // 대학 ID -> 제휴 상점 ID(정렬), 쿠폰 보유 상점 ID(정렬)
+    private record Snapshot(Map<Long, long[]> partnershipStoreIds, long[] couponStoreIds) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.looky.domain.store.service;
+
+import com.looky.common.config.CacheConfig;
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.review.dto.StoreRatingStats;
+import com.looky.domain.review.entity.StoreReviewSummary;
+import com.looky.domain.review.repository.StoreReviewSummaryRepository;
+import com.looky.domain.store.dto.StoreResponse;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.user.repository.StudentProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 상점 상세 조회용 캐시 (사용자 무관 상세 + 학생 소속 대학, 제휴/쿠폰 여부는 StoreBenefitIndex)
+// 변경 지점에서 evict* 를 호출하며, 트랜잭션 안에서 호출하면 커밋 이후에 반영됨
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreCacheService {
+
+    private final StoreRepository storeRepository;
+    private final StoreReviewSummaryRepository storeReviewSummaryRepository;
+    private final StudentProfileRepository studentProfileRepository;
+
+    // 사용자별 값(isPartnership, hasCoupon)을 제외한 상점 상세
+    @Cacheable(cacheNames = CacheConfig.STORE_DETAIL, key = "#storeId")
+    public StoreResponse getStoreDetail(Long storeId) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "상점을 찾을 수 없습니다."));
+
+        StoreRatingStats ratingStats = storeReviewSummaryRepository.findById(storeId)
+                .map(StoreReviewSummary::toRatingStats)
+                .orElseGet(() -> StoreRatingStats.empty(storeId));
+
+        return StoreResponse.of(store, ratingStats.averageRating(), ratingStats.reviewCountAsInt(), false, false, store.getCloverGrade());
+    }
+
+    // 학생 소속 대학 ID (프로필 또는 소속 대학이 없으면 null, null 은 캐시하지 않음)
+    @Cacheable(cacheNames = CacheConfig.STUDENT_UNIVERSITY, key = "#userId", unless = "#result == null")
+    public Long getStudentUniversityId(Long userId) {
+        return studentProfileRepository.findById(userId)
+                .filter(profile -> profile.getUniversity() != null)
+                .map(profile -> profile.getUniversity().getId())
+                .orElse(null);
+    }
+
+    // 상점 정보/이미지/등급/리뷰 집계 변경 시
+    @CacheEvict(cacheNames = CacheConfig.STORE_DETAIL, key = "#storeId")
+    public void evictStoreDetail(Long storeId) {
+    }
+
+    // 리뷰 집계 전체 재계산 시
+    @CacheEvict(cacheNames = CacheConfig.STORE_DETAIL, allEntries = true)
+    public void evictAllStoreDetails() {
+    }
+
+    // 학생 소속 대학 변경 시
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_UNIVERSITY, key = "#userId")
+    public void evictStudentUniversity(Long userId) {
+    }
+}
@@ -3,6 +3,7 @@ package com.looky.domain.store.service;
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
 import com.looky.common.service.S3Service;
+import com.looky.common.util.FullTextQuery;
 import com.looky.domain.store.dto.BizVerificationRequest;
 import com.looky.domain.store.dto.BizVerificationResponse;
 import com.looky.domain.store.dto.StoreClaimRequest;
@@ -12,6 +13,7 @@ import com.looky.domain.store.entity.StoreClaimStatus;
 import com.looky.domain.store.repository.StoreClaimRepository;
 import com.looky.domain.store.repository.StoreRepository;
 import com.looky.domain.store.dto.StoreResponse;
+import com.looky.domain.store.entity.Store;
 import com.looky.domain.user.entity.Role;
 import com.looky.domain.user.entity.User;
 import com.looky.domain.user.repository.UserRepository;
@@ -47,7 +49,13 @@ public class StoreClaimService {
 
     // 미등록된 상점 조회 
     public List<StoreResponse> searchUnclaimedStores(String keyword) {
-        return storeRepository.findUnclaimedByNameOrAddress(keyword).stream()
+        // 1글자 단어가 포함된 검색어는 ngram 인덱스로 찾을 수 없어 LIKE 검색
+        String booleanQuery = FullTextQuery.toBooleanQuery(keyword);
+        List<Store> stores = booleanQuery != null
+                ? storeRepository.findUnclaimedByFullText(booleanQuery)
+                : storeRepository.findUnclaimedByNameOrAddress(keyword);
+
+        return stores.stream()
                 .map(StoreResponse::from)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,285 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreLocation;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 주변 상점 검색용 인메모리 격자 인덱스 (영업 중지되지 않은 좌표 보유 상점만 보관)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreLocationIndex {
+
+    private static final double CELL_DEGREES = 0.01; // 격자 한 칸 크기 (위도 기준 약 1.1km)
+    private static final int MAX_SCANNED_CELLS = 40_000; // 초과 시 전체 격자 순회
+    private static final double EARTH_RADIUS_KM = 6370.986; // ST_Distance_Sphere 기본 반지름과 동일
+
+    private final StoreRepository storeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Cell> cells = new HashMap<>(); // cellId -> 격자
+    private final Map<Long, Long> cellIdByStoreId = new HashMap<>(); // storeId -> cellId
+    private List<Patch> pendingPatches; // 재적재 중에만 존재 (쓰기 잠금으로 보호)
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        // 스냅샷 조회 중 커밋된 변경은 조회 결과에 없을 수 있으므로 모아 두었다가 새 격자에 다시 적용
+        setPendingPatches(new ArrayList<>());
+
+        List<StoreLocation> locations;
+        try {
+            locations = storeRepository.findAllActiveLocations();
+        } catch (RuntimeException e) {
+            setPendingPatches(null);
+            throw e;
+        }
+
+        Map<Long, Cell> newCells = new HashMap<>();
+        Map<Long, Long> newCellIds = new HashMap<>(locations.size() * 2);
+        for (StoreLocation location : locations) {
+            long cellId = cellIdOf(location.latitude(), location.longitude());
+            newCells.computeIfAbsent(cellId, id -> new Cell())
+                    .add(location.storeId(), location.latitude(), location.longitude());
+            newCellIds.put(location.storeId(), cellId);
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cells.putAll(newCells);
+            cellIdByStoreId.clear();
+            cellIdByStoreId.putAll(newCellIds);
+
+            replayed = pendingPatches.size();
+            pendingPatches.forEach(this::applyInternal);
+            pendingPatches = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[StoreLocationIndex] Indexed {} stores in {} cells ({} patches replayed)", newCellIds.size(), newCells.size(), replayed);
+    }
+
+    private void setPendingPatches(List<Patch> patches) {
+        lock.writeLock().lock();
+        try {
+            pendingPatches = patches;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 상점 좌표/영업 상태 변경 반영 (트랜잭션 커밋 이후 적용)
+    public void refresh(Store store) {
+        refresh(store.getId(), store.getLatitude(), store.getLongitude(), Boolean.TRUE.equals(store.getIsSuspended()));
+    }
+
+    // 엔티티 없이 쓰인 상점(JDBC 일괄 등록 등) 반영
+    public void refresh(Long storeId, Double latitude, Double longitude, boolean suspended) {
+        boolean indexable = !suspended && latitude != null && longitude != null;
+
+        Patch patch = indexable ? new Patch(storeId, latitude, longitude) : new Patch(storeId, null, null);
+        afterCommit(() -> apply(patch));
+    }
+
+    // 상점 삭제 반영 (트랜잭션 커밋 이후 적용)
+    public void evict(Long storeId) {
+        Patch patch = new Patch(storeId, null, null);
+        afterCommit(() -> apply(patch));
+    }
+
+    // 반경 내 상점을 (거리, ID) 순으로 커서 이후부터 limit 개 조회
+    public List<NearbyStoreDistance> search(double latitude, double longitude, double radius,
+                                            double cursorDistance, long cursorId, int limit) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radius);
+        int minLatIndex = latitudeIndexOf(box.minLatitude());
+        int maxLatIndex = latitudeIndexOf(box.maxLatitude());
+        int minLngIndex = longitudeIndexOf(box.minLongitude());
+        int maxLngIndex = longitudeIndexOf(box.maxLongitude());
+        long cellCount = (long) (maxLatIndex - minLatIndex + 1) * (maxLngIndex - minLngIndex + 1);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (cellCount > MAX_SCANNED_CELLS) {
+                for (Cell cell : cells.values()) {
+                    cell.collect(latitude, longitude, radius, cursorDistance, cursorId, hits);
+                }
+            } else {
+                for (int latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+                    for (int lngIndex = minLngIndex; lngIndex <= maxLngIndex; lngIndex++) {
+                        Cell cell = cells.get(cellIdOf(latIndex, lngIndex));
+                        if (cell != null) {
+                            cell.collect(latitude, longitude, radius, cursorDistance, cursorId, hits);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (hits.isEmpty()) {
+            return Collections.emptyList();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distance).thenComparingLong(Hit::id));
+        return new ArrayList<>(hits.subList(0, Math.min(limit, hits.size())));
+    }
+
+    private void apply(Patch patch) {
+        lock.writeLock().lock();
+        try {
+            applyInternal(patch);
+            if (pendingPatches != null) {
+                pendingPatches.add(patch);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyInternal(Patch patch) {
+        removeInternal(patch.storeId());
+        if (patch.latitude() != null) {
+            long cellId = cellIdOf(patch.latitude(), patch.longitude());
+            cells.computeIfAbsent(cellId, id -> new Cell()).add(patch.storeId(), patch.latitude(), patch.longitude());
+            cellIdByStoreId.put(patch.storeId(), cellId);
+        }
+    }
+
+    private void removeInternal(Long storeId) {
+        Long cellId = cellIdByStoreId.remove(storeId);
+        if (cellId == null) {
+            return;
+        }
+        Cell cell = cells.get(cellId);
+        if (cell != null && cell.remove(storeId) && cell.size == 0) {
+            cells.remove(cellId);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long cellIdOf(double latitude, double longitude) {
+        return cellIdOf(latitudeIndexOf(latitude), longitudeIndexOf(longitude));
+    }
+
+    private static long cellIdOf(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    private static int latitudeIndexOf(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / CELL_DEGREES);
+    }
+
+    private static int longitudeIndexOf(double longitude) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / CELL_DEGREES);
+    }
+
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 상점 한 곳의 변경 (좌표가 null 이면 제거)
+    private record Patch(Long storeId, Double latitude, Double longitude) {
+    }
+
+    private record Hit(long id, double distance) implements NearbyStoreDistance {
+        @Override
+        public Long getStoreId() {
+            return id;
+        }
+
+        @Override
+        public Double getDistance() {
+            return distance;
+        }
+    }
+
+    // 격자 한 칸: 상점 ID와 좌표를 원시 배열로 보관
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+
+        void add(long storeId, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[size] = storeId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        boolean remove(long storeId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == storeId) {
+                    // 마지막 원소로 덮어써서 제거
+                    size--;
+                    ids[i] = ids[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void collect(double latitude, double longitude, double radius,
+                     double cursorDistance, long cursorId, List<Hit> hits) {
+            for (int i = 0; i < size; i++) {
+                double distance = distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance > radius) {
+                    continue;
+                }
+                if (distance > cursorDistance || (distance == cursorDistance && ids[i] > cursorId)) {
+                    hits.add(new Hit(ids[i], distance));
+                }
+            }
+        }
+    }
+}
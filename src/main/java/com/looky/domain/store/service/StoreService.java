@@ -9,7 +9,9 @@ import org.springframework.data.jpa.domain.Specification;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.store.dto.*;
 
 import java.util.HashSet;
@@ -20,28 +22,27 @@ import com.looky.domain.user.entity.Role;
 import com.looky.domain.user.repository.UserRepository;
 import com.looky.domain.item.repository.ItemRepository;
 import com.looky.domain.user.entity.User;
-import com.looky.domain.review.repository.ReviewRepository;
+import com.looky.domain.review.dto.StoreRatingStats;
+import com.looky.domain.review.service.StoreReviewSummaryService;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.security.details.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import com.looky.domain.favorite.repository.FavoriteRepository;
-import com.looky.domain.user.entity.StudentProfile;
-import com.looky.domain.user.repository.StudentProfileRepository;
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.TemporalAdjusters;
 import com.looky.domain.partnership.repository.PartnershipRepository;
 import com.looky.domain.coupon.repository.CouponRepository;
 import com.looky.domain.partnership.entity.Partnership;
@@ -63,19 +64,26 @@ public class StoreService {
     private final StoreReportRepository storeReportRepository;
     private final ItemRepository itemRepository;
     private final S3Service s3Service;
-    private final ReviewRepository reviewRepository;
+    private final StoreReviewSummaryService storeReviewSummaryService;
     private final FavoriteRepository favoriteRepository;
-    private final StudentProfileRepository studentProfileRepository;
     private final PartnershipRepository partnershipRepository;
     private final CouponRepository couponRepository;
     private final StudentCouponRepository studentCouponRepository;
     private final UniversityRepository universityRepository;
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreCacheService storeCacheService;
+    private final StoreBenefitIndex storeBenefitIndex;
+    private final HotStoreRanking hotStoreRanking;
+    private final SearchSuggestIndex searchSuggestIndex;
+    private final CurrentUserContext currentUserContext;
+
+    private static final int DEFAULT_NEARBY_LIMIT = 100; // 주변 상점 기본 조회 개수
+    private static final int MAX_NEARBY_LIMIT = 300; // 주변 상점 최대 조회 개수
 
     @Transactional
-    public Long createStore(User user, CreateStoreRequest request, List<MultipartFile> images) throws IOException {
+    public Long createStore(CreateStoreRequest request, List<MultipartFile> images) throws IOException {
 
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User owner = currentUserContext.getUser();
 
         if (owner.getRole() != Role.ROLE_OWNER) {
             throw new CustomException(ErrorCode.FORBIDDEN, "점주 회원만 가게를 등록할 수 있습니다.");
@@ -99,6 +107,8 @@ public class StoreService {
         uploadAndSaveImages(store, images);
 
         Store savedStore = storeRepository.save(store);
+        storeLocationIndex.refresh(savedStore);
+        searchSuggestIndex.refreshStore(savedStore.getId());
 
         // 대학 연결
         if (request.getUniversityIds() != null) {
@@ -114,105 +124,112 @@ public class StoreService {
         return savedStore.getId();
     }
 
+    // 사용자 무관 상세는 캐시에서, 사용자별 제휴/쿠폰 여부는 인메모리 인덱스에서 조합 (캐시 적중 시 DB 조회 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StoreResponse getStore(Long storeId, User user) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "상점을 찾을 수 없습니다."));
-
-        Double averageRating = reviewRepository.findAverageRatingByStoreId(storeId);
-        Long reviewCount = reviewRepository.countByStoreIdAndParentReviewIsNull(storeId);
+        StoreResponse detail = storeCacheService.getStoreDetail(storeId);
 
         boolean isPartnership = false;
         boolean hasCoupon = false;
 
         if (user != null && user.getRole() == Role.ROLE_STUDENT) {
-            StudentProfile studentProfile = studentProfileRepository.findById(user.getId()).orElse(null);
+            Long universityId = storeCacheService.getStudentUniversityId(user.getId());
             // 학생이고 소속 대학이 있는 경우
-            if (studentProfile != null && studentProfile.getUniversity() != null) {
-                Long universityId = studentProfile.getUniversity().getId();
-                LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-                LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-
+            if (universityId != null) {
                 // 해당 상점과 제휴 여부 확인
-                isPartnership = partnershipRepository.existsActivePartnership(storeId, universityId, today);
+                isPartnership = storeBenefitIndex.hasPartnership(storeId, universityId);
                 // 해당 상점의 쿠폰 보유 여부 확인
-                hasCoupon = couponRepository.existsActiveCoupon(storeId, now);
+                hasCoupon = storeBenefitIndex.hasActiveCoupon(storeId);
             }
         }
 
-        return StoreResponse.of(store, averageRating, reviewCount != null ? reviewCount.intValue() : 0, isPartnership, hasCoupon, store.getCloverGrade());
+        return detail.withBenefitFlags(isPartnership, hasCoupon);
     }
 
     public PageResponse<StoreResponse> getStores(String keyword, List<StoreCategory> categories, List<StoreMood> moods, Long universityId, Pageable pageable, User user) {
-        Specification<Store> spec = Specification.where(StoreSpecification.hasKeyword(keyword))
+        Specification<Store> spec = storeListSpecification(keyword, categories, moods, universityId);
+        if (pageable.getSort().isUnsorted()) {
+            // 정렬 조건이 없으면 검색 관련도순
+            spec = spec.and(StoreSpecification.orderByRelevance(keyword));
+        }
+
+        Page<Store> storePage = storeRepository.findAll(spec, pageable);
+
+        List<StoreResponse> content = toStoreResponses(storePage.getContent(), user);
+        return PageResponse.from(new PageImpl<>(content, storePage.getPageable(), storePage.getTotalElements()));
+    }
+
+    // 상점 목록 키셋 페이지 (최신 등록순, COUNT 쿼리 없음)
+    public CursorResponse<StoreResponse> getStoresByCursor(String keyword, List<StoreCategory> categories, List<StoreMood> moods, Long universityId, CursorRequest cursorRequest, User user) {
+        Specification<Store> spec = storeListSpecification(keyword, categories, moods, universityId)
+                .and(cursorRequest.toSpecification());
+
+        List<Store> stores = storeRepository.findBy(spec, query -> query
+                .sortBy(CursorRequest.SORT)
+                .limit(cursorRequest.fetchSize())
+                .all());
+
+        CursorResponse<Store> storePage = CursorResponse.of(stores, cursorRequest, Store::getId);
+        return storePage.withContent(toStoreResponses(storePage.getContent(), user));
+    }
+
+    private Specification<Store> storeListSpecification(String keyword, List<StoreCategory> categories, List<StoreMood> moods, Long universityId) {
+        return Specification.where(StoreSpecification.hasKeyword(keyword))
                 .and(StoreSpecification.hasCategories(categories))
                 .and(StoreSpecification.hasMoods(moods))
                 .and(StoreSpecification.hasUniversityId(universityId))
                 .and(StoreSpecification.isNotSuspended());
+    }
 
-        Page<Store> storePage = storeRepository.findAll(spec, pageable);
-
+    // 평점/제휴/쿠폰 여부를 일괄 조회해 목록 응답으로 변환
+    private List<StoreResponse> toStoreResponses(List<Store> stores, User user) {
         // 배치 최적화를 위한 정보 준비
         Long userUniversityId = null;
         if (user != null && user.getRole() == Role.ROLE_STUDENT) {
-            StudentProfile studentProfile = studentProfileRepository.findById(user.getId()).orElse(null);
             // 학생이고 소속 대학이 있는 경우 대학 ID 추출
-            if (studentProfile != null && studentProfile.getUniversity() != null) {
-                userUniversityId = studentProfile.getUniversity().getId();
-            }
+            userUniversityId = storeCacheService.getStudentUniversityId(user.getId());
         }
 
-        final Long finalUserUniversityId = userUniversityId;
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        
-        List<Long> storeIds = storePage.getContent().stream().map(Store::getId).toList();
-        
-        
-        // 정확한 배치를 위해 findActivePartnershipsByStoreIdsAndUniversityId(제휴 정보 리스트 반환)를 사용한 후 상점 ID 추출
-        Set<Long> batchedPartnershipStoreIds = new HashSet<>();
-        // 학생 회원의 경우, 조회된 상점 목록에 대해 일괄적으로 제휴 여부를 확인 (N+1 방지)
-        if (finalUserUniversityId != null && !storeIds.isEmpty()) {
-            batchedPartnershipStoreIds = partnershipRepository.findActivePartnershipsByStoreIdsAndUniversityId(storeIds, finalUserUniversityId, today)
-                    .stream().map(p -> p.getStore().getId()).collect(Collectors.toSet());
+        List<Long> storeIds = stores.stream().map(Store::getId).toList();
+
+        Set<Long> partnershipStoreIds = new HashSet<>();
+        // 학생 회원의 경우, 조회된 상점 목록에 대해 인메모리 인덱스로 제휴 여부를 확인 (DB 조회 없음)
+        if (userUniversityId != null) {
+            partnershipStoreIds = storeBenefitIndex.filterPartnershipStores(userUniversityId, storeIds);
         }
 
-        Set<Long> batchedCouponStoreIds = new HashSet<>();
-        // 학생 회원의 경우, 조회된 상점 목록에 대해 일괄적으로 쿠폰 보유 여부를 확인 (N+1 방지)
-        if (finalUserUniversityId != null && !storeIds.isEmpty()) {
-             batchedCouponStoreIds = couponRepository.findActiveCouponsByStoreIds(storeIds, now)
-                     .stream().map(c -> c.getStore().getId()).collect(Collectors.toSet());
+        Set<Long> couponStoreIds = new HashSet<>();
+        // 학생 회원의 경우, 조회된 상점 목록에 대해 인메모리 인덱스로 쿠폰 보유 여부를 확인 (DB 조회 없음)
+        if (userUniversityId != null) {
+            couponStoreIds = storeBenefitIndex.filterActiveCouponStores(storeIds);
         }
 
-        // 람다 표현식에서 사용하기 위해 effectively final 변수로 선언
-        final Set<Long> finalPartnershipStoreIds = batchedPartnershipStoreIds;
-        final Set<Long> finalCouponStoreIds = batchedCouponStoreIds;
+        // 평점 및 리뷰 수 일괄 집계 (N+1 방지)
+        Map<Long, StoreRatingStats> ratingStatsMap = storeReviewSummaryService.getRatingStatsMap(storeIds);
+
+        List<StoreResponse> responses = new ArrayList<>(stores.size());
+        for (Store store : stores) {
+            StoreRatingStats ratingStats = ratingStatsMap.getOrDefault(store.getId(), StoreRatingStats.empty(store.getId()));
 
-        Page<StoreResponse> responsePage = storePage.map(store -> {
-            Double averageRating = reviewRepository.findAverageRatingByStoreId(store.getId());
-            Long reviewCount = reviewRepository.countByStoreIdAndParentReviewIsNull(store.getId());
-            
             // 제휴 여부 및 쿠폰 보유 여부 설정
-            boolean isPartnership = finalPartnershipStoreIds.contains(store.getId());
-            boolean hasCoupon = finalCouponStoreIds.contains(store.getId());
+            boolean isPartnership = partnershipStoreIds.contains(store.getId());
+            boolean hasCoupon = couponStoreIds.contains(store.getId());
 
-            return StoreResponse.of(store, averageRating, reviewCount != null ? reviewCount.intValue() : 0, isPartnership, hasCoupon, store.getCloverGrade());
-        });
-        return PageResponse.from(responsePage);
+            responses.add(StoreResponse.of(store, ratingStats.averageRating(), ratingStats.reviewCountAsInt(), isPartnership, hasCoupon, store.getCloverGrade()));
+        }
+        return responses;
     }
 
-        public StoreStatsResponse getStoreStats(Long storeId, User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
+    public StoreStatsResponse getStoreStats(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+        if (!currentUserContext.isOwnerOf(store)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "본인 소유의 가게가 아닙니다.");
         }
 
         long totalRegulars = favoriteRepository.countByStore(store);
-        long totalReviews = reviewRepository.countByStoreIdAndParentReviewIsNull(storeId);
+        long totalReviews = storeReviewSummaryService.getRatingStats(storeId).reviewCount();
         long totalIssuedCoupons = couponRepository.countByStoreId(storeId);
         long totalUsedCoupons = studentCouponRepository.countByCoupon_StoreIdAndStatus(storeId, CouponUsageStatus.USED);
 
@@ -225,17 +242,14 @@ public class StoreService {
     }
     
     @Transactional
-    public void updateStore(Long storeId, User user, UpdateStoreRequest request, List<MultipartFile> images)
+    public void updateStore(Long storeId, UpdateStoreRequest request, List<MultipartFile> images)
             throws IOException {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
         // 본인 소유 확인
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
-            log.warn("[UpdateStore] Forbidden attempt. storeId={}, requesterUserId={}", storeId, owner.getId());
+        if (!currentUserContext.isOwnerOf(store)) {
+            log.warn("[UpdateStore] Forbidden attempt. storeId={}, requesterUserId={}", storeId, currentUserContext.getUserId());
             throw new CustomException(ErrorCode.FORBIDDEN, "본인 소유의 가게가 아닙니다.");
         }
 
@@ -264,6 +278,9 @@ public class StoreService {
             request.getHolidayEndsAt(),
             request.getIsSuspended()
         );
+        storeLocationIndex.refresh(store);
+        storeCacheService.evictStoreDetail(storeId);
+        searchSuggestIndex.refreshStore(storeId);
 
         // 새 이미지가 존재하면 기존 것 모두 삭제 후 새로 등록
         if (images != null && !images.isEmpty()) {
@@ -284,60 +301,87 @@ public class StoreService {
         recalculateCloverGrade(store);
     }
 
-    // 위치 기반 상점 목록 조회
-    public List<StoreResponse> getNearbyStores(Double latitude, Double longitude, Double radius, User user) {
-        List<Store> stores = storeRepository.findByLocationWithin(latitude, longitude, radius);
+    // 위치 기반 상점 목록 조회 (거리순, 커서 기반)
+    public List<StoreResponse> getNearbyStores(Double latitude, Double longitude, Double radius, Integer limit, Double cursorDistance, Long cursorId, User user) {
+        if (radius <= 0) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "반경은 0보다 커야 합니다.");
+        }
+        if ((cursorDistance == null) != (cursorId == null)) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "커서 거리와 커서 ID는 함께 전달해야 합니다.");
+        }
+        int pageSize = limit != null ? Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT) : DEFAULT_NEARBY_LIMIT;
+
+        List<NearbyStoreDistance> distances = findNearbyStoreDistances(latitude, longitude, radius,
+                cursorDistance != null ? cursorDistance : -1.0,
+                cursorId != null ? cursorId : 0L,
+                pageSize);
+
+        // 거리순을 유지하며 현재 페이지의 상점만 조회
+        Map<Long, Store> storeMap = storeRepository.findAllById(distances.stream().map(NearbyStoreDistance::getStoreId).toList())
+                .stream().collect(Collectors.toMap(Store::getId, store -> store));
+        List<Store> stores = distances.stream()
+                .map(d -> storeMap.get(d.getStoreId()))
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, Double> distanceMap = distances.stream()
+                .collect(Collectors.toMap(NearbyStoreDistance::getStoreId, NearbyStoreDistance::getDistance));
         
         Long userUniversityId = null;
         if (user != null && user.getRole() == Role.ROLE_STUDENT) {
-            StudentProfile studentProfile = studentProfileRepository.findById(user.getId()).orElse(null);
-            if (studentProfile != null && studentProfile.getUniversity() != null) {
-                userUniversityId = studentProfile.getUniversity().getId();
-            }
+            userUniversityId = storeCacheService.getStudentUniversityId(user.getId());
         }
         
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        
         List<Long> storeIds = stores.stream().map(Store::getId).toList();
         
         Set<Long> batchedPartnershipStoreIds = new HashSet<>();
-        if (userUniversityId != null && !storeIds.isEmpty()) {
-            batchedPartnershipStoreIds = partnershipRepository.findActivePartnershipsByStoreIdsAndUniversityId(storeIds, userUniversityId, today)
-                    .stream().map(p -> p.getStore().getId()).collect(Collectors.toSet());
+        if (userUniversityId != null) {
+            batchedPartnershipStoreIds = storeBenefitIndex.filterPartnershipStores(userUniversityId, storeIds);
         }
 
         Set<Long> batchedCouponStoreIds = new HashSet<>();
-        if (userUniversityId != null && !storeIds.isEmpty()) {
-             batchedCouponStoreIds = couponRepository.findActiveCouponsByStoreIds(storeIds, now)
-                     .stream().map(c -> c.getStore().getId()).collect(Collectors.toSet());
+        if (userUniversityId != null) {
+            batchedCouponStoreIds = storeBenefitIndex.filterActiveCouponStores(storeIds);
         }
 
+        Map<Long, StoreRatingStats> ratingStatsMap = storeReviewSummaryService.getRatingStatsMap(storeIds);
+
         final Set<Long> finalPartnershipStoreIds = batchedPartnershipStoreIds;
         final Set<Long> finalCouponStoreIds = batchedCouponStoreIds;
         
         return stores.stream().map(store -> {
-            Double averageRating = reviewRepository.findAverageRatingByStoreId(store.getId());
-            Long reviewCount = reviewRepository.countByStoreIdAndParentReviewIsNull(store.getId());
+            StoreRatingStats ratingStats = ratingStatsMap.getOrDefault(store.getId(), StoreRatingStats.empty(store.getId()));
             
             boolean isPartnership = finalPartnershipStoreIds.contains(store.getId());
             boolean hasCoupon = finalCouponStoreIds.contains(store.getId());
             
-            return StoreResponse.of(store, averageRating, reviewCount != null ? reviewCount.intValue() : 0, isPartnership, hasCoupon, store.getCloverGrade());
+            return StoreResponse.of(store, ratingStats.averageRating(), ratingStats.reviewCountAsInt(), isPartnership, hasCoupon, store.getCloverGrade(), distanceMap.get(store.getId()));
         }).toList();
     }
     
+    // 인메모리 격자 인덱스 우선, 적재 전에는 DB 바운딩 박스 검색
+    private List<NearbyStoreDistance> findNearbyStoreDistances(double latitude, double longitude, double radius,
+                                                               double cursorDistance, long cursorId, int limit) {
+        if (storeLocationIndex.isReady()) {
+            return storeLocationIndex.search(latitude, longitude, radius, cursorDistance, cursorId, limit);
+        }
+
+        // 반경을 포함하는 바운딩 박스 (위경도 인덱스 범위 검색용)
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radius);
+        return storeRepository.findNearbyStoreDistances(
+                latitude, longitude, radius,
+                box.minLatitude(), box.maxLatitude(),
+                box.minLongitude(), box.maxLongitude(),
+                cursorDistance, cursorId, limit);
+    }
+
     // 상점 이미지 개별 삭제
     @Transactional
-    public void deleteStoreImage(Long storeId, Long imageId, User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
+    public void deleteStoreImage(Long storeId, Long imageId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
         // 본인 소유 확인
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+        if (!currentUserContext.isOwnerOf(store)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "본인 소유의 가게가 아닙니다.");
         }
 
@@ -352,35 +396,35 @@ public class StoreService {
 
         // DB 삭제
         store.removeImage(targetImage);
+        storeCacheService.evictStoreDetail(storeId);
     }
 
     // 상점 삭제
     @Transactional
-    public void deleteStore(Long storeId, User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
+    public void deleteStore(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게를 찾을 수 없습니다."));
 
         // 본인 소유 확인
-        if (!Objects.equals(store.getUser().getId(), owner.getId())) {
+        if (!currentUserContext.isOwnerOf(store)) {
             throw new CustomException(ErrorCode.FORBIDDEN, "본인 소유의 가게가 아닙니다.");
         }
 
         storeRepository.delete(store);
+        storeLocationIndex.evict(storeId);
+        storeCacheService.evictStoreDetail(storeId);
+        storeBenefitIndex.refreshStore(storeId);
+        searchSuggestIndex.refreshStore(storeId);
     }
 
-    public List<StoreResponse> getMyStores(User user) {
-        User owner = userRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public List<StoreResponse> getMyStores() {
+        List<Store> stores = storeRepository.findAllByUserId(currentUserContext.getUserId());
+        Map<Long, StoreRatingStats> ratingStatsMap = storeReviewSummaryService.getRatingStatsMap(stores.stream().map(Store::getId).toList());
 
-        List<Store> stores = storeRepository.findAllByUser(owner);
         return stores.stream().map(store -> {
-            Double averageRating = reviewRepository.findAverageRatingByStoreId(store.getId());
-            Long reviewCount = reviewRepository.countByStoreIdAndParentReviewIsNull(store.getId());
+            StoreRatingStats ratingStats = ratingStatsMap.getOrDefault(store.getId(), StoreRatingStats.empty(store.getId()));
 
-            return StoreResponse.of(store, averageRating, reviewCount != null ? reviewCount.intValue() : 0, false, false, store.getCloverGrade());
+            return StoreResponse.of(store, ratingStats.averageRating(), ratingStats.reviewCountAsInt(), false, false, store.getCloverGrade());
         }).toList();
     }
 
@@ -457,44 +501,45 @@ public class StoreService {
         return StoreRegistrationStatusResponse.of(hasMenu, hasStoreInfo);
     }
 
-    public List<HotStoreResponse> getHotStores(User user) {
-        StudentProfile studentProfile = studentProfileRepository.findById(user.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.FORBIDDEN, "학생 회원만 이용 가능합니다."));
+    public List<HotStoreResponse> getHotStores() {
+        if (currentUserContext.getRole() != Role.ROLE_STUDENT) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "학생 회원만 이용 가능합니다.");
+        }
 
-        if (studentProfile.getUniversity() == null) {
+        Long universityId = currentUserContext.getUniversityId();
+        if (universityId == null) {
              throw new CustomException(ErrorCode.FORBIDDEN, "소속 대학이 없습니다.");
         }
 
-        Long universityId = studentProfile.getUniversity().getId();
-
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalDate today = now.toLocalDate();
-        LocalDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                .withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfWeek = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY))
-                .withHour(23).withMinute(59).withSecond(59).withNano(999999999);
+        return getHotStoresByUniversity(universityId);
+    }
 
-        // 1. 핫한 상점 조회 (Object[]: Store, Long count) - 이번 주 찜이 가장 많이 늘어난 상점 Top 10 조회
-        List<Object[]> results = favoriteRepository.findHotStores(universityId, startOfWeek, endOfWeek, Pageable.ofSize(10));
+    // 소속 대학이 확인된 경우 (홈 화면 집계 등)
+    public List<HotStoreResponse> getHotStoresByUniversity(Long universityId) {
+        // 1. 핫한 상점 조회 - 이번 주 찜이 가장 많이 늘어난 상점 Top 10 (인메모리 랭킹)
+        List<HotStoreRanking.RankedStore> rankedStores = hotStoreRanking.getTopStores(universityId);
 
-        if (results.isEmpty()) {
+        if (rankedStores.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<Store> stores = results.stream()
-                .map(result -> (Store) result[0])
+        // 랭킹 순서를 유지하며 상점 조회 (랭킹 반영 전 삭제된 상점은 제외)
+        Map<Long, Store> storeMap = storeRepository.findAllById(rankedStores.stream().map(HotStoreRanking.RankedStore::storeId).toList())
+                .stream().collect(Collectors.toMap(Store::getId, store -> store));
+        List<HotStoreRanking.RankedStore> results = rankedStores.stream()
+                .filter(rankedStore -> storeMap.containsKey(rankedStore.storeId()))
                 .toList();
-        List<Long> storeIds = stores.stream().map(Store::getId).toList();
+        List<Long> storeIds = results.stream().map(HotStoreRanking.RankedStore::storeId).toList();
 
         // 2. 활성화된 제휴 정보 일괄 조회 (N+1 방지)
         // 해당 대학과 제휴 맺은 상점들의 현재 유효한 제휴 정보를 조회
-        List<Partnership> partnerships = partnershipRepository.findActivePartnershipsByStoreIdsAndUniversityId(storeIds, universityId, today);
+        List<Partnership> partnerships = partnershipRepository.findActivePartnershipsByStoreIdsAndUniversityId(storeIds, universityId);
         Map<Long, List<Partnership>> partnershipMap = partnerships.stream()
                 .collect(Collectors.groupingBy(p -> p.getStore().getId()));
 
         // 3. 활성화된 쿠폰 정보 일괄 조회 (N+1 방지)
         // 상점들의 현재 유효한 쿠폰 정보를 조회
-        List<Coupon> coupons = couponRepository.findActiveCouponsByStoreIds(storeIds, now);
+        List<Coupon> coupons = couponRepository.findActiveCouponsByStoreIds(storeIds);
         Map<Long, List<Coupon>> couponMap = coupons.stream()
                 .collect(Collectors.groupingBy(c -> c.getStore().getId()));
 
@@ -502,8 +547,8 @@ public class StoreService {
         // 4. 응답 객체로 매핑 (혜택 우선순위 적용)
         return results.stream()
                 .map(result -> {
-                    Store store = (Store) result[0];
-                    Long count = (Long) result[1];
+                    Store store = storeMap.get(result.storeId());
+                    Long count = result.favoriteCount();
                     Long storeId = store.getId();
                     String benefitContent = null;
 
@@ -524,6 +569,7 @@ public class StoreService {
     // 클로버 등급 재계산 및 업데이트
     @Transactional
     public void recalculateCloverGrade(Store store) {
+        storeCacheService.evictStoreDetail(store.getId());
 
         if (store.getUser() == null) {
             store.updateCloverGrade(CloverGrade.SEED);
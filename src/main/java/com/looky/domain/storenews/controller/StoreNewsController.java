@@ -1,7 +1,9 @@
 package com.looky.domain.storenews.controller;
 
 import com.looky.common.response.CommonResponse;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.response.PageResponse;
+import com.looky.common.util.CursorRequest;
 import com.looky.domain.storenews.dto.*;
 import com.looky.domain.storenews.service.StoreNewsService;
 import com.looky.security.details.PrincipalDetails;
@@ -58,6 +60,18 @@ public class StoreNewsController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @Operation(summary = "[공통] 소식 목록 커서 조회", description = "paging=cursor 로 요청하면 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping(value = "/stores/{storeId}/news", params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<StoreNewsResponse>>> getStoreNewsListByCursor(
+            @Parameter(description = "가게 ID") @PathVariable Long storeId,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<StoreNewsResponse> response = storeNewsService.getStoreNewsListByCursor(storeId, CursorRequest.of(cursor, size),
+                principalDetails != null ? principalDetails.getUser() : null);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
     @Operation(summary = "[공통] 소식 상세 조회", description = "소식 상세 정보를 조회합니다.")
     @GetMapping("/store-news/{newsId}")
     public ResponseEntity<CommonResponse<StoreNewsResponse>> getStoreNews(
@@ -118,6 +132,18 @@ public class StoreNewsController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @Operation(summary = "[공통] 댓글 목록 커서 조회", description = "paging=cursor 로 요청하면 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping(value = "/store-news/{newsId}/comments", params = "paging=cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<StoreNewsCommentResponse>>> getCommentsByCursor(
+            @Parameter(description = "소식 ID") @PathVariable Long newsId,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<StoreNewsCommentResponse> response = storeNewsService.getCommentsByCursor(newsId, CursorRequest.of(cursor, size),
+                principalDetails != null ? principalDetails.getUser() : null);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
     @Operation(summary = "[공통] 댓글 삭제", description = "자신의 댓글을 삭제합니다.")
     @DeleteMapping("/store-news/{newsId}/comments/{commentId}")
     public ResponseEntity<CommonResponse<Void>> deleteComment(
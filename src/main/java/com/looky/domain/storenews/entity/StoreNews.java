@@ -39,7 +39,11 @@ public class StoreNews extends BaseEntity {
     @OneToMany(mappedBy = "storeNews", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StoreNewsLike> likes = new ArrayList<>();
 
+    // 좋아요/댓글 수는 StoreNewsRepository 의 원자적 UPDATE 로만 증감 (엔티티 변경 감지 UPDATE 에서 제외)
+    @Column(updatable = false)
     private int likeCount = 0;
+
+    @Column(updatable = false)
     private int commentCount = 0;
 
     @Builder
@@ -62,24 +66,4 @@ public class StoreNews extends BaseEntity {
     public void clearImages() {
         this.images.clear();
     }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
 }
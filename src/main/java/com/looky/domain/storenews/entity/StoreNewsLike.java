@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_store_news_like", columnNames = {"store_news_id", "user_id"})
+})
 public class StoreNewsLike extends BaseEntity {
 
     @Id
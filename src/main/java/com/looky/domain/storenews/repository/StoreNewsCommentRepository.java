@@ -3,8 +3,26 @@ package com.looky.domain.storenews.repository;
 import com.looky.domain.storenews.entity.StoreNewsComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface StoreNewsCommentRepository extends JpaRepository<StoreNewsComment, Long> {
+    @EntityGraph(attributePaths = { "user" })
     Page<StoreNewsComment> findByStoreNewsId(Long storeNewsId, Pageable pageable);
+
+    // 소식 댓글 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @EntityGraph(attributePaths = { "user" })
+    @Query("SELECT c FROM StoreNewsComment c WHERE c.storeNews.id = :storeNewsId " +
+           "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+           "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<StoreNewsComment> findByStoreNewsIdBeforeCursor(@Param("storeNewsId") Long storeNewsId,
+                                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
 }
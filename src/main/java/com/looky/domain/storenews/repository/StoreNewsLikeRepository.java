@@ -2,11 +2,33 @@ package com.looky.domain.storenews.repository;
 
 import com.looky.domain.storenews.entity.StoreNewsLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreNewsLikeRepository extends JpaRepository<StoreNewsLike, Long> {
     Optional<StoreNewsLike> findByStoreNewsIdAndUserId(Long storeNewsId, Long userId);
 
     boolean existsByStoreNewsIdAndUserId(Long storeNewsId, Long userId);
+
+    // 좋아요 추가 (uk_store_news_like 로 중복 요청은 무시, 실제 추가된 경우 1)
+    // IGNORE 가 FK 오류도 무시하므로 소식 존재 여부는 SELECT 로 확인 (없으면 0), 감사 컬럼은 JPA 저장과 같게 채움 (AuditorAware 미등록 -> 작성자 null)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO store_news_like (created_at, modified_at, created_by, last_modified_by, store_news_id, user_id) " +
+            "SELECT :now, :now, NULL, NULL, n.id, :userId FROM store_news n WHERE n.id = :storeNewsId", nativeQuery = true)
+    int insertIgnore(@Param("storeNewsId") Long storeNewsId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 좋아요 취소 (실제 삭제된 경우 1)
+    @Modifying
+    @Query("DELETE FROM StoreNewsLike l WHERE l.storeNews.id = :storeNewsId AND l.user.id = :userId")
+    int deleteByStoreNewsIdAndUserId(@Param("storeNewsId") Long storeNewsId, @Param("userId") Long userId);
+
+    // 목록 페이지의 소식 중 사용자가 좋아요한 소식 ID
+    @Query("SELECT l.storeNews.id FROM StoreNewsLike l WHERE l.user.id = :userId AND l.storeNews.id IN :storeNewsIds")
+    List<Long> findLikedStoreNewsIds(@Param("userId") Long userId, @Param("storeNewsIds") Collection<Long> storeNewsIds);
 }
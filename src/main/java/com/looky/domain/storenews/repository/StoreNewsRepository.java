@@ -1,10 +1,49 @@
 package com.looky.domain.storenews.repository;
 
+import com.looky.domain.search.dto.SearchSource;
 import com.looky.domain.storenews.entity.StoreNews;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface StoreNewsRepository extends JpaRepository<StoreNews, Long> {
     Page<StoreNews> findByStoreId(Long storeId, Pageable pageable);
+
+    // 상점 소식 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @Query("SELECT n FROM StoreNews n WHERE n.store.id = :storeId " +
+           "AND (:cursorCreatedAt IS NULL OR n.createdAt < :cursorCreatedAt " +
+           "OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<StoreNews> findByStoreIdBeforeCursor(@Param("storeId") Long storeId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    // 좋아요/댓글 수 원자적 증감 (엔티티 읽기-수정-쓰기 없이 DB 에서 계산, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE StoreNews n SET n.likeCount = n.likeCount + :delta WHERE n.id = :newsId AND n.likeCount + :delta >= 0")
+    int addLikeCount(@Param("newsId") Long newsId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE StoreNews n SET n.commentCount = n.commentCount + :delta WHERE n.id = :newsId AND n.commentCount + :delta >= 0")
+    int addCommentCount(@Param("newsId") Long newsId, @Param("delta") int delta);
+
+    // 검색 자동완성 인덱스 적재용 (영업 중지 상점 소식 제외)
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(n.id, s.id, n.title, s.name, cast(null as String)) " +
+           "FROM StoreNews n JOIN n.store s WHERE s.isSuspended = false")
+    List<SearchSource> findAllSearchSources();
+
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(n.id, s.id, n.title, s.name, cast(null as String)) " +
+           "FROM StoreNews n JOIN n.store s WHERE n.id IN :newsIds AND s.isSuspended = false")
+    List<SearchSource> findSearchSourcesByIds(@Param("newsIds") List<Long> newsIds);
+
+    @Query("SELECT new com.looky.domain.search.dto.SearchSource(n.id, s.id, n.title, s.name, cast(null as String)) " +
+           "FROM StoreNews n JOIN n.store s WHERE s.id IN :storeIds AND s.isSuspended = false")
+    List<SearchSource> findSearchSourcesByStoreIds(@Param("storeIds") List<Long> storeIds);
 }
@@ -2,8 +2,10 @@ package com.looky.domain.storenews.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CursorResponse;
 import com.looky.common.service.S3Service;
 import com.looky.common.util.FileValidator;
+import com.looky.domain.search.service.SearchSuggestIndex;
 import com.looky.domain.store.entity.Store;
 import com.looky.domain.store.repository.StoreRepository;
 import com.looky.domain.storenews.dto.CreateStoreNewsCommentRequest;
@@ -14,12 +16,12 @@ import com.looky.domain.storenews.dto.UpdateStoreNewsRequest;
 import com.looky.domain.storenews.entity.StoreNews;
 import com.looky.domain.storenews.entity.StoreNewsComment;
 import com.looky.domain.storenews.entity.StoreNewsImage;
-import com.looky.domain.storenews.entity.StoreNewsLike;
 import com.looky.domain.storenews.repository.StoreNewsCommentRepository;
 import com.looky.domain.storenews.repository.StoreNewsLikeRepository;
 import com.looky.domain.storenews.repository.StoreNewsRepository;
 import com.looky.domain.user.entity.User;
 import com.looky.common.response.PageResponse;
+import com.looky.common.util.CursorRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +29,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +45,7 @@ public class StoreNewsService {
     private final StoreNewsLikeRepository storeNewsLikeRepository;
     private final StoreRepository storeRepository;
     private final S3Service s3Service;
+    private final SearchSuggestIndex searchSuggestIndex;
 
     @Transactional
     public Long createStoreNews(User user, CreateStoreNewsRequest request, Long storeId, List<MultipartFile> images)
@@ -68,23 +75,41 @@ public class StoreNewsService {
             }
         }
 
-        return storeNewsRepository.save(storeNews).getId();
+        Long newsId = storeNewsRepository.save(storeNews).getId();
+        searchSuggestIndex.refreshStoreNews(newsId);
+        return newsId;
     }
 
     public PageResponse<StoreNewsResponse> getStoreNewsList(Long storeId, Pageable pageable, User currentUser) {
         Page<StoreNews> page = storeNewsRepository.findByStoreId(storeId, pageable);
 
-        Page<StoreNewsResponse> responsePage = page.map(news -> {
-            boolean isLiked = false;
-            if (currentUser != null) {
-                isLiked = storeNewsLikeRepository.existsByStoreNewsIdAndUserId(news.getId(), currentUser.getId());
-            }
-            return StoreNewsResponse.from(news, isLiked);
-        });
+        // 좋아요 여부는 페이지 단위 IN 쿼리 1회, 이미지는 default_batch_fetch_size 로 일괄 조회
+        Set<Long> likedNewsIds = findLikedNewsIds(page.getContent(), currentUser);
+        Page<StoreNewsResponse> responsePage = page
+                .map(news -> StoreNewsResponse.from(news, likedNewsIds.contains(news.getId())));
 
         return PageResponse.from(responsePage);
     }
 
+    // 상점 소식 키셋 페이지 (최신순, COUNT 쿼리 없음)
+    public CursorResponse<StoreNewsResponse> getStoreNewsListByCursor(Long storeId, CursorRequest cursorRequest, User currentUser) {
+        List<StoreNews> newsList = storeNewsRepository.findByStoreIdBeforeCursor(
+                storeId, cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+
+        Set<Long> likedNewsIds = findLikedNewsIds(newsList, currentUser);
+        return CursorResponse.of(newsList, cursorRequest, StoreNews::getId)
+                .map(news -> StoreNewsResponse.from(news, likedNewsIds.contains(news.getId())));
+    }
+
+    // 주어진 소식 중 현재 사용자가 좋아요한 소식 ID (비로그인 시 빈 집합)
+    private Set<Long> findLikedNewsIds(List<StoreNews> newsList, User currentUser) {
+        if (currentUser == null || newsList.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> newsIds = newsList.stream().map(StoreNews::getId).toList();
+        return new HashSet<>(storeNewsLikeRepository.findLikedStoreNewsIds(currentUser.getId(), newsIds));
+    }
+
     public StoreNewsResponse getStoreNews(Long newsId, User currentUser) {
         StoreNews news = storeNewsRepository.findById(newsId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게 소식을 찾을 수 없습니다."));
@@ -113,6 +138,7 @@ public class StoreNewsService {
         }
 
         news.update(request.getTitle(), request.getContent());
+        searchSuggestIndex.refreshStoreNews(newsId);
 
         if (images != null) {
             for (StoreNewsImage oldImage : news.getImages()) {
@@ -139,26 +165,25 @@ public class StoreNewsService {
         }
 
         storeNewsRepository.delete(news);
+        searchSuggestIndex.refreshStoreNews(newsId);
     }
 
+    // 좋아요 토글: 좋아요 행을 실제로 추가/삭제한 경우에만 좋아요 수를 원자적으로 증감
+    // 같은 사용자의 동시 요청은 uk_store_news_like 와 삭제 건수로 걸러지므로 좋아요 수 = 좋아요 행 수 유지
     @Transactional
     public void toggleLike(Long newsId, User user) {
-        StoreNews news = storeNewsRepository.findById(newsId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게 소식을 찾을 수 없습니다."));
-
-        storeNewsLikeRepository.findByStoreNewsIdAndUserId(newsId, user.getId())
-                .ifPresentOrElse(
-                        like -> {
-                            storeNewsLikeRepository.delete(like);
-                            news.decreaseLikeCount();
-                        },
-                        () -> {
-                            storeNewsLikeRepository.save(StoreNewsLike.builder()
-                                    .storeNews(news)
-                                    .user(user)
-                                    .build());
-                            news.increaseLikeCount();
-                        });
+        // 좋아요 여부는 잠금 없는 읽기로 먼저 확인하고 있는 행만 DELETE
+        // (없는 행을 DELETE 하면 InnoDB 가 갭 잠금을 잡아 다른 사용자의 INSERT IGNORE 와 교착될 수 있음)
+        if (storeNewsLikeRepository.existsByStoreNewsIdAndUserId(newsId, user.getId())) {
+            if (storeNewsLikeRepository.deleteByStoreNewsIdAndUserId(newsId, user.getId()) > 0) {
+                storeNewsRepository.addLikeCount(newsId, -1);
+            }
+        } else if (storeNewsLikeRepository.insertIgnore(newsId, user.getId(), LocalDateTime.now()) > 0) {
+            storeNewsRepository.addLikeCount(newsId, 1);
+        } else if (!storeNewsRepository.existsById(newsId)) {
+            // 추가되지 않은 이유가 중복(동시 요청)이 아니라 소식 삭제인 경우
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가게 소식을 찾을 수 없습니다.");
+        }
     }
 
     @Transactional
@@ -173,7 +198,7 @@ public class StoreNewsService {
                 .build();
 
         Long commentId = storeNewsCommentRepository.save(comment).getId();
-        news.increaseCommentCount();
+        storeNewsRepository.addCommentCount(newsId, 1);
         return commentId;
     }
 
@@ -184,6 +209,15 @@ public class StoreNewsService {
         return PageResponse.from(responsePage);
     }
 
+    // 소식 댓글 키셋 페이지 (최신순, COUNT 쿼리 없음)
+    public CursorResponse<StoreNewsCommentResponse> getCommentsByCursor(Long newsId, CursorRequest cursorRequest, User currentUser) {
+        List<StoreNewsComment> comments = storeNewsCommentRepository.findByStoreNewsIdBeforeCursor(
+                newsId, cursorRequest.createdAt(), cursorRequest.id(), cursorRequest.pageable());
+
+        return CursorResponse.of(comments, cursorRequest, StoreNewsComment::getId)
+                .map(comment -> StoreNewsCommentResponse.from(comment, currentUser));
+    }
+
     @Transactional
     public void deleteComment(Long commentId, User user) {
         StoreNewsComment comment = storeNewsCommentRepository.findById(commentId)
@@ -193,7 +227,7 @@ public class StoreNewsService {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
-        comment.getStoreNews().decreaseCommentCount();
         storeNewsCommentRepository.delete(comment);
+        storeNewsRepository.addCommentCount(comment.getStoreNews().getId(), -1);
     }
 }
@@ -0,0 +1,11 @@
+package com.looky.domain.user.dto;
+
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.SocialType;
+
+import java.time.LocalDateTime;
+
+// 관리자 사용자 목록 엑셀 한 행
+public record UserExportRow(Long id, String username, String email, Role role, SocialType socialType,
+                            boolean deleted, LocalDateTime createdAt) {
+}
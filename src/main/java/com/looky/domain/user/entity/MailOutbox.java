@@ -0,0 +1,61 @@
+package com.looky.domain.user.entity;
+
+import com.looky.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발송 대기 메일 (요청 트랜잭션과 함께 저장되고 MailDispatcher 가 선점/발송 결과를 기록)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_outbox")
+public class MailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // PENDING: 발송 가능 시각, SENDING: 선점 만료 시각
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public MailOutbox(String recipient, String subject, String body, LocalDateTime now) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+    }
+
+    // 워커 선점 (leaseUntil 까지 결과가 기록되지 않으면 다시 발송 대상이 됨)
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = MailOutboxStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
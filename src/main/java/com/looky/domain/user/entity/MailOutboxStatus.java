@@ -0,0 +1,9 @@
+package com.looky.domain.user.entity;
+
+public enum MailOutboxStatus {
+
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 선점해 발송 중 (선점 만료 시 다른 워커가 다시 선점)
+    SENT, // 발송 완료
+    FAILED // 최대 시도 횟수 초과
+}
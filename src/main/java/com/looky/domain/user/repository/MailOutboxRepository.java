@@ -0,0 +1,46 @@
+package com.looky.domain.user.repository;
+
+import com.looky.domain.user.entity.MailOutbox;
+import com.looky.domain.user.entity.MailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 대상 선점용 조회 (다른 워커/인스턴스가 잠근 행은 건너뜀, 같은 트랜잭션에서 claim 까지 반영할 것)
+    @Query(value = "SELECT * FROM mail_outbox " +
+                   "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 발송 완료 기록 (선점 만료 후 다른 워커가 다시 선점한 경우에도 완료로 확정)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENT', m.sentAt = :now, m.lastError = null, m.modifiedAt = :now " +
+           "WHERE m.id IN :ids AND m.status <> 'SENT'")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 발송 실패 기록 (status 가 PENDING 이면 nextAttemptAt 에 재시도, FAILED 면 최종 실패)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error, m.modifiedAt = :now " +
+           "WHERE m.id = :id AND m.status = 'SENDING'")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    long countByStatusIn(Collection<MailOutboxStatus> statuses);
+
+    // 보관 기간이 지난 발송 완료/최종 실패 메일 정리
+    @Modifying
+    @Query(value = "DELETE FROM mail_outbox WHERE status IN ('SENT', 'FAILED') AND modified_at < :cutoff LIMIT :limit",
+           nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
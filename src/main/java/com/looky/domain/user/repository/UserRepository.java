@@ -1,9 +1,19 @@
 package com.looky.domain.user.repository;
 
+import com.looky.domain.user.dto.UserExportRow;
 import com.looky.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -11,4 +21,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByEmail(String email);
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    // 전체 사용자 키셋 페이지 (createdAt, id 내림차순, cursorCreatedAt 이 null 이면 첫 페이지)
+    @Query("SELECT u FROM User u WHERE (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt " +
+           "OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findAllBeforeCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 관리자 엑셀 내보내기용 전체 사용자 스트리밍 조회 (최근 가입순, 트랜잭션 안에서 소비 후 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.looky.domain.user.dto.UserExportRow(u.id, u.username, u.email, u.role, u.socialType, u.deleted, u.createdAt) " +
+           "FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    Stream<UserExportRow> streamAllForExport();
 }
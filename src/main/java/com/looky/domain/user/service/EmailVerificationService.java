@@ -2,6 +2,7 @@ package com.looky.domain.user.service;
 
 import com.looky.common.exception.CustomException;
 import com.looky.common.exception.ErrorCode;
+import com.looky.common.service.MailDispatcher;
 import com.looky.domain.organization.entity.University;
 import com.looky.domain.organization.repository.UniversityRepository;
 import com.looky.domain.user.entity.EmailVerification;
@@ -9,8 +10,6 @@ import com.looky.domain.user.repository.EmailVerificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,10 +25,7 @@ public class EmailVerificationService {
 
     private final EmailVerificationRepository emailVerificationRepository;
     private final UniversityRepository universityRepository;
-    private final JavaMailSender mailSender;
-
-    @Value("${app.email.from}")
-    private String fromAddress;
+    private final MailDispatcher mailDispatcher;
 
     @Value("${app.email.verification.ttl-minutes:5}")
     private long ttlMinutes;
@@ -125,18 +121,16 @@ public class EmailVerificationService {
         }
     }
 
+    // 아웃박스에 저장하고 응답 (SMTP 발송은 커밋 이후 MailDispatcher 워커가 처리)
     private void sendMail(String email, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setFrom(fromAddress);
-        message.setSubject("[Looky] 이메일 인증번호 안내");
-        message.setText(
+        mailDispatcher.enqueue(
+                email,
+                "[Looky] 이메일 인증번호 안내",
                 "안녕하세요.\n" +
                         "Looky 앱 이메일 인증을 요청하셨습니다.\n\n" +
                         "인증번호: " + code + "\n\n" +
                         "해당 코드는 " + ttlMinutes + "분 후 만료됩니다.\n"
         );
-        mailSender.send(message);
     }
 
     private String generateCode() {
@@ -9,6 +9,7 @@ import com.looky.domain.organization.entity.UserOrganization;
 import com.looky.domain.organization.repository.OrganizationRepository;
 import com.looky.domain.organization.repository.UniversityRepository;
 import com.looky.domain.organization.repository.UserOrganizationRepository;
+import com.looky.domain.store.service.StoreCacheService;
 import com.looky.domain.user.dto.ChangePasswordRequest;
 import com.looky.domain.user.dto.ChangeUsernameRequest;
 import com.looky.domain.user.dto.UpdateStudentProfileRequest;
@@ -34,6 +35,7 @@ public class MyPageService {
     private final OrganizationRepository organizationRepository;
     private final UserOrganizationRepository userOrganizationRepository;
     private final UniversityRepository universityRepository;
+    private final StoreCacheService storeCacheService;
 
     @Transactional
     public void changeUsername(Long userId, ChangeUsernameRequest request) {
@@ -109,6 +111,7 @@ public class MyPageService {
         userOrganizationRepository.deleteByUserAndOrganizationCategory(user, OrganizationCategory.DEPARTMENT);
 
         profile.update(null, profile.getIsClubMember(), university);
+        storeCacheService.evictStudentUniversity(userId);
     }
 
     private void updateUserOrganization(User user, Long organizationId, OrganizationCategory category) {
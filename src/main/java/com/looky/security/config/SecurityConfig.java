@@ -6,6 +6,8 @@ import com.looky.security.handler.CustomAuthenticationEntryPoint;
 import com.looky.security.handler.OAuth2LoginSuccessHandler;
 import com.looky.security.service.CustomOAuth2UserService;
 import com.looky.security.jwt.JwtFilter;
+import com.looky.security.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +32,7 @@ import java.util.List;
 public class SecurityConfig {
 
         private final JwtFilter jwtFilter;
+        private final RateLimitFilter rateLimitFilter;
         private final CustomOAuth2UserService customOAuth2UserService;
         private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
         private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
@@ -87,9 +90,12 @@ public class SecurityConfig {
                 // 경로별 인가 작업
                 http
                         .authorizeHttpRequests((auth) -> auth
+                                // 스트리밍 응답(StreamingResponseBody) 완료 후 비동기 재디스패치 (원 요청에서 이미 인가됨)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers("/api/auth/**", "/reissue", "/docs", "/swagger-ui/**", "/v3/api-docs/**", "/health")
                                 .permitAll()
                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().authenticated());
 
                 http.oauth2Login(oauth2 -> oauth2
@@ -106,6 +112,9 @@ public class SecurityConfig {
 
                 http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
+                // 인증 메일 발송/로그인 처리율 제한 (토큰 검증 전에 차단)
+                http.addFilterBefore(rateLimitFilter, JwtFilter.class);
+
                 return http.build();
         }
 }
@@ -0,0 +1,71 @@
+package com.looky.security.details;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Objects;
+
+// 요청 단위 인증 사용자 정보
+// ID/역할은 토큰 값을 그대로 쓰고, 회원 엔티티/소속 대학은 요청 안에서 처음 필요할 때 한 번만 조회
+// 요청 스레드 밖(비동기 작업, 스케줄러 등)에서는 사용할 수 없으므로 필요한 값을 미리 꺼내 전달할 것
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+    private final StoreCacheService storeCacheService;
+
+    private User user;
+    private Long universityId;
+    private boolean universityResolved;
+
+    public Long getUserId() {
+        return principal().getId();
+    }
+
+    public Role getRole() {
+        return principal().getRole();
+    }
+
+    // 영속 상태의 회원 엔티티 (연관관계 설정, 최신 역할 확인 등)
+    public User getUser() {
+        if (user == null) {
+            user = userRepository.findById(getUserId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        }
+        return user;
+    }
+
+    // 학생 소속 대학 ID (프로필 또는 소속 대학이 없으면 null)
+    public Long getUniversityId() {
+        if (!universityResolved) {
+            universityId = storeCacheService.getStudentUniversityId(getUserId());
+            universityResolved = true;
+        }
+        return universityId;
+    }
+
+    // 상점 소유 여부 (상점의 점주 FK 와 비교하므로 추가 조회 없음, 미등록 상점은 false)
+    public boolean isOwnerOf(Store store) {
+        return store.getUser() != null && Objects.equals(store.getUser().getId(), getUserId());
+    }
+
+    private User principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof PrincipalDetails principalDetails)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return principalDetails.getUser();
+    }
+}
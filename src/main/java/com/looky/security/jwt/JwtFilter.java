@@ -33,12 +33,14 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 인증 객체 생성
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        if (token != null) {
+            // 토큰 검증 및 인증 객체 생성 (한 번만 파싱, 유효하지 않으면 null)
+            Authentication authentication = jwtTokenProvider.resolveAuthentication(token);
 
             // SecurityContext에 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
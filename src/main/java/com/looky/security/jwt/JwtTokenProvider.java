@@ -1,11 +1,16 @@
 package com.looky.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.looky.domain.user.entity.Role;
 import com.looky.domain.user.entity.User;
 import com.looky.security.details.PrincipalDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,12 +24,15 @@ import javax.crypto.SecretKey;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 스레드 안전하므로 한 번만 생성해 재사용
+    private final Cache<String, Claims> verifiedClaimsCache; // 서명/만료 검증을 통과한 토큰 -> Claims
     @Getter
     private final long accessTokenExpiresIn;
     @Getter
@@ -36,11 +44,44 @@ public class JwtTokenProvider {
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-expiration}") long accessTokenExpiresIn,
-            @Value("${jwt.refresh-expiration}") long refreshTokenExpiresIn) {
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiresIn,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+            @Value("${jwt.claims-cache.ttl-ms:300000}") long claimsCacheTtlMillis,
+            MeterRegistry meterRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpiresIn = accessTokenExpiresIn;
         this.refreshTokenExpiresIn = refreshTokenExpiresIn;
+
+        // 같은 토큰으로 반복 요청하는 클라이언트의 서명 검증/디코딩 생략 (토큰 만료 시각을 넘겨 캐시하지 않음)
+        long maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(claimsCacheTtlMillis);
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        Date expiration = claims.getExpiration();
+                        if (expiration == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExpiration = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(maxTtlNanos, untilExpiration));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, "jwtVerifiedClaims");
     }
 
     // Access Token 생성
@@ -80,6 +121,12 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // 토큰 검증 후 인증 정보 생성 (요청 필터용, 토큰을 한 번만 파싱하며 유효하지 않으면 null)
+    public Authentication resolveAuthentication(String token) {
+        Claims claims = verifyClaims(token);
+        return claims != null ? toAuthentication(token, claims) : null;
+    }
+
     // 토큰에서 인증 정보 조회
     // DB 조회 없이 토큰 내의 정보만으로 UserDetails 생성
     public Authentication getAuthentication(String token) {
@@ -89,6 +136,10 @@ public class JwtTokenProvider {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
+        return toAuthentication(token, claims);
+    }
+
+    private Authentication toAuthentication(String token, Claims claims) {
         String userId = claims.getSubject();
         String username = claims.get("username", String.class);
         String role = claims.get(KEY_ROLE, String.class);
@@ -112,9 +163,32 @@ public class JwtTokenProvider {
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    // Claims 파싱 (내부 및 외부 서비스용)
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedClaimsCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return cacheVerified(token, jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            return e.getClaims(); // 만료되어도 정보는 필요할 수 있음
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 서명/만료 검증된 Claims 조회 (캐시 우선, 유효하지 않으면 null)
+    private Claims verifyClaims(String token) {
+        Claims cached = verifiedClaimsCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
+            return cacheVerified(token, jwtParser.parseSignedClaims(token).getPayload());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -124,22 +198,12 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
-    // Claims 파싱 (내부 및 외부 서비스용)
-    public Claims parseClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims(); // 만료되어도 정보는 필요할 수 있음
-        } catch (Exception e) {
-            return null;
-        }
+    private Claims cacheVerified(String token, Claims claims) {
+        verifiedClaimsCache.put(token, claims);
+        return claims;
     }
 
     // 토큰에서 UserId 추출
@@ -0,0 +1,48 @@
+package com.looky.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.looky.common.util.TokenBucket;
+
+import java.time.Duration;
+
+// 인스턴스 메모리 버킷 저장소
+// 버킷은 마지막 사용 후 완전히 다시 찰 시간이 지나면 만료되고, 키 개수는 maximumKeys 로 제한
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimitStore(long maximumKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfter(new Expiry<String, Bucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+                        return bucket.idleNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return bucket.idleNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return bucket.idleNanos();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Duration tryConsume(String key, RateLimitRule rule) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(
+                new TokenBucket(rule.capacity(), rule.refillPerSecond()),
+                rule.fullRefillTime().toNanos()));
+        return Duration.ofNanos(bucket.tokenBucket().tryConsumeOrWaitNanos());
+    }
+
+    private record Bucket(TokenBucket tokenBucket, long idleNanos) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.looky.security.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${app.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    // 인스턴스별 메모리 저장소 (공유 저장소로 바꿀 때는 이 빈을 교체)
+    @Bean
+    public RateLimitStore rateLimitStore() {
+        return new LocalRateLimitStore(maxKeys);
+    }
+}
@@ -0,0 +1,241 @@
+package com.looky.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.looky.common.exception.ErrorCode;
+import com.looky.common.response.CommonResponse;
+import com.looky.common.response.ErrorResponse;
+import com.looky.security.ratelimit.RateLimitRule.KeySource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 인증 메일 발송/로그인 요청 처리율 제한 (JwtFilter 앞에서 동작)
+// 같은 규칙 이름을 쓰는 경로끼리 버킷을 공유하며, 하나라도 한도를 넘으면 429 + Retry-After 로 응답
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitStore rateLimitStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final Map<String, List<RateLimitRule>> rulesByPath;
+
+    public RateLimitFilter(RateLimitStore rateLimitStore,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.max-body-bytes:8192}") int maxBodyBytes,
+                           @Value("${app.rate-limit.send-code.ip-capacity:20}") long sendCodeIpCapacity,
+                           @Value("${app.rate-limit.send-code.ip-refill-seconds:6}") long sendCodeIpRefillSeconds,
+                           @Value("${app.rate-limit.send-code.email-capacity:3}") long sendCodeEmailCapacity,
+                           @Value("${app.rate-limit.send-code.email-refill-seconds:60}") long sendCodeEmailRefillSeconds,
+                           @Value("${app.rate-limit.login.ip-capacity:30}") long loginIpCapacity,
+                           @Value("${app.rate-limit.login.ip-refill-seconds:2}") long loginIpRefillSeconds,
+                           @Value("${app.rate-limit.login.username-capacity:10}") long loginUsernameCapacity,
+                           @Value("${app.rate-limit.login.username-refill-seconds:12}") long loginUsernameRefillSeconds) {
+        this.rateLimitStore = rateLimitStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+
+        // 인증번호 발송 3개 경로는 SMTP 발송 한도를 함께 쓰므로 버킷 공유
+        List<RateLimitRule> sendCodeRules = List.of(
+                new RateLimitRule("send-code:ip", KeySource.IP, sendCodeIpCapacity, Duration.ofSeconds(sendCodeIpRefillSeconds)),
+                new RateLimitRule("send-code:email", KeySource.EMAIL, sendCodeEmailCapacity, Duration.ofSeconds(sendCodeEmailRefillSeconds)));
+        List<RateLimitRule> loginRules = List.of(
+                new RateLimitRule("login:ip", KeySource.IP, loginIpCapacity, Duration.ofSeconds(loginIpRefillSeconds)),
+                new RateLimitRule("login:username", KeySource.USERNAME, loginUsernameCapacity, Duration.ofSeconds(loginUsernameRefillSeconds)));
+
+        this.rulesByPath = Map.of(
+                "/api/auth/email/send-code", sendCodeRules,
+                "/api/auth/find-id/send-code", sendCodeRules,
+                "/api/auth/find-password/send-code", sendCodeRules,
+                "/api/auth/login", loginRules);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equalsIgnoreCase(request.getMethod())
+                || !rulesByPath.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        List<RateLimitRule> rules = rulesByPath.get(request.getRequestURI());
+
+        // 본문 기준 규칙이 있으면 본문을 미리 읽고, 컨트롤러에서 다시 읽을 수 있도록 감싸서 전달
+        // 대상 경로는 작은 JSON 본문만 받으므로 상한을 넘으면 메모리에 올리기 전에 413 으로 거절
+        HttpServletRequest target = request;
+        JsonNode body = null;
+        if (rules.stream().anyMatch(rule -> rule.keySource() != KeySource.IP)) {
+            if (request.getContentLengthLong() > maxBodyBytes) {
+                rejectTooLarge(request, response);
+                return;
+            }
+            // 길이를 모르는 경우(chunked)도 상한 + 1 바이트까지만 읽어 판단
+            byte[] bytes = request.getInputStream().readNBytes(maxBodyBytes + 1);
+            if (bytes.length > maxBodyBytes) {
+                rejectTooLarge(request, response);
+                return;
+            }
+            CachedBodyRequest cached = new CachedBodyRequest(request, bytes);
+            body = readJson(cached.body);
+            target = cached;
+        }
+
+        for (RateLimitRule rule : rules) {
+            String key = resolveKey(rule.keySource(), request, body);
+            if (key == null) {
+                continue; // 본문 값이 없으면 요청 검증에서 걸러지므로 IP 규칙만 적용
+            }
+
+            Duration retryAfter = rateLimitStore.tryConsume(rule.name() + ":" + key, rule);
+            if (!retryAfter.isZero()) {
+                reject(request, response, rule, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    // 배포 환경에서 프록시 뒤에 있다면 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 가 사용됨
+    private String resolveKey(KeySource keySource, HttpServletRequest request, JsonNode body) {
+        if (keySource == KeySource.IP) {
+            return request.getRemoteAddr();
+        }
+        if (body == null || !body.hasNonNull(keySource.getBodyField())) {
+            return null;
+        }
+        String value = body.get(keySource.getBodyField()).asText().trim().toLowerCase(Locale.ROOT);
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    private JsonNode readJson(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.isObject() ? node : null;
+        } catch (IOException e) {
+            return null; // 잘못된 본문은 컨트롤러에서 400 처리
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimitRule rule, Duration retryAfter) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        log.warn("[RateLimit] rule: {} | url: {} | ip: {} | retryAfter: {}s",
+                rule.name(), request.getRequestURI(), request.getRemoteAddr(), retryAfterSeconds);
+        meterRegistry.counter("http.rate-limit.rejected", "rule", rule.name()).increment();
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, ErrorResponse.of(
+                ErrorCode.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                request.getRequestURI()));
+    }
+
+    private void rejectTooLarge(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("[RateLimit] body too large | url: {} | ip: {} | contentLength: {}",
+                request.getRequestURI(), request.getRemoteAddr(), request.getContentLengthLong());
+        meterRegistry.counter("http.rate-limit.rejected", "rule", "body-size").increment();
+
+        writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorResponse.of(
+                ErrorCode.PAYLOAD_TOO_LARGE,
+                "요청 본문은 " + maxBodyBytes + "바이트를 넘을 수 없습니다.",
+                request.getRequestURI()));
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorResponse errorResponse) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(CommonResponse.fail(errorResponse)));
+    }
+
+    // 미리 읽은 요청 본문(상한 이내)을 메모리에 보관해 여러 번 읽을 수 있게 하는 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능/완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.looky.security.ratelimit;
+
+import java.time.Duration;
+
+// 처리율 제한 규칙 (name 이 같은 규칙끼리 같은 버킷을 공유, capacity 만큼 순간 허용 후 refillPeriod 마다 1회씩 충전)
+public record RateLimitRule(String name, KeySource keySource, long capacity, Duration refillPeriod) {
+
+    public enum KeySource {
+        IP(null),             // 클라이언트 IP
+        EMAIL("email"),       // 요청 본문의 email
+        USERNAME("username"); // 요청 본문의 username
+
+        private final String bodyField;
+
+        KeySource(String bodyField) {
+            this.bodyField = bodyField;
+        }
+
+        public String getBodyField() {
+            return bodyField;
+        }
+    }
+
+    public double refillPerSecond() {
+        return 1_000_000_000.0 / refillPeriod.toNanos();
+    }
+
+    // 버킷이 완전히 다시 차는 데 걸리는 시간 (이 시간 동안 요청이 없으면 버킷을 버려도 동일한 결과)
+    public Duration fullRefillTime() {
+        return refillPeriod.multipliedBy(capacity);
+    }
+}
@@ -0,0 +1,11 @@
+package com.looky.security.ratelimit;
+
+import java.time.Duration;
+
+// 처리율 제한 버킷 저장소
+// 기본은 인스턴스별 메모리(LocalRateLimitStore), 다중 인스턴스에서 한도를 공유하려면 RateLimitConfig 의 빈을 공유 저장소(Redis 등) 구현으로 교체
+public interface RateLimitStore {
+
+    // key 버킷에서 토큰 1개 소비 시도 (허용 시 Duration.ZERO, 거절 시 다음 토큰까지 남은 시간)
+    Duration tryConsume(String key, RateLimitRule rule);
+}
@@ -0,0 +1,18 @@
+/* 커서(키셋) 페이지용 인덱스: (조건 컬럼, created_at) + InnoDB 보조 인덱스에 포함되는 PK 로 (created_at, id) 정렬 처리 */
+
+/* Review: 상점별 전체 리뷰(답글 포함) 최신순 */
+create index idx_review_store_created on review (store_id, created_at);
+
+/* Store News Comment: 소식별 댓글 최신순 */
+create index idx_store_news_comment_news_created on store_news_comment (store_news_id, created_at);
+
+/* Favorite Store: 내 찜 목록 최신순 */
+create index idx_favorite_store_user_created on favorite_store (user_id, created_at);
+
+/* 전체 목록 최신순 (상점, 이벤트, 관리자 사용자/문의/소유권 요청) */
+create index idx_store_created on store (created_at);
+create index idx_events_created on events (created_at);
+create index idx_user_created on user (created_at);
+create index idx_inquiry_created on inquiry (created_at);
+create index idx_store_claim_created on store_claim (created_at);
+create index idx_store_claim_status_created on store_claim (status, created_at);
@@ -0,0 +1,3 @@
+/* 상점 검색용 FULLTEXT 인덱스 (ngram 파서, 기본 ngram_token_size = 2 로 한글 2글자 단위 부분 일치) */
+/* 컬럼 구성은 StoreFullTextFunctionContributor 의 MATCH 컬럼 목록과 같아야 함 */
+alter table store add fulltext index ft_store_search (name, branch, road_address, jibun_address) with parser ngram;
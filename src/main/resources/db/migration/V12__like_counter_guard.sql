@@ -0,0 +1,22 @@
+/* 좋아요 중복 방지 (사용자당 소식/리뷰별 1건, INSERT IGNORE 로 멱등 처리) */
+delete l1 from store_news_like l1
+join store_news_like l2
+    on l1.store_news_id = l2.store_news_id and l1.user_id = l2.user_id and l1.id > l2.id;
+
+delete l1 from review_like l1
+join review_like l2
+    on l1.review_id = l2.review_id and l1.user_id = l2.user_id and l1.id > l2.id;
+
+alter table store_news_like
+    add constraint uk_store_news_like unique (store_news_id, user_id);
+
+alter table review_like
+    add constraint uk_review_like unique (review_id, user_id);
+
+/* 그동안 유실된 증감분 보정 (이후에는 원자적 UPDATE 로만 증감) */
+update store_news n
+set n.like_count = (select count(*) from store_news_like l where l.store_news_id = n.id),
+    n.comment_count = (select count(*) from store_news_comment c where c.store_news_id = n.id);
+
+update review r
+set r.like_count = (select count(*) from review_like l where l.review_id = r.review_id);
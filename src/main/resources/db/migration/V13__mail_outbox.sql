@@ -0,0 +1,19 @@
+/* Mail Outbox (요청 트랜잭션에서 발송할 메일을 저장하고 MailDispatcher 워커가 비동기로 발송) */
+create table mail_outbox (
+    id bigint auto_increment primary key,
+    created_at datetime(6) not null,
+    modified_at datetime(6) not null,
+    created_by varchar(255),
+    last_modified_by varchar(255),
+    recipient varchar(320) not null,
+    subject varchar(255) not null,
+    body text not null,
+    status enum ('PENDING','SENDING','SENT','FAILED') not null,
+    attempts int not null,
+    next_attempt_at datetime(6) not null,
+    sent_at datetime(6),
+    last_error varchar(500)
+);
+
+/* 발송 대상 선점 (status IN ('PENDING','SENDING') AND next_attempt_at <= now) 및 보관 기간 정리 */
+create index idx_mail_outbox_status_next on mail_outbox (status, next_attempt_at);
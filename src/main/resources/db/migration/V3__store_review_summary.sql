@@ -0,0 +1,27 @@
+/* Store Review Summary (상점별 리뷰 집계, 답글 제외) */
+create table store_review_summary (
+    store_id bigint primary key,
+    review_count bigint not null default 0,
+    rating_sum bigint not null default 0,
+    rating1_count bigint not null default 0,
+    rating2_count bigint not null default 0,
+    rating3_count bigint not null default 0,
+    rating4_count bigint not null default 0,
+    rating5_count bigint not null default 0,
+    foreign key (store_id) references store (store_id) on delete cascade
+);
+
+/* 기존 리뷰 기준 초기 집계 */
+insert into store_review_summary
+    (store_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count)
+select r.store_id,
+       count(*),
+       coalesce(sum(r.rating), 0),
+       sum(case when r.rating = 1 then 1 else 0 end),
+       sum(case when r.rating = 2 then 1 else 0 end),
+       sum(case when r.rating = 3 then 1 else 0 end),
+       sum(case when r.rating = 4 then 1 else 0 end),
+       sum(case when r.rating = 5 then 1 else 0 end)
+from review r
+where r.parent_review_id is null
+group by r.store_id;
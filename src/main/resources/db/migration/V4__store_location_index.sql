@@ -0,0 +1,2 @@
+/* 주변 상점 조회용 위경도 인덱스 (바운딩 박스 범위 검색) */
+create index idx_store_location on store (is_suspended, latitude, longitude);
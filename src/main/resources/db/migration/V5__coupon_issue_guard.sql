@@ -0,0 +1,21 @@
+/* 쿠폰 발급 수량 (조건부 UPDATE로 초과 발급 방지) */
+alter table coupon add column issued_count int not null default 0 after total_quantity;
+
+update coupon c
+set c.issued_count = (select count(*) from student_coupon sc where sc.coupon_id = c.coupon_id);
+
+/* 유저별 발급 순번 (동일 순번 중복 발급 방지) */
+alter table student_coupon add column issue_sequence int not null default 1 after coupon_id;
+
+update student_coupon sc
+join (
+    select student_coupon_id,
+           row_number() over (partition by coupon_id, user_id order by student_coupon_id) as seq
+    from student_coupon
+) ranked on ranked.student_coupon_id = sc.student_coupon_id
+set sc.issue_sequence = ranked.seq;
+
+alter table student_coupon alter column issue_sequence drop default;
+
+alter table student_coupon
+    add constraint uk_student_coupon_issue unique (coupon_id, user_id, issue_sequence);
@@ -0,0 +1,29 @@
+/* 제휴 상태 (기간 경과 시 스케줄러가 전환) */
+alter table partnership
+    add column status enum ('ACTIVE','EXPIRED','SCHEDULED','SUSPENDED') not null default 'ACTIVE';
+
+update partnership
+set status = case
+    when ends_at < curdate() then 'EXPIRED'
+    when starts_at > curdate() then 'SCHEDULED'
+    else 'ACTIVE'
+end;
+
+alter table partnership alter column status drop default;
+
+/* 발급 시작 전인 활성 쿠폰은 예약 상태로 */
+update coupon set status = 'SCHEDULED'
+where status = 'ACTIVE' and issue_starts_at > now();
+
+/* 상태 전환 스케줄러 조회용 인덱스 */
+create index idx_coupon_status_starts on coupon (status, issue_starts_at);
+create index idx_coupon_status_ends on coupon (status, issue_ends_at);
+create index idx_student_coupon_status_expires on student_coupon (status, expires_at);
+create index idx_events_status_starts on events (status, start_date_time);
+create index idx_events_status_ends on events (status, end_date_time);
+create index idx_partnership_status_starts on partnership (status, starts_at);
+create index idx_partnership_status_ends on partnership (status, ends_at);
+
+/* 상태 기반 활성 제휴/쿠폰 조회용 인덱스 */
+create index idx_coupon_store_status on coupon (store_id, status);
+create index idx_partnership_store_status on partnership (store_id, status);
@@ -0,0 +1,31 @@
+/* 조회 조건별 보조 인덱스 (FK 단일 컬럼 인덱스는 복합 인덱스 생성 시 MySQL 이 대체) */
+
+/* Review: 상점별/작성자별 일반 리뷰 조회, 작성 여부 확인 */
+create index idx_review_store_parent_created on review (store_id, parent_review_id, created_at);
+create index idx_review_user_parent_store on review (user_id, parent_review_id, store_id);
+
+/* Student Coupon: 유저별 발급 여부, 상점 사용 통계, 점주 코드 확인 */
+create index idx_student_coupon_user_coupon on student_coupon (user_id, coupon_id);
+create index idx_student_coupon_coupon_status on student_coupon (coupon_id, status);
+create index idx_student_coupon_code_status on student_coupon (verification_code, status);
+
+/* Coupon: 상점별 활성 쿠폰 및 발급 기간 (V6 의 store_id, status 인덱스 대체) */
+create index idx_coupon_store_status_period on coupon (store_id, status, issue_starts_at, issue_ends_at);
+drop index idx_coupon_store_status on coupon;
+
+/* Partnership: 상점-조직 단건 조회, 상점/조직별 활성 제휴 (V6 의 store_id, status 인덱스 대체) */
+create index idx_partnership_store_org_status on partnership (store_id, organization_id, status);
+create index idx_partnership_org_status on partnership (organization_id, status);
+drop index idx_partnership_store_status on partnership;
+
+/* Favorite Store: 찜 여부 확인/내 찜 목록, 상점별 기간 찜 집계 */
+create index idx_favorite_store_user_store on favorite_store (user_id, store_id);
+create index idx_favorite_store_store_created on favorite_store (store_id, created_at);
+
+/* Store News: 상점별 소식 최신순 */
+create index idx_store_news_store_created on store_news (store_id, created_at);
+
+/* Store: 미점유 상점 검색, 중복 확인 */
+create index idx_store_status_suspended on store (store_status, is_suspended);
+create index idx_store_name_road_address on store (name, road_address);
+create index idx_store_biz_reg_no on store (biz_reg_no);
@@ -0,0 +1,7 @@
+/* Geocode Cache (정규화된 도로명 주소 -> 좌표, 재업로드 시 외부 API 재호출 방지) */
+create table geocode_cache (
+    address varchar(255) primary key,
+    latitude double,
+    longitude double,
+    created_at datetime(6) not null
+);
@@ -0,0 +1,9 @@
+/* Store Weekly Favorite Stats (대학별 주간 찜 증가 수, 인기 상점 랭킹 재기동 복구용) */
+create table store_weekly_favorite_stats (
+    week_start date not null,
+    university_id bigint not null,
+    store_id bigint not null,
+    favorite_count bigint not null default 0,
+    updated_at datetime(6) not null,
+    primary key (week_start, university_id, store_id)
+);
@@ -0,0 +1,201 @@
+package com.looky;
+
+import com.looky.domain.coupon.entity.CouponUsageStatus;
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.coupon.repository.StudentCouponRepository;
+import com.looky.domain.favorite.repository.FavoriteRepository;
+import com.looky.domain.partnership.repository.PartnershipRepository;
+import com.looky.domain.review.repository.ReviewRepository;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.storenews.repository.StoreNewsRepository;
+import com.looky.domain.user.entity.User;
+import com.looky.support.SqlRecorder;
+import com.looky.support.SqlRecorder.RecordedStatement;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// V7 보조 인덱스가 리포지토리 메서드가 실제로 만든 SQL 에서 선택되고 전체 스캔이 없는지 EXPLAIN 으로 확인
+// MySQL 은 복합 인덱스가 생기면 FK 단일 컬럼 인덱스를 대체하므로, H2 에서도 FK 제약(자동 인덱스)을 지운 뒤 V7 인덱스를 적용
+// H2 옵티마이저 기준이므로 MySQL 실행 계획은 배포 전 별도 확인 (다른 테스트와 스키마를 공유하지 않도록 별도 DB 사용)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:looky_explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+        + "NON_KEYWORDS=USER,VALUE,YEAR,MONTH,DAY,KEY;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlRecorder.class)
+class SecondaryIndexExplainTest {
+
+    private static final String MIGRATION = "db/migration/V7__secondary_indexes.sql";
+    private static final List<String> INDEXED_TABLES =
+            List.of("review", "student_coupon", "coupon", "partnership", "favorite_store", "store_news", "store");
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private StudentCouponRepository studentCouponRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private PartnershipRepository partnershipRepository;
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+    @Autowired
+    private StoreNewsRepository storeNewsRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private User user;
+    private Store store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dropForeignKeys();
+        // Flyway(MySQL 스크립트) 대신 Hibernate 가 만든 스키마에 V7 의 인덱스 생성문만 적용 (V6 인덱스 삭제문은 제외)
+        createIndexesFrom(MIGRATION);
+
+        user = em.getReference(User.class, 1L);
+        store = em.getReference(Store.class, 1L);
+    }
+
+    @Test
+    @DisplayName("리뷰 조회는 상점/작성자 기준 V7 인덱스를 사용한다")
+    void reviewIndexes() {
+        assertIndexUsed("idx_review_store_parent_created",
+                () -> reviewRepository.countByStoreIdAndParentReviewIsNull(1L));
+        assertIndexUsed("idx_review_user_parent_store",
+                () -> reviewRepository.existsByUserAndStoreAndParentReviewIsNull(user, store));
+    }
+
+    @Test
+    @DisplayName("학생 쿠폰 조회는 유저/쿠폰/검증 코드 기준 V7 인덱스를 사용한다")
+    void studentCouponIndexes() {
+        assertIndexUsed("idx_student_coupon_user_coupon",
+                () -> studentCouponRepository.findByUser(user));
+        assertIndexUsed("idx_student_coupon_coupon_status",
+                () -> studentCouponRepository.countByCoupon_StoreIdAndStatus(1L, CouponUsageStatus.USED));
+        assertIndexUsed("idx_student_coupon_code_status",
+                () -> studentCouponRepository.findForOwnerVerification(1L, "1234", CouponUsageStatus.UNUSED));
+    }
+
+    @Test
+    @DisplayName("상점 활성 쿠폰 조회는 상점/상태/기간 인덱스를 사용한다")
+    void couponIndex() {
+        assertIndexUsed("idx_coupon_store_status_period",
+                () -> couponRepository.existsActiveCoupon(1L));
+    }
+
+    @Test
+    @DisplayName("제휴 조회는 상점-조직/조직별 V7 인덱스를 사용한다")
+    void partnershipIndexes() {
+        assertIndexUsed("idx_partnership_store_org_status",
+                () -> partnershipRepository.existsByStoreIdAndOrganizationId(1L, 1L));
+        assertIndexUsed("idx_partnership_org_status",
+                () -> partnershipRepository.findStorePartnershipIdsByOrganizationId(1L));
+    }
+
+    @Test
+    @DisplayName("찜 조회는 유저-상점/상점별 V7 인덱스를 사용한다")
+    void favoriteStoreIndexes() {
+        assertIndexUsed("idx_favorite_store_user_store",
+                () -> favoriteRepository.findByUserAndStore(user, store));
+        assertIndexUsed("idx_favorite_store_store_created",
+                () -> favoriteRepository.countByStore(store));
+    }
+
+    @Test
+    @DisplayName("상점 소식 키셋 조회는 상점/작성 시각 인덱스를 사용한다")
+    void storeNewsIndex() {
+        assertIndexUsed("idx_store_news_store_created",
+                () -> storeNewsRepository.findByStoreIdBeforeCursor(1L, null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("상점 중복 확인/미점유 검색은 V7 인덱스를 사용한다")
+    void storeIndexes() {
+        assertIndexUsed("idx_store_biz_reg_no",
+                () -> storeRepository.existsByBizRegNo("1234567890"));
+        assertIndexUsed("idx_store_name_road_address",
+                () -> storeRepository.findByNameAndRoadAddress("상점", "서울시 테스트로 1"));
+        assertIndexUsed("idx_store_status_suspended",
+                () -> storeRepository.findUnclaimedByNameOrAddress("상점"));
+    }
+
+    // 리포지토리 호출이 실행한 SQL 한 건을 같은 바인딩 값으로 EXPLAIN
+    private void assertIndexUsed(String index, Runnable repositoryCall) {
+        List<RecordedStatement> statements = sqlRecorder.record(repositoryCall);
+        assertThat(statements).as(index).hasSize(1);
+
+        String plan = explain(statements.get(0));
+        assertThat(plan).as(index).containsIgnoringCase(index);
+        assertThat(plan).as(index).doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(RecordedStatement statement) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            statement.bindTo(explain);
+            try (ResultSet rs = explain.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                return rs.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dropForeignKeys() {
+        List<Object[]> foreignKeys = em.createNativeQuery(
+                        "SELECT table_name, constraint_name FROM information_schema.table_constraints " +
+                        "WHERE constraint_type = 'FOREIGN KEY' AND table_name IN (:tables)")
+                .setParameter("tables", INDEXED_TABLES)
+                .getResultList();
+        foreignKeys.forEach(foreignKey -> em.createNativeQuery(
+                        "ALTER TABLE " + foreignKey[0] + " DROP CONSTRAINT " + foreignKey[1])
+                .executeUpdate());
+    }
+
+    private void createIndexesFrom(String path) throws IOException {
+        String script = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8)
+                .replaceAll("(?s)/\\*.*?\\*/", "");
+        List<String> statements = Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> statement.toLowerCase().startsWith("create index "))
+                .toList();
+        assertThat(statements).isNotEmpty();
+
+        statements.forEach(statement -> em.createNativeQuery(
+                        statement.replaceFirst("(?i)^create index ", "create index if not exists "))
+                .executeUpdate());
+    }
+}
@@ -0,0 +1,151 @@
+package com.looky.common.service;
+
+import com.looky.domain.user.entity.MailOutbox;
+import com.looky.domain.user.entity.MailOutboxStatus;
+import com.looky.domain.user.repository.MailOutboxRepository;
+import com.looky.support.InMemoryMailSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 아웃박스 발송 파이프라인 검증 (SMTP 서버 대신 InMemoryMailSender 사용)
+@DataJpaTest(properties = {
+        "app.email.from=no-reply@looky.test",
+        "app.mail.workers=1",
+        "app.mail.max-attempts=2",
+        "app.mail.backoff-ms=10",
+        "app.mail.poll-interval-ms=50"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MailDispatcher.class, MailDispatcherTest.MailConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailDispatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private InMemoryMailSender mailSender;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 저장한 메일은 커밋 후 한 번의 SMTP 호출로 발송된다")
+    void committedMailsAreSentInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 5; i++) {
+                mailDispatcher.enqueue("student" + i + "@looky.test", "인증번호", "코드 " + i);
+            }
+        });
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(mailOutboxRepository.findAll()).hasSize(5)
+                        .allSatisfy(mail -> assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.SENT)));
+
+        assertThat(mailSender.getBatches()).hasSize(1);
+        assertThat(mailSender.getDelivered())
+                .extracting(message -> message.getTo()[0])
+                .containsExactlyInAnyOrder("student0@looky.test", "student1@looky.test", "student2@looky.test",
+                        "student3@looky.test", "student4@looky.test");
+        assertThat(mailSender.getDelivered())
+                .extracting(SimpleMailMessage::getFrom)
+                .containsOnly("no-reply@looky.test");
+    }
+
+    @Test
+    @DisplayName("실패한 메일만 재시도하고 최대 시도 횟수를 넘기면 최종 실패로 기록한다")
+    void failedMailIsRetriedThenMarkedFailed() {
+        mailSender.failFor("bounce@looky.test");
+        transactionTemplate.executeWithoutResult(status -> {
+            mailDispatcher.enqueue("student@looky.test", "인증번호", "코드");
+            mailDispatcher.enqueue("bounce@looky.test", "인증번호", "코드");
+        });
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(findByRecipient("bounce@looky.test").getStatus()).isEqualTo(MailOutboxStatus.FAILED));
+
+        MailOutbox bounced = findByRecipient("bounce@looky.test");
+        assertThat(bounced.getAttempts()).isEqualTo(2);
+        assertThat(bounced.getLastError()).contains("550");
+
+        MailOutbox delivered = findByRecipient("student@looky.test");
+        assertThat(delivered.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(delivered.getAttempts()).isEqualTo(1);
+
+        // 첫 배치(2건) + 실패 건 재시도(1건), 성공한 메일은 다시 보내지 않음
+        assertThat(mailSender.getBatches()).extracting(List::size).containsExactly(2, 1);
+        assertThat(mailSender.getDelivered()).extracting(message -> message.getTo()[0])
+                .containsExactly("student@looky.test");
+    }
+
+    @Test
+    @DisplayName("선점 시간이 배치 최악 발송 시간보다 짧으면 늘려서 사용한다")
+    void leaseOutlivesWorstCaseBatch() {
+        // 배치 20건 x (연결 5초 + 응답 5초 + 쓰기 5초)
+        long worstBatchMillis = 20 * 15_000L;
+
+        assertThat(MailDispatcher.resolveLeaseMillis(60_000, 20, 15_000)).isGreaterThan(worstBatchMillis);
+        assertThat(MailDispatcher.resolveLeaseMillis(360_000, 20, 15_000)).isEqualTo(360_000);
+    }
+
+    private MailOutbox findByRecipient(String recipient) {
+        return mailOutboxRepository.findAll().stream()
+                .filter(mail -> mail.getRecipient().equals(recipient))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @TestConfiguration
+    static class MailConfig {
+
+        @Bean
+        InMemoryMailSender mailSender() {
+            return new InMemoryMailSender();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.looky.domain.coupon.service;
+
+import com.looky.common.config.TimeConfig;
+import com.looky.common.exception.CustomException;
+import com.looky.domain.coupon.entity.Coupon;
+import com.looky.domain.coupon.entity.CouponBenefitType;
+import com.looky.domain.coupon.entity.CouponStatus;
+import com.looky.domain.coupon.entity.StudentCoupon;
+import com.looky.domain.coupon.repository.CouponRepository;
+import com.looky.domain.coupon.repository.StudentCouponRepository;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import com.looky.support.ConcurrentRunner;
+import com.looky.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 발급 요청에서 총 수량/인당 한도를 넘겨 발급되지 않는지 검증 (메모리 선점 + 그룹 커밋 경로)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponStockManager.class, CouponIssueWriter.class, TimeConfig.class, CouponIssueConcurrencyTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CouponIssueConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private CouponStockManager couponStockManager;
+    @Autowired
+    private CouponIssueWriter couponIssueWriter;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private StudentCouponRepository studentCouponRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        studentCouponRepository.deleteAllInBatch();
+        couponRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시 발급 요청이 몰려도 총 수량과 인당 한도를 넘지 않는다")
+    void concurrentIssuanceNeverOversells() {
+        Coupon coupon = saveCoupon(50, 2);
+        List<User> users = userRepository.saveAll(TestFixtures.students(40));
+
+        // 유저마다 한도(2)보다 많은 4번씩 요청 -> 총 160건 요청, 50건만 발급되어야 함
+        List<Long> requesters = new ArrayList<>();
+        users.forEach(user -> {
+            for (int i = 0; i < 4; i++) {
+                requesters.add(user.getId());
+            }
+        });
+        int succeeded = issueConcurrently(coupon.getId(), requesters);
+
+        Coupon reloaded = couponRepository.findById(coupon.getId()).orElseThrow();
+        List<StudentCoupon> issued = studentCouponRepository.findAll();
+
+        assertThat(reloaded.getIssuedCount()).isLessThanOrEqualTo(reloaded.getTotalQuantity());
+        assertThat(reloaded.getIssuedCount()).isEqualTo(50).isEqualTo(issued.size()).isEqualTo(succeeded);
+        assertThat(countByUser(issued).values()).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("한 유저의 동시 요청은 인당 한도만큼만 발급된다")
+    void concurrentRequestsFromOneUserRespectLimit() {
+        Coupon coupon = saveCoupon(100, 3);
+        Long userId = userRepository.save(TestFixtures.student("student")).getId();
+
+        int succeeded = issueConcurrently(coupon.getId(), Collections.nCopies(50, userId));
+
+        List<StudentCoupon> issued = studentCouponRepository.findAll();
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(issued).hasSize(3);
+        assertThat(issued).extracting(StudentCoupon::getIssueSequence).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(3);
+    }
+
+    // CouponService.issueCoupon 과 같은 순서로 선점 후 반영, 성공 건수 반환
+    private int issueConcurrently(Long couponId, List<Long> userIds) {
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Throwable> failures = ConcurrentRunner.run(THREADS, userIds.stream().<Runnable>map(userId -> () -> {
+            CouponReservation reservation = couponStockManager.reserve(couponId, userId);
+            if (!couponIssueWriter.write(reservation).isPending()) {
+                succeeded.incrementAndGet();
+            }
+        }).toList());
+
+        // 소진/한도 초과 거절 외의 예외는 없어야 함
+        assertThat(failures).allSatisfy(failure -> assertThat(failure).isInstanceOf(CustomException.class));
+        return succeeded.get();
+    }
+
+    private Coupon saveCoupon(int totalQuantity, int limitPerUser) {
+        Store store = storeRepository.save(TestFixtures.store(null, "쿠폰 상점"));
+        return couponRepository.save(Coupon.builder()
+                .store(store)
+                .title("선착순 쿠폰")
+                .totalQuantity(totalQuantity)
+                .limitPerUser(limitPerUser)
+                .status(CouponStatus.ACTIVE)
+                .benefitType(CouponBenefitType.values()[0])
+                .benefitValue("1000")
+                .build());
+    }
+
+    private Map<Long, Long> countByUser(List<StudentCoupon> issued) {
+        return issued.stream()
+                .collect(Collectors.groupingBy(studentCoupon -> studentCoupon.getUser().getId(), Collectors.counting()));
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
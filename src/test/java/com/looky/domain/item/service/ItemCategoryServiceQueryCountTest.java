@@ -0,0 +1,125 @@
+package com.looky.domain.item.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.domain.item.entity.ItemCategory;
+import com.looky.domain.item.repository.ItemCategoryRepository;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.store.service.StoreCacheService;
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import com.looky.security.details.CurrentUserContext;
+import com.looky.security.details.PrincipalDetails;
+import com.looky.support.QueryCounter;
+import com.looky.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// 점주 소유 확인이 회원 재조회 없이 상점의 점주 FK 로만 처리되는지 검증 (findByUsername 재조회 회귀 방지)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ItemCategoryService.class, ItemCategoryServiceQueryCountTest.CurrentUserConfig.class})
+class ItemCategoryServiceQueryCountTest {
+
+    @Autowired
+    private ItemCategoryService itemCategoryService;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ItemCategoryRepository itemCategoryRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private Long storeId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(TestFixtures.owner("owner"));
+        Store store = em.persist(TestFixtures.store(owner, "상품 상점"));
+        storeId = store.getId();
+        categoryId = em.persist(ItemCategory.builder().store(store).name("음료").build()).getId();
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("점주 소유 확인은 상점/카테고리 조회 외의 쿼리를 실행하지 않는다")
+    void ownerCheckIssuesNoUserQuery() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+        authenticate(owner.getId(), Role.ROLE_OWNER);
+
+        long lookupQueries = queryCounter.count(() -> {
+            storeRepository.findById(storeId).orElseThrow();
+            itemCategoryRepository.findById(categoryId).orElseThrow();
+        });
+
+        em.clear();
+        long updateQueries = queryCounter.count(() -> itemCategoryService.updateItemCategory(storeId, categoryId, "디저트"));
+
+        assertThat(updateQueries).isEqualTo(lookupQueries);
+    }
+
+    @Test
+    @DisplayName("본인 소유가 아닌 상점은 상점 조회 한 번으로 거절된다")
+    void nonOwnerIsRejectedAfterStoreLookupOnly() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+        authenticate(owner.getId() + 1, Role.ROLE_OWNER);
+
+        long lookupQueries = queryCounter.count(() -> storeRepository.findById(storeId).orElseThrow());
+
+        em.clear();
+        long rejectedQueries = queryCounter.count(() ->
+                assertThatThrownBy(() -> itemCategoryService.deleteItemCategory(storeId, categoryId))
+                        .isInstanceOfSatisfying(CustomException.class,
+                                e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN)));
+
+        assertThat(rejectedQueries).isEqualTo(lookupQueries);
+    }
+
+    // JwtTokenProvider 와 같이 토큰 값(ID, 역할)만 담은 사용자로 인증
+    private void authenticate(Long userId, Role role) {
+        User tokenUser = User.builder().username("owner").password("").role(role).build();
+        tokenUser.setUserId(userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new PrincipalDetails(tokenUser), "token", null));
+    }
+
+    // 요청 스코프 없이 사용할 수 있도록 직접 생성
+    @TestConfiguration
+    static class CurrentUserConfig {
+
+        @Bean
+        CurrentUserContext currentUserContext(UserRepository userRepository) {
+            return new CurrentUserContext(userRepository, mock(StoreCacheService.class));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.looky.domain.review.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.service.S3Service;
+import com.looky.domain.review.entity.Review;
+import com.looky.domain.review.repository.ReviewLikeRepository;
+import com.looky.domain.review.repository.ReviewRepository;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import com.looky.support.ConcurrentRunner;
+import com.looky.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 수백 명의 동시 리뷰 좋아요/취소에서 좋아요 수 = 좋아요 행 수가 유지되는지 검증
+// H2 는 InnoDB 갭 잠금이 없어 DELETE/INSERT IGNORE 교착은 재현되지 않음 (교착 여부는 MySQL 에서 확인)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReviewService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewLikeConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int USERS = 300;
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private S3Service s3Service;
+    @MockitoBean
+    private StoreReviewSummaryService storeReviewSummaryService;
+
+    @AfterEach
+    void tearDown() {
+        reviewLikeRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좋아요 추가와 취소가 여러 유저에게서 동시에 몰려도 좋아요 수와 행 수가 일치한다")
+    void concurrentLikesAndUnlikesFromManyUsersKeepCountInSync() {
+        Long reviewId = saveReview();
+        List<User> users = userRepository.saveAll(TestFixtures.students(USERS));
+
+        // 절반은 미리 좋아요 -> 동시에 절반은 취소(DELETE), 절반은 추가(INSERT IGNORE)
+        List<User> likedBefore = users.subList(0, USERS / 2);
+        List<User> likedAfter = users.subList(USERS / 2, USERS);
+        likedBefore.forEach(user -> reviewService.addLike(user, reviewId));
+
+        List<Runnable> tasks = new ArrayList<>();
+        likedBefore.forEach(user -> tasks.add(() -> reviewService.removeLike(user, reviewId)));
+        likedAfter.forEach(user -> tasks.add(() -> reviewService.addLike(user, reviewId)));
+        List<Throwable> failures = ConcurrentRunner.run(THREADS, tasks);
+
+        assertThat(failures).isEmpty();
+        List<Long> likedUserIds = reviewLikeRepository.findAll().stream()
+                .map(like -> like.getUser().getId())
+                .toList();
+        assertThat(likedUserIds).containsExactlyInAnyOrderElementsOf(likedAfter.stream().map(User::getId).toList());
+        assertThat(reviewRepository.findById(reviewId).orElseThrow().getLikeCount()).isEqualTo(likedAfter.size());
+    }
+
+    @Test
+    @DisplayName("한 유저의 동시 좋아요/취소는 중복/미존재로 거절될 뿐 좋아요 수와 행 수가 어긋나지 않는다")
+    void concurrentLikesAndUnlikesFromOneUserKeepCountInSync() {
+        Long reviewId = saveReview();
+        User user = userRepository.save(TestFixtures.student("student"));
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            tasks.add(i % 2 == 0
+                    ? () -> reviewService.addLike(user, reviewId)
+                    : () -> reviewService.removeLike(user, reviewId));
+        }
+        List<Throwable> failures = ConcurrentRunner.run(THREADS, tasks);
+
+        assertThat(failures).allSatisfy(failure -> assertThat(failure).isInstanceOf(CustomException.class));
+        long likes = reviewLikeRepository.count();
+        assertThat(likes).isBetween(0L, 1L);
+        assertThat(reviewRepository.findById(reviewId).orElseThrow().getLikeCount()).isEqualTo((int) likes);
+    }
+
+    private Long saveReview() {
+        User owner = userRepository.save(TestFixtures.owner("owner"));
+        Store store = storeRepository.save(TestFixtures.store(owner, "리뷰 상점"));
+        User author = userRepository.save(TestFixtures.student("author"));
+        return reviewRepository.save(Review.builder()
+                .user(author)
+                .store(store)
+                .rating(5)
+                .content("맛있어요")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,78 @@
+package com.looky.domain.search.service;
+
+import com.looky.domain.item.repository.ItemRepository;
+import com.looky.domain.search.dto.SearchSource;
+import com.looky.domain.search.dto.SearchTargetType;
+import com.looky.domain.search.service.SearchSuggestIndex.Suggestion;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.storenews.repository.StoreNewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SearchSuggestIndexTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final StoreNewsRepository storeNewsRepository = mock(StoreNewsRepository.class);
+    private final SearchSuggestIndex index = new SearchSuggestIndex(
+            storeRepository, itemRepository, storeNewsRepository, mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        given(storeRepository.findAllSearchSources()).willReturn(List.of(
+                new SearchSource(1L, 1L, "스타벅스 강남점", "강남점", "강남점"),
+                new SearchSource(2L, 2L, "스타동 분식", null, null)));
+        given(itemRepository.findAllSearchSources()).willReturn(List.of(
+                new SearchSource(10L, 1L, "아메리카노", "스타벅스", "진한 커피")));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("변경된 상점과 소속 문서는 변경분만 반영되고 이전 제목으로는 검색되지 않는다")
+    void changedStoreIsReplacedIncrementally() {
+        given(storeRepository.findSearchSourcesByIds(List.of(1L))).willReturn(List.of(
+                new SearchSource(1L, 1L, "투썸플레이스 강남점", "강남점", "강남점")));
+        given(itemRepository.findSearchSourcesByStoreIds(List.of(1L))).willReturn(List.of(
+                new SearchSource(10L, 1L, "아메리카노", "투썸플레이스", "진한 커피")));
+
+        index.refreshStore(1L);
+        index.applyPendingChanges();
+
+        assertThat(index.suggest("스타", 10)).extracting(Suggestion::id).containsExactly(2L);
+        assertThat(index.suggest("투썸", 10)).extracting(Suggestion::id).containsExactly(1L);
+        assertThat(index.suggest("ㅌㅆ", 10)).extracting(Suggestion::id).containsExactly(1L);
+        assertThat(index.suggest("아메", 10))
+                .singleElement()
+                .satisfies(suggestion -> {
+                    assertThat(suggestion.type()).isEqualTo(SearchTargetType.ITEM);
+                    assertThat(suggestion.subText()).isEqualTo("투썸플레이스");
+                });
+        assertThat(index.getStatus().documentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제된 문서는 다음 반영 이후 검색되지 않고, 이후 변경도 누적 반영된다")
+    void removedDocumentsDisappearAndChangesAccumulate() {
+        index.refreshItem(10L); // 조회 결과 없음 -> 삭제
+        index.applyPendingChanges();
+        assertThat(index.suggest("아메", 10)).isEmpty();
+
+        given(storeRepository.findSearchSourcesByIds(List.of(2L))).willReturn(List.of(
+                new SearchSource(2L, 2L, "스타동 떡볶이", null, null)));
+        index.refreshStore(2L);
+        index.applyPendingChanges();
+
+        assertThat(index.suggest("아메", 10)).isEmpty();
+        assertThat(index.suggest("스타", 10))
+                .extracting(Suggestion::title)
+                .containsExactlyInAnyOrder("스타벅스 강남점", "스타동 떡볶이");
+    }
+}
@@ -0,0 +1,54 @@
+package com.looky.domain.store.service;
+
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreLocation;
+import com.looky.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StoreLocationIndexTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final StoreLocationIndex index = new StoreLocationIndex(storeRepository);
+
+    @Test
+    @DisplayName("재적재 중 커밋된 변경은 새 스냅샷에 다시 적용된다")
+    void patchesDuringRebuildAreReplayed() {
+        given(storeRepository.findAllActiveLocations()).willAnswer(invocation -> {
+            // 스냅샷 조회 이후 커밋된 변경 (조회 결과에는 반영되지 않음)
+            index.refresh(2L, 37.5001, 127.0001, false);
+            index.evict(1L);
+            return List.of(new StoreLocation(1L, 37.5, 127.0));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search(37.5, 127.0, 1.0, -1.0, 0L, 10))
+                .extracting(NearbyStoreDistance::getStoreId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("반경 내 상점을 거리, ID 순으로 커서 이후부터 조회한다")
+    void searchOrdersByDistanceThenIdAfterCursor() {
+        given(storeRepository.findAllActiveLocations()).willReturn(List.of(
+                new StoreLocation(1L, 37.5, 127.0),
+                new StoreLocation(2L, 37.501, 127.0),
+                new StoreLocation(3L, 37.5, 127.0),
+                new StoreLocation(4L, 37.6, 127.0)));
+        index.rebuild();
+
+        List<NearbyStoreDistance> firstPage = index.search(37.5, 127.0, 1.0, -1.0, 0L, 2);
+        assertThat(firstPage).extracting(NearbyStoreDistance::getStoreId).containsExactly(1L, 3L);
+
+        NearbyStoreDistance last = firstPage.get(1);
+        List<NearbyStoreDistance> nextPage = index.search(37.5, 127.0, 1.0, last.getDistance(), last.getStoreId(), 2);
+        assertThat(nextPage).extracting(NearbyStoreDistance::getStoreId).containsExactly(2L);
+    }
+}
@@ -0,0 +1,156 @@
+package com.looky.domain.store.service;
+
+import com.looky.common.service.S3Service;
+import com.looky.domain.review.service.StoreReviewSummaryService;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.domain.store.dto.NearbyStoreDistance;
+import com.looky.domain.store.dto.StoreResponse;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.entity.StoreCategory;
+import com.looky.domain.store.entity.StoreImage;
+import com.looky.domain.store.entity.StoreMood;
+import com.looky.security.details.CurrentUserContext;
+import com.looky.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+// 상점 목록 조회 쿼리 수가 페이지 크기와 무관하게 일정한지 검증 (평점/리뷰 수, 이미지/카테고리/분위기 N+1 회귀 방지)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StoreService.class, StoreReviewSummaryService.class})
+class StoreServiceQueryCountTest {
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private S3Service s3Service;
+    @MockitoBean
+    private StoreLocationIndex storeLocationIndex;
+    @MockitoBean
+    private StoreCacheService storeCacheService;
+    @MockitoBean
+    private StoreBenefitIndex storeBenefitIndex;
+    @MockitoBean
+    private HotStoreRanking hotStoreRanking;
+    @MockitoBean
+    private SearchSuggestIndex searchSuggestIndex;
+    @MockitoBean
+    private CurrentUserContext currentUserContext;
+
+    private final List<Long> savedStoreIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("상점 목록 조회 쿼리 수는 페이지 크기와 무관하다")
+    void storeListQueryCountIsConstant() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        saveStores(3);
+        long smallPageQueries = queryCounter.count(() -> {
+            List<StoreResponse> content = storeService.getStores(null, null, null, null, PageRequest.of(0, 3), null).getContent();
+            assertThat(content).hasSize(3).allSatisfy(this::assertFullyLoaded);
+        });
+
+        em.clear();
+        saveStores(7);
+        long largePageQueries = queryCounter.count(() -> {
+            List<StoreResponse> content = storeService.getStores(null, null, null, null, PageRequest.of(0, 10), null).getContent();
+            assertThat(content).hasSize(10).allSatisfy(this::assertFullyLoaded);
+        });
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("주변 상점 조회 쿼리 수는 결과 수와 무관하다")
+    void nearbyStoreQueryCountIsConstant() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+        given(storeLocationIndex.isReady()).willReturn(true);
+        given(storeLocationIndex.search(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyLong(), anyInt()))
+                .willAnswer(invocation -> savedStoreIds.stream()
+                        .<NearbyStoreDistance>map(storeId -> new Hit(storeId, 0.1))
+                        .toList());
+
+        saveStores(2);
+        long fewQueries = queryCounter.count(() ->
+                assertThat(storeService.getNearbyStores(37.5, 127.0, 5.0, 100, null, null, null)).hasSize(2));
+
+        em.clear();
+        saveStores(8);
+        long manyQueries = queryCounter.count(() ->
+                assertThat(storeService.getNearbyStores(37.5, 127.0, 5.0, 100, null, null, null)).hasSize(10));
+
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    private void saveStores(int count) {
+        for (int i = 0; i < count; i++) {
+            Store store = Store.builder()
+                    .name("상점" + System.nanoTime())
+                    .roadAddress("서울시 테스트로 " + i)
+                    .latitude(37.5)
+                    .longitude(127.0)
+                    .storeCategories(Set.of(StoreCategory.values()[0]))
+                    .storeMoods(Set.of(StoreMood.values()[0]))
+                    .build();
+            store.addImage(StoreImage.builder().store(store).imageUrl("https://image/" + i).orderIndex(0).build());
+            em.persist(store);
+            savedStoreIds.add(store.getId());
+
+            em.getEntityManager()
+                    .createNativeQuery("INSERT INTO store_review_summary " +
+                            "(store_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+                            "VALUES (?1, 1, 5, 0, 0, 0, 0, 1)")
+                    .setParameter(1, store.getId())
+                    .executeUpdate();
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private void assertFullyLoaded(StoreResponse response) {
+        assertThat(response.getImageUrls()).hasSize(1);
+        assertThat(response.getStoreCategories()).hasSize(1);
+        assertThat(response.getStoreMoods()).hasSize(1);
+        assertThat(response.getReviewCount()).isEqualTo(1);
+    }
+
+    private record Hit(Long storeId, Double distance) implements NearbyStoreDistance {
+
+        @Override
+        public Long getStoreId() {
+            return storeId;
+        }
+
+        @Override
+        public Double getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.looky.domain.storenews.service;
+
+import com.looky.common.exception.CustomException;
+import com.looky.common.exception.ErrorCode;
+import com.looky.common.service.S3Service;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.store.repository.StoreRepository;
+import com.looky.domain.storenews.entity.StoreNews;
+import com.looky.domain.storenews.repository.StoreNewsLikeRepository;
+import com.looky.domain.storenews.repository.StoreNewsRepository;
+import com.looky.domain.user.entity.User;
+import com.looky.domain.user.repository.UserRepository;
+import com.looky.support.ConcurrentRunner;
+import com.looky.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 수백 명의 동시 좋아요 토글에서 좋아요 수 = 좋아요 행 수가 유지되고, 소식 수정(변경 감지 UPDATE)이 좋아요 수를 덮어쓰지 않는지 검증
+// H2 는 행 잠금만 쓰고 InnoDB 의 갭 잠금이 없어 DELETE/INSERT IGNORE 교착은 재현되지 않음 (교착 여부는 MySQL 에서 확인, 여기서는 수 일관성과 예외 없음을 검증)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StoreNewsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoreNewsLikeConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int USERS = 300;
+
+    @Autowired
+    private StoreNewsService storeNewsService;
+    @Autowired
+    private StoreNewsRepository storeNewsRepository;
+    @Autowired
+    private StoreNewsLikeRepository storeNewsLikeRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private S3Service s3Service;
+    @MockitoBean
+    private SearchSuggestIndex searchSuggestIndex;
+
+    @AfterEach
+    void tearDown() {
+        storeNewsLikeRepository.deleteAllInBatch();
+        storeNewsRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 중 소식을 수정해도 좋아요 수가 이전 값으로 덮어써지지 않는다")
+    void concurrentLikesSurviveStaleEntityUpdate() {
+        Long newsId = saveNews();
+        List<User> users = userRepository.saveAll(TestFixtures.students(USERS));
+
+        // 좋아요 반영 전 값(0)을 들고 있는 엔티티를 좋아요가 모두 커밋된 뒤 수정
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            StoreNews stale = em.find(StoreNews.class, newsId);
+            assertThat(stale.getLikeCount()).isZero();
+
+            List<Throwable> failures = ConcurrentRunner.run(THREADS,
+                    users.stream().<Runnable>map(user -> () -> storeNewsService.toggleLike(newsId, user)).toList());
+            assertThat(failures).isEmpty();
+
+            stale.update("수정된 제목", "수정된 내용");
+        });
+
+        StoreNews reloaded = storeNewsRepository.findById(newsId).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("수정된 제목");
+        assertThat(reloaded.getLikeCount()).isEqualTo(USERS).isEqualTo((int) storeNewsLikeRepository.count());
+    }
+
+    @Test
+    @DisplayName("좋아요 추가와 취소가 여러 유저에게서 동시에 몰려도 좋아요 수와 행 수가 일치한다")
+    void concurrentLikesAndUnlikesFromManyUsersKeepCountInSync() {
+        Long newsId = saveNews();
+        List<User> users = userRepository.saveAll(TestFixtures.students(USERS));
+
+        // 절반은 미리 좋아요 -> 동시 토글에서 절반은 취소(DELETE), 절반은 추가(INSERT IGNORE)
+        List<User> likedBefore = users.subList(0, USERS / 2);
+        likedBefore.forEach(user -> storeNewsService.toggleLike(newsId, user));
+
+        List<Throwable> failures = ConcurrentRunner.run(THREADS,
+                users.stream().<Runnable>map(user -> () -> storeNewsService.toggleLike(newsId, user)).toList());
+
+        assertThat(failures).isEmpty();
+        List<Long> likedUserIds = storeNewsLikeRepository.findAll().stream()
+                .map(like -> like.getUser().getId())
+                .toList();
+        assertThat(likedUserIds).containsExactlyInAnyOrderElementsOf(
+                users.subList(USERS / 2, USERS).stream().map(User::getId).toList());
+        assertThat(storeNewsRepository.findById(newsId).orElseThrow().getLikeCount()).isEqualTo(USERS - USERS / 2);
+    }
+
+    @Test
+    @DisplayName("한 유저의 동시 토글에도 좋아요 수와 좋아요 행 수가 일치한다")
+    void concurrentTogglesFromOneUserKeepCountInSync() {
+        Long newsId = saveNews();
+        User user = userRepository.save(TestFixtures.student("student"));
+
+        ConcurrentRunner.run(THREADS, Collections.nCopies(USERS + 1, () -> storeNewsService.toggleLike(newsId, user)));
+
+        long likes = storeNewsLikeRepository.count();
+        assertThat(likes).isBetween(0L, 1L);
+        assertThat(storeNewsRepository.findById(newsId).orElseThrow().getLikeCount()).isEqualTo((int) likes);
+    }
+
+    @Test
+    @DisplayName("삭제된 소식에 좋아요를 누르면 중복이 아닌 404 로 응답한다")
+    void likingDeletedNewsIsNotFound() {
+        Long newsId = saveNews();
+        User user = userRepository.save(TestFixtures.student("student"));
+        storeNewsRepository.deleteAllInBatch();
+
+        assertThatThrownBy(() -> storeNewsService.toggleLike(newsId, user))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND));
+        assertThat(storeNewsLikeRepository.count()).isZero();
+    }
+
+    private Long saveNews() {
+        User owner = userRepository.save(TestFixtures.owner("owner"));
+        Store store = storeRepository.save(TestFixtures.store(owner, "소식 상점"));
+        return storeNewsRepository.save(StoreNews.builder()
+                .store(store)
+                .title("소식")
+                .content("내용")
+                .build()).getId();
+    }
+}
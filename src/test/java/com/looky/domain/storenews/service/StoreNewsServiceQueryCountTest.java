@@ -0,0 +1,106 @@
+package com.looky.domain.storenews.service;
+
+import com.looky.common.service.S3Service;
+import com.looky.domain.search.service.SearchSuggestIndex;
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.storenews.dto.StoreNewsResponse;
+import com.looky.domain.storenews.entity.StoreNews;
+import com.looky.domain.storenews.entity.StoreNewsImage;
+import com.looky.domain.storenews.entity.StoreNewsLike;
+import com.looky.domain.user.entity.User;
+import com.looky.support.QueryCounter;
+import com.looky.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 상점 소식 목록의 좋아요 여부/이미지 조회 쿼리 수가 페이지 크기와 무관한지 검증 (소식별 exists 쿼리 N+1 회귀 방지)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StoreNewsService.class)
+class StoreNewsServiceQueryCountTest {
+
+    @Autowired
+    private StoreNewsService storeNewsService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private S3Service s3Service;
+    @MockitoBean
+    private SearchSuggestIndex searchSuggestIndex;
+
+    private User viewer;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        viewer = em.persist(TestFixtures.student("viewer"));
+        User owner = em.persist(TestFixtures.owner("owner"));
+        store = em.persist(TestFixtures.store(owner, "소식 상점"));
+    }
+
+    @Test
+    @DisplayName("소식 목록 조회 쿼리 수는 페이지 크기와 무관하다")
+    void newsListQueryCountIsConstant() {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        saveNews(3);
+        long smallPageQueries = queryCounter.count(() -> {
+            List<StoreNewsResponse> content = storeNewsService
+                    .getStoreNewsList(store.getId(), PageRequest.of(0, 3), viewer).getContent();
+            assertThat(content).hasSize(3).allSatisfy(this::assertLikedWithImage);
+        });
+
+        em.clear();
+        saveNews(7);
+        long largePageQueries = queryCounter.count(() -> {
+            List<StoreNewsResponse> content = storeNewsService
+                    .getStoreNewsList(store.getId(), PageRequest.of(0, 10), viewer).getContent();
+            assertThat(content).hasSize(10).allSatisfy(this::assertLikedWithImage);
+        });
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    // 모든 소식에 이미지 1장, 조회 사용자의 좋아요 1건
+    private void saveNews(int count) {
+        Store managedStore = em.find(Store.class, store.getId());
+        User managedViewer = em.find(User.class, viewer.getId());
+        for (int i = 0; i < count; i++) {
+            StoreNews news = StoreNews.builder()
+                    .store(managedStore)
+                    .title("소식 " + i)
+                    .content("내용 " + i)
+                    .build();
+            news.addImage(StoreNewsImage.builder().imageUrl("https://image/" + i).build());
+            em.persist(news);
+            em.persist(StoreNewsLike.builder().storeNews(news).user(managedViewer).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private void assertLikedWithImage(StoreNewsResponse response) {
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getImageUrls()).hasSize(1);
+    }
+}
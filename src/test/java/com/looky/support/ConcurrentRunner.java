@@ -0,0 +1,52 @@
+package com.looky.support;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 작업을 한꺼번에 출발시켜 경합을 만드는 동시성 테스트 도구
+public final class ConcurrentRunner {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ConcurrentRunner() {
+    }
+
+    // threads 개 스레드에서 tasks 를 동시에 시작하고 모두 끝날 때까지 대기, 작업이 던진 예외 목록 반환
+    public static List<Throwable> run(int threads, List<? extends Runnable> tasks) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (Runnable task : tasks) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        try {
+            assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("동시 작업 완료").isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return List.copyOf(failures);
+    }
+}
@@ -0,0 +1,98 @@
+package com.looky.support;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// SMTP 서버 대신 메모리에 발송 내역을 남기는 JavaMailSender
+// JavaMailSenderImpl 처럼 배치 호출 한 번을 연결 하나로 보고, 실패한 메시지만 MailSendException 으로 알려줌
+public class InMemoryMailSender implements JavaMailSender {
+
+    private final List<List<SimpleMailMessage>> batches = new CopyOnWriteArrayList<>();
+    private final List<SimpleMailMessage> delivered = new CopyOnWriteArrayList<>();
+    private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+
+    // 해당 수신자에게 보내는 메시지는 항상 실패
+    public void failFor(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    public void reset() {
+        batches.clear();
+        delivered.clear();
+        failingRecipients.clear();
+    }
+
+    public List<List<SimpleMailMessage>> getBatches() {
+        return batches;
+    }
+
+    public List<SimpleMailMessage> getDelivered() {
+        return delivered;
+    }
+
+    @Override
+    public void send(SimpleMailMessage simpleMessage) throws MailException {
+        send(new SimpleMailMessage[]{simpleMessage});
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) throws MailException {
+        batches.add(List.of(simpleMessages));
+
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        for (SimpleMailMessage message : simpleMessages) {
+            if (Arrays.stream(message.getTo()).anyMatch(failingRecipients::contains)) {
+                failures.put(message, new MailSendException("550 mailbox unavailable"));
+            } else {
+                delivered.add(message);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new MailSendException(failures);
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage((Session) null);
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) throws MailException {
+        throw new UnsupportedOperationException("MIME 메시지는 지원하지 않습니다.");
+    }
+
+    @Override
+    public void send(MimeMessage mimeMessage) throws MailException {
+        throw new UnsupportedOperationException("MIME 메시지는 지원하지 않습니다.");
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) throws MailException {
+        throw new UnsupportedOperationException("MIME 메시지는 지원하지 않습니다.");
+    }
+
+    @Override
+    public void send(MimeMessagePreparator mimeMessagePreparator) throws MailException {
+        throw new UnsupportedOperationException("MIME 메시지는 지원하지 않습니다.");
+    }
+
+    @Override
+    public void send(MimeMessagePreparator... mimeMessagePreparators) throws MailException {
+        throw new UnsupportedOperationException("MIME 메시지는 지원하지 않습니다.");
+    }
+}
@@ -0,0 +1,22 @@
+package com.looky.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// Hibernate Statistics 기반 실행 쿼리 수 측정 (application-test.yml 의 generate_statistics 필요)
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // action 실행 중 준비된 JDBC 문장 수
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,109 @@
+package com.looky.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// DataSource 를 감싸 실행된 SQL 과 바인딩 값을 기록 (리포지토리 메서드가 실제로 만든 SQL 의 실행 계획 확인용)
+// @Import 로 등록하면 컨텍스트의 DataSource 빈을 감쌈, record 실행 중에만 기록
+public class SqlRecorder implements BeanPostProcessor {
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(dataSource, ClassUtils.getAllInterfaces(dataSource), (method, args, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+        return bean;
+    }
+
+    // action 실행 중 실행된 문장 목록
+    public List<RecordedStatement> record(Runnable action) {
+        statements.clear();
+        recording = true;
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(statements);
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) proxy(connection, new Class<?>[]{Connection.class}, (method, args, result) ->
+                method.getName().equals("prepareStatement") ? wrap((PreparedStatement) result, (String) args[0]) : result);
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        return (PreparedStatement) proxy(statement, new Class<?>[]{PreparedStatement.class}, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (recording && name.startsWith("execute")) {
+                statements.add(new RecordedStatement(sql, List.copyOf(bindings.values())));
+            }
+            return result;
+        });
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, ResultHandler handler) {
+        return Proxy.newProxyInstance(SqlRecorder.class.getClassLoader(), interfaces, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return handler.handle(method, args, result);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    // PreparedStatement.setXxx 호출 하나
+    public record Binding(Method method, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                method.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    public record RecordedStatement(String sql, List<Binding> bindings) {
+
+        // 기록된 값 그대로 다른 문장(EXPLAIN 등)에 바인딩
+        public void bindTo(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                binding.applyTo(statement);
+            }
+        }
+    }
+}
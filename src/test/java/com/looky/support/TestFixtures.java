@@ -0,0 +1,43 @@
+package com.looky.support;
+
+import com.looky.domain.store.entity.Store;
+import com.looky.domain.user.entity.Role;
+import com.looky.domain.user.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트 공통 엔티티 (저장하지 않은 상태로 반환, 호출 측에서 리포지토리/TestEntityManager 로 저장)
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User student(String username) {
+        return User.builder().username(username).password("password").role(Role.ROLE_STUDENT).build();
+    }
+
+    public static User owner(String username) {
+        return User.builder().username(username).password("password").role(Role.ROLE_OWNER).build();
+    }
+
+    // student0 ~ student{count - 1}
+    public static List<User> students(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(student("student" + i));
+        }
+        return users;
+    }
+
+    // owner 가 null 이면 점주 없는(미점유) 상점
+    public static Store store(User owner, String name) {
+        return Store.builder()
+                .user(owner)
+                .name(name)
+                .roadAddress("서울시 테스트로 1")
+                .latitude(37.5)
+                .longitude(127.0)
+                .build();
+    }
+}